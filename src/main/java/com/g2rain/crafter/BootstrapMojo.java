@@ -1,7 +1,19 @@
 package com.g2rain.crafter;
 
 
+import com.g2rain.crafter.advisor.IndexAdvice;
+import com.g2rain.crafter.advisor.IndexAdviceReport;
+import com.g2rain.crafter.advisor.IndexAdvisor;
+import com.g2rain.crafter.advisor.JdbcIndexInspector;
+import com.g2rain.crafter.advisor.JdbcPartitionInspector;
+import com.g2rain.crafter.advisor.PartitionAdvice;
+import com.g2rain.crafter.advisor.PartitionAdvisor;
+import com.g2rain.crafter.advisor.PartitionReport;
+import com.g2rain.crafter.advisor.TableIndexes;
+import com.g2rain.crafter.advisor.TablePartitioning;
+import com.g2rain.crafter.config.RuntimeProfile;
 import com.g2rain.crafter.config.SkeletonConfig;
+import com.g2rain.crafter.config.SkeletonFeature;
 import com.g2rain.crafter.generator.SkeletonGenerator;
 import com.g2rain.crafter.utils.Constants;
 import com.g2rain.generator.config.FoundryConfig;
@@ -17,9 +29,20 @@ import org.apache.maven.project.MavenProject;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -45,6 +68,8 @@ import java.util.stream.Stream;
  *     -Darchetype.artifactId=g2rain-demo \
  *     -Darchetype.version=1.0.0 \
  *     -Darchetype.package=com.g2rain.demo \
+ *     -Dskeleton.runtimeProfile=low-latency \
+ *     -Dskeleton.features=benchmark \
  *     -Ddatabase.url=jdbc:mysql://localhost:3306/test \
  *     -Ddatabase.driver=com.mysql.cj.jdbc.Driver \
  *     -Ddatabase.username=root \
@@ -109,6 +134,18 @@ public class BootstrapMojo extends AbstractMojo {
     @Parameter(property = "archetype.description")
     protected String description;
 
+    /**
+     * JVM / 容器运行时画像（可选）：low-latency、throughput、small-footprint
+     */
+    @Parameter(property = "skeleton.runtimeProfile")
+    private String runtimeProfile;
+
+    /**
+     * 启用的骨架可选特性（可选，逗号分隔），取值见 {@link SkeletonFeature}
+     */
+    @Parameter(property = "skeleton.features")
+    private String features;
+
     /**
      * 数据库连接 URL
      */
@@ -169,6 +206,12 @@ public class BootstrapMojo extends AbstractMojo {
     @Parameter(property = "data.isolation.excludeTables")
     private String excludeTables;
 
+    /**
+     * 查询 DTO 中的常用过滤列，逗号分隔，索引分析时检查这些列上是否有可用索引。
+     */
+    @Parameter(property = "data.index.filterColumns")
+    private String filterColumns;
+
     /**
      * 控制台输入扫描器，用于交互式参数输入
      */
@@ -235,6 +278,8 @@ public class BootstrapMojo extends AbstractMojo {
                 getLog().info(String.format(Constants.LOG_FORMAT, "Version", version));
                 getLog().info(String.format(Constants.LOG_FORMAT, "Base Package", basePackage));
                 getLog().info(String.format(Constants.LOG_FORMAT, "Description", Objects.toString(this.description, "")));
+                getLog().info(String.format(Constants.LOG_FORMAT, "Runtime Profile", Objects.toString(this.runtimeProfile, "")));
+                getLog().info(String.format(Constants.LOG_FORMAT, "Features", Objects.toString(this.features, "")));
                 getLog().info(Constants.HORIZONTAL_LINE);
                 getLog().info("");
             }
@@ -253,6 +298,7 @@ public class BootstrapMojo extends AbstractMojo {
                 getLog().info(String.format(Constants.LOG_FORMAT, "Isolation Codegen", resolveWithIsolation()));
                 getLog().info(String.format(Constants.LOG_FORMAT, "Tenant Columns", resolveTenantColumns()));
                 getLog().info(String.format(Constants.LOG_FORMAT, "Exclude Tables", resolveExcludeTables()));
+                getLog().info(String.format(Constants.LOG_FORMAT, "Index Filters", resolveFilterColumns()));
                 getLog().info(Constants.HORIZONTAL_LINE);
                 getLog().info("");
             }
@@ -260,13 +306,17 @@ public class BootstrapMojo extends AbstractMojo {
             // 执行骨架生成
             if (generateSkeleton) {
                 getLog().info(">>> Starting skeleton generation...");
-                new SkeletonGenerator(getLog(), new SkeletonConfig(
+                SkeletonConfig config = new SkeletonConfig(
                         groupId,
                         projectName,
                         Objects.toString(version, Constants.PROJECT_VERSION),
                         basePackage,
                         Objects.toString(description, "")
-                )).generate();
+                );
+
+                config.setRuntimeProfile(resolveRuntimeProfile());
+                config.setFeatures(resolveFeatures());
+                new SkeletonGenerator(getLog(), config).generate();
                 getLog().info(">>> Skeleton generation completed.");
             }
 
@@ -290,6 +340,9 @@ public class BootstrapMojo extends AbstractMojo {
                 config.setExcludeTables(resolveExcludeTables());
                 new FoundryGenerator(getLog(), config).generate();
                 getLog().info(">>> Foundry generation completed.");
+
+                Path projectDir = generateSkeleton ? Paths.get(projectName) : project.getBasedir().toPath();
+                analyzeTables(projectDir.resolve(Constants.REPORT_DIR));
             }
 
             getLog().info(Constants.HORIZONTAL_LINE);
@@ -317,7 +370,7 @@ public class BootstrapMojo extends AbstractMojo {
      *     <li>交互式：引导用户输入缺失参数</li>
      * </ol>
      *
-     * @throws MojoExecutionException 当非交互式环境下必填参数缺失时抛出
+     * @throws MojoExecutionException 当非交互式环境下必填参数缺失或可选参数取值非法时抛出
      */
     private void prepareSkeletonConfig() throws MojoExecutionException {
         if (Objects.isNull(System.console())) {
@@ -327,6 +380,10 @@ public class BootstrapMojo extends AbstractMojo {
             // 交互式获取参数
             promptForSkeletonParameters();
         }
+
+        // 可选参数无论来源均需校验取值
+        resolveRuntimeProfile();
+        resolveFeatures();
     }
 
     /**
@@ -401,6 +458,7 @@ public class BootstrapMojo extends AbstractMojo {
      *     <li>{@code database.password} → {@code password}</li>
      *     <li>{@code database.tables} → {@code tables}</li>
      *     <li>{@code database.overwrite} → {@code overwrite}</li>
+     *     <li>{@code data.index.filterColumns} → {@code filterColumns}</li>
      * </ul>
      *
      * @return {@code true} 如果配置文件存在且成功加载，{@code false} 如果未配置配置文件路径，
@@ -463,6 +521,10 @@ public class BootstrapMojo extends AbstractMojo {
                 this.excludeTables = props.getProperty("data.isolation.excludeTables");
             }
 
+            if (Strings.isBlank(this.filterColumns)) {
+                this.filterColumns = props.getProperty("data.index.filterColumns");
+            }
+
             return true;
         }
     }
@@ -538,6 +600,17 @@ public class BootstrapMojo extends AbstractMojo {
                 this.description,
                 ""
         );
+        this.runtimeProfile = getOptionalInput(
+                "Runtime Profile [optional, low-latency/throughput/small-footprint]: ",
+                this.runtimeProfile,
+                null
+        );
+        this.features = getOptionalInput(
+                "Features [optional, comma separated: " + Arrays.stream(SkeletonFeature.values())
+                        .map(SkeletonFeature::getId).collect(Collectors.joining(",")) + "]: ",
+                this.features,
+                null
+        );
     }
 
     /**
@@ -702,4 +775,163 @@ public class BootstrapMojo extends AbstractMojo {
     String resolveExcludeTables() {
         return Strings.isBlank(excludeTables) ? "" : excludeTables.trim();
     }
+
+    String resolveFilterColumns() {
+        return Strings.isBlank(filterColumns) ? "" : filterColumns.trim();
+    }
+
+    /**
+     * 对待生成的表执行索引分析与分区裁剪分析，报告写入 {@code reportDir}。
+     * <p>
+     * 两项分析共用一个连接与一次元数据读取；分析结果只是建议，连接数据库或读取元数据失败时仅输出警告，
+     * 不影响代码生成结果。
+     *
+     * @param reportDir 报告输出目录
+     */
+    private void analyzeTables(Path reportDir) {
+        List<String> names = resolveTables();
+        if (names.isEmpty()) {
+            return;
+        }
+        IndexAdvisor advisor = newIndexAdvisor();
+
+        try {
+            Class.forName(driver);
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                JdbcIndexInspector inspector = new JdbcIndexInspector(connection);
+                List<TableIndexes> inspected = new ArrayList<>();
+                for (String table : names) {
+                    inspected.add(inspector.inspect(table));
+                }
+
+                adviseIndexes(reportDir, advisor, inspected);
+                reportPartitions(reportDir, advisor, new JdbcPartitionInspector(connection), inspected);
+            }
+        } catch (ClassNotFoundException | SQLException e) {
+            getLog().warn(">>> Index and partition analysis skipped: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 索引分析，报告与 DDL 写入 {@code reportDir}。
+     *
+     * @param reportDir 报告输出目录
+     * @param advisor   索引分析器
+     * @param inspected 已读取的表结构
+     */
+    private void adviseIndexes(Path reportDir, IndexAdvisor advisor, List<TableIndexes> inspected) {
+        List<IndexAdvice> advices = new ArrayList<>();
+        for (TableIndexes tableIndexes : inspected) {
+            advices.addAll(advisor.advise(tableIndexes));
+        }
+
+        try {
+            new IndexAdviceReport(inspected, advices).writeTo(reportDir);
+        } catch (IOException e) {
+            getLog().warn(">>> Index advice skipped: " + e.getMessage());
+            return;
+        }
+        if (advices.isEmpty()) {
+            getLog().info(">>> Index advice: no missing indexes, report written to " + reportDir);
+        } else {
+            getLog().warn(">>> Index advice: " + advices.size() + " finding(s), see "
+                    + reportDir.resolve(IndexAdviceReport.REPORT_FILE));
+        }
+    }
+
+    /**
+     * 分区裁剪分析，报告写入 {@code reportDir}。
+     * <p>
+     * 读取分区方式与分区键，标出生成的查询中不带分区键条件、会访问全部分区的语句；
+     * 与索引分析一样只是建议，失败时仅输出警告。
+     *
+     * @param reportDir    报告输出目录
+     * @param indexAdvisor 索引分析器，用于识别租户列
+     * @param inspector    分区元数据读取器
+     * @param inspected    已读取的表结构
+     */
+    private void reportPartitions(Path reportDir, IndexAdvisor indexAdvisor, JdbcPartitionInspector inspector,
+                                  List<TableIndexes> inspected) {
+        PartitionAdvisor advisor = new PartitionAdvisor(splitList(resolveFilterColumns()));
+
+        try {
+            List<TablePartitioning> partitioned = new ArrayList<>();
+            List<PartitionAdvice> advices = new ArrayList<>();
+            for (TableIndexes tableIndexes : inspected) {
+                Optional<TablePartitioning> partitioning = inspector.inspect(tableIndexes);
+                if (partitioning.isPresent()) {
+                    partitioned.add(partitioning.get());
+                    advices.addAll(advisor.advise(tableIndexes, partitioning.get(),
+                            indexAdvisor.tenantColumnOf(tableIndexes).orElse(null)));
+                }
+            }
+
+            if (partitioned.isEmpty()) {
+                return;
+            }
+            new PartitionReport(partitioned, advices).writeTo(reportDir);
+            if (advices.isEmpty()) {
+                getLog().info(">>> Partition pruning: all generated queries prune, report written to " + reportDir);
+            } else {
+                getLog().warn(">>> Partition pruning: " + advices.size() + " statement(s) may scan all partitions, see "
+                        + reportDir.resolve(PartitionReport.REPORT_FILE));
+            }
+        } catch (SQLException | IOException e) {
+            getLog().warn(">>> Partition pruning analysis skipped: " + e.getMessage());
+        }
+    }
+
+    private IndexAdvisor newIndexAdvisor() {
+        return new IndexAdvisor(
+                resolveWithIsolation(),
+                splitList(resolveTenantColumns()),
+                splitList(resolveExcludeTables()),
+                splitList(resolveFilterColumns())
+        );
+    }
+
+    static List<String> splitList(String value) {
+        if (Strings.isBlank(value)) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).filter(Strings::isNotBlank).toList();
+    }
+
+    /**
+     * 解析索引与分区分析的表名。表名按原样读取元数据（{@code _} 与 {@code %} 已转义），不支持通配符；
+     * 未配置表名或包含通配符时输出警告并跳过分析，不影响代码生成。
+     *
+     * @return 表名，需跳过分析时为空
+     */
+    List<String> resolveTables() {
+        List<String> names = splitList(tables);
+        if (names.isEmpty()) {
+            getLog().warn(">>> Index and partition analysis skipped: database.tables is not configured");
+            return List.of();
+        }
+        for (String name : names) {
+            if (name.contains("%") || name.contains("*")) {
+                getLog().warn(">>> Index and partition analysis skipped: wildcards are not supported in database.tables, "
+                        + "list the tables explicitly: " + name);
+                return List.of();
+            }
+        }
+        return names;
+    }
+
+    RuntimeProfile resolveRuntimeProfile() throws MojoExecutionException {
+        try {
+            return RuntimeProfile.of(runtimeProfile);
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException(e.getMessage(), e);
+        }
+    }
+
+    Set<SkeletonFeature> resolveFeatures() throws MojoExecutionException {
+        try {
+            return SkeletonFeature.parse(features);
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException(e.getMessage(), e);
+        }
+    }
 }
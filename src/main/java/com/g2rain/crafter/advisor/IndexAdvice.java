@@ -0,0 +1,31 @@
+package com.g2rain.crafter.advisor;
+
+
+/**
+ * 一条索引建议。
+ *
+ * @param table  表名
+ * @param kind   问题类型
+ * @param reason 问题说明
+ * @param ddl    可直接执行的建索引语句
+ * @author alpha
+ * @since 2026/10/18
+ */
+public record IndexAdvice(String table, Kind kind, String reason, String ddl) {
+
+    /**
+     * 问题类型
+     */
+    public enum Kind {
+
+        /**
+         * 没有任何索引包含过滤列，查询将全表扫描
+         */
+        MISSING,
+
+        /**
+         * 复合索引包含过滤列但不在最左位置，无法用于该过滤条件
+         */
+        POORLY_ORDERED
+    }
+}
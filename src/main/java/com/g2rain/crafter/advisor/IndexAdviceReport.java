@@ -0,0 +1,93 @@
+package com.g2rain.crafter.advisor;
+
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.g2rain.crafter.advisor.MarkdownTables.cell;
+
+/**
+ * 索引分析报告：Markdown 报告与可直接执行的 DDL 脚本。
+ *
+ * @author alpha
+ * @since 2026/10/18
+ */
+public class IndexAdviceReport {
+
+    /**
+     * 报告文件名
+     */
+    public static final String REPORT_FILE = "index-advice.md";
+
+    /**
+     * DDL 文件名
+     */
+    public static final String DDL_FILE = "index-advice.sql";
+
+    private final List<TableIndexes> tables;
+
+    private final List<IndexAdvice> advices;
+
+    /**
+     * 构造函数
+     *
+     * @param tables  已分析的表
+     * @param advices 索引建议
+     */
+    public IndexAdviceReport(List<TableIndexes> tables, List<IndexAdvice> advices) {
+        this.tables = tables;
+        this.advices = advices;
+    }
+
+    /**
+     * 写出报告与 DDL 到指定目录，目录不存在时自动创建。
+     *
+     * @param directory 输出目录，如 {@code target/crafter-reports}
+     * @throws IOException 写文件失败时抛出
+     */
+    public void writeTo(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve(REPORT_FILE), markdown());
+        Files.writeString(directory.resolve(DDL_FILE), ddl());
+    }
+
+    /**
+     * 生成 Markdown 报告。
+     *
+     * @return 报告内容
+     */
+    public String markdown() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# Index advice\n\n");
+        sb.append("Analysed ").append(tables.size()).append(" table(s), ").append(advices.size()).append(" finding(s).\n\n");
+        if (advices.isEmpty()) {
+            return sb.toString();
+        }
+
+        sb.append("| Table | Kind | Reason | DDL |\n");
+        sb.append("| --- | --- | --- | --- |\n");
+        for (IndexAdvice advice : advices) {
+            sb.append("| ").append(cell(advice.table()))
+                    .append(" | ").append(advice.kind())
+                    .append(" | ").append(cell(advice.reason()))
+                    .append(" | `` ").append(cell(advice.ddl())).append(" `` |\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 生成 DDL 脚本。
+     *
+     * @return DDL 内容，每条建议一行
+     */
+    public String ddl() {
+        StringBuilder sb = new StringBuilder("-- Generated by g2rain-crafter index advisor, review before applying\n");
+        for (IndexAdvice advice : advices) {
+            sb.append("-- ").append(advice.kind()).append(": ").append(advice.reason()).append('\n');
+            sb.append(advice.ddl()).append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,158 @@
+package com.g2rain.crafter.advisor;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 索引分析器：对照生成代码将要产生的查询条件检查表上已有的索引。
+ *
+ * <p>检查两类条件：</p>
+ * <ul>
+ *     <li><b>租户条件</b> —— 开启数据隔离时，租户表的每条生成查询都带有租户列等值条件，
+ *     需要一个以租户列开头的索引；</li>
+ *     <li><b>查询 DTO 过滤列</b> —— 对 {@code data.index.filterColumns} 中声明的常用过滤列，
+ *     租户表需要 {@code (租户列, 过滤列)} 开头的复合索引，非租户表需要以过滤列开头的索引。</li>
+ * </ul>
+ *
+ * <p>已有索引只是顺序不对（租户列不在最左）时给出 {@link IndexAdvice.Kind#POORLY_ORDERED}，
+ * 并建议以租户列开头、其余列保持原顺序的新索引；完全没有可用索引时给出 {@link IndexAdvice.Kind#MISSING}。
+ * 已建议的 {@code (租户列, 过滤列)} 复合索引同时满足租户条件，此时不再单独建议租户列索引。</p>
+ *
+ * <p><b>示例：</b></p>
+ * <pre>{@code
+ * IndexAdvisor advisor = new IndexAdvisor(true, List.of("organ_id"), Set.of(), List.of("status"));
+ * List<IndexAdvice> advices = advisor.advise(tableIndexes);
+ * // CREATE INDEX idx_user_organ_id_status ON `user` (`organ_id`, `status`);
+ * }</pre>
+ *
+ * @author alpha
+ * @since 2026/10/18
+ */
+public class IndexAdvisor {
+
+    /**
+     * MySQL 标识符最大长度
+     */
+    private static final int MAX_INDEX_NAME_LENGTH = 64;
+
+    private final boolean withIsolation;
+
+    private final List<String> tenantColumns;
+
+    private final Set<String> excludeTables;
+
+    private final List<String> filterColumns;
+
+    /**
+     * 构造函数
+     *
+     * @param withIsolation 是否生成数据隔离代码，关闭时不检查租户条件
+     * @param tenantColumns 租户列
+     * @param excludeTables 不视为租户表的表
+     * @param filterColumns 查询 DTO 中的常用过滤列
+     */
+    public IndexAdvisor(boolean withIsolation, Collection<String> tenantColumns, Collection<String> excludeTables,
+                        Collection<String> filterColumns) {
+        this.withIsolation = withIsolation;
+        this.tenantColumns = lowerCase(tenantColumns);
+        this.excludeTables = new LinkedHashSet<>(lowerCase(excludeTables));
+        this.filterColumns = lowerCase(filterColumns);
+    }
+
+    /**
+     * 分析单张表。
+     *
+     * @param table 表结构摘要
+     * @return 索引建议，没有问题时返回空列表
+     */
+    public List<IndexAdvice> advise(TableIndexes table) {
+        List<IndexAdvice> advices = new ArrayList<>();
+        String tenantColumn = tenantColumnOf(table).orElse(null);
+
+        boolean tenantCovered = Objects.isNull(tenantColumn) || hasIndexLeadingWith(table, List.of(tenantColumn));
+        for (String filterColumn : filterColumns) {
+            if (!table.columns().contains(filterColumn) || filterColumn.equals(tenantColumn)) {
+                continue;
+            }
+
+            List<String> prefix = Objects.isNull(tenantColumn) ? List.of(filterColumn) : List.of(tenantColumn, filterColumn);
+            if (hasIndexLeadingWith(table, prefix)) {
+                continue;
+            }
+
+            advices.add(new IndexAdvice(table.table(), IndexAdvice.Kind.MISSING,
+                    "No index leads with (" + String.join(", ", prefix) + ") for the generated query filter on " + filterColumn,
+                    createIndex(table.table(), prefix)));
+            tenantCovered = true;
+        }
+
+        if (!tenantCovered) {
+            advices.addFirst(tenantAdvice(table, tenantColumn));
+        }
+        return advices;
+    }
+
+    /**
+     * 表中参与数据隔离的租户列。
+     *
+     * @param table 表结构摘要
+     * @return 租户列；未开启隔离、表被排除或不含租户列时为空
+     */
+    public Optional<String> tenantColumnOf(TableIndexes table) {
+        if (!withIsolation || excludeTables.contains(table.table().toLowerCase(Locale.ROOT))) {
+            return Optional.empty();
+        }
+        return tenantColumns.stream().filter(table.columns()::contains).findFirst();
+    }
+
+    private IndexAdvice tenantAdvice(TableIndexes table, String tenantColumn) {
+        Optional<IndexDefinition> misordered = table.indexes().stream()
+                .filter(index -> index.columns().contains(tenantColumn))
+                .findFirst();
+        if (misordered.isEmpty()) {
+            return new IndexAdvice(table.table(), IndexAdvice.Kind.MISSING,
+                    "No index contains tenant column " + tenantColumn + ", every isolated query scans the whole table",
+                    createIndex(table.table(), List.of(tenantColumn)));
+        }
+
+        List<String> reordered = new ArrayList<>();
+        reordered.add(tenantColumn);
+        misordered.get().columns().stream().filter(column -> !column.equals(tenantColumn)).forEach(reordered::add);
+        return new IndexAdvice(table.table(), IndexAdvice.Kind.POORLY_ORDERED,
+                "Index " + misordered.get().name() + " (" + String.join(", ", misordered.get().columns())
+                        + ") does not lead with tenant column " + tenantColumn,
+                createIndex(table.table(), reordered));
+    }
+
+    private static boolean hasIndexLeadingWith(TableIndexes table, List<String> prefix) {
+        return table.indexes().stream().anyMatch(index -> index.leadsWith(prefix));
+    }
+
+    private static String createIndex(String table, List<String> columns) {
+        String name = "idx_" + table + "_" + String.join("_", columns);
+        if (name.length() > MAX_INDEX_NAME_LENGTH) {
+            // 截断后追加完整名称的哈希，避免同一张表上前缀相同的两条建议得到同名索引
+            String hash = String.format("_%08x", name.hashCode());
+            name = name.substring(0, MAX_INDEX_NAME_LENGTH - hash.length()) + hash;
+        }
+        return "CREATE INDEX " + name + " ON `" + table + "` ("
+                + columns.stream().map(column -> "`" + column + "`").collect(Collectors.joining(", ")) + ");";
+    }
+
+    private static List<String> lowerCase(Collection<String> values) {
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(value -> value.trim().toLowerCase(Locale.ROOT))
+                .filter(value -> !value.isEmpty())
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,26 @@
+package com.g2rain.crafter.advisor;
+
+
+import java.util.List;
+
+/**
+ * 表上已有的索引。
+ *
+ * @param name    索引名，主键为 {@code PRIMARY}
+ * @param unique  是否唯一索引
+ * @param columns 按索引顺序排列的列名（小写）
+ * @author alpha
+ * @since 2026/10/18
+ */
+public record IndexDefinition(String name, boolean unique, List<String> columns) {
+
+    /**
+     * 判断索引是否以给定列序列开头，即可以用于这些列上的等值过滤。
+     *
+     * @param prefix 列序列（小写）
+     * @return 索引最左前缀与列序列一致时返回 {@code true}
+     */
+    public boolean leadsWith(List<String> prefix) {
+        return columns.size() >= prefix.size() && columns.subList(0, prefix.size()).equals(prefix);
+    }
+}
@@ -0,0 +1,98 @@
+package com.g2rain.crafter.advisor;
+
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 通过 JDBC {@link DatabaseMetaData} 读取表的列与索引。
+ *
+ * @author alpha
+ * @since 2026/10/18
+ */
+public class JdbcIndexInspector {
+
+    private final Connection connection;
+
+    /**
+     * 构造函数
+     *
+     * @param connection 数据库连接，由调用方负责关闭
+     */
+    public JdbcIndexInspector(Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * 读取单张表的列与索引（含主键）。
+     * <p>
+     * {@link DatabaseMetaData#getColumns} 的表名参数是 LIKE 模式，表名中的 {@code _} 与 {@code %} 按驱动的转义符转义，
+     * 避免 {@code user_role} 同时匹配 {@code userXrole} 等表而混入其他表的列。
+     *
+     * @param table 表名
+     * @return 表结构摘要
+     * @throws SQLException 读取元数据失败时抛出
+     */
+    public TableIndexes inspect(String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        String catalog = connection.getCatalog();
+        String schema = connection.getSchema();
+
+        List<String> columns = new ArrayList<>();
+        try (ResultSet rs = metaData.getColumns(catalog, schema, escapePattern(table, metaData.getSearchStringEscape()), null)) {
+            while (rs.next()) {
+                columns.add(rs.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+            }
+        }
+
+        // 索引名 -> (列序号 -> 列名)
+        Map<String, TreeMap<Short, String>> indexColumns = new LinkedHashMap<>();
+        Map<String, Boolean> uniques = new LinkedHashMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(catalog, schema, table, false, true)) {
+            while (rs.next()) {
+                String column = rs.getString("COLUMN_NAME");
+                if (rs.getShort("TYPE") == DatabaseMetaData.tableIndexStatistic || column == null) {
+                    continue;
+                }
+                String name = rs.getString("INDEX_NAME");
+                indexColumns.computeIfAbsent(name, k -> new TreeMap<>())
+                        .put(rs.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+                uniques.put(name, !rs.getBoolean("NON_UNIQUE"));
+            }
+        }
+
+        List<IndexDefinition> indexes = new ArrayList<>();
+        indexColumns.forEach((name, ordered) ->
+                indexes.add(new IndexDefinition(name, uniques.get(name), List.copyOf(ordered.values()))));
+        return new TableIndexes(table, List.copyOf(columns), List.copyOf(indexes));
+    }
+
+    /**
+     * 转义 LIKE 模式中的通配符。
+     *
+     * @param name   名称
+     * @param escape 驱动的转义符，为空时原样返回
+     * @return 按字面匹配的模式
+     */
+    static String escapePattern(String name, String escape) {
+        if (escape == null || escape.isEmpty()) {
+            return name;
+        }
+        StringBuilder sb = new StringBuilder(name.length() + 4);
+        for (char c : name.toCharArray()) {
+            if (c == '_' || c == '%' || escape.indexOf(c) >= 0) {
+                sb.append(escape);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
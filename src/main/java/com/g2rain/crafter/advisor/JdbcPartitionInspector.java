@@ -0,0 +1,98 @@
+package com.g2rain.crafter.advisor;
+
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 通过 {@code information_schema.PARTITIONS} 读取表的分区方式与分区键。
+ *
+ * @author alpha
+ * @since 2026/10/18
+ */
+public class JdbcPartitionInspector {
+
+    private static final String PARTITIONS_SQL = "SELECT PARTITION_NAME, PARTITION_METHOD, PARTITION_EXPRESSION "
+            + "FROM information_schema.PARTITIONS WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL "
+            + "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private static final Pattern QUOTED_IDENTIFIER = Pattern.compile("`([^`]+)`");
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_$]*");
+
+    private final Connection connection;
+
+    /**
+     * 构造函数
+     *
+     * @param connection 数据库连接，由调用方负责关闭
+     */
+    public JdbcPartitionInspector(Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * 读取单张表的分区定义，子分区不单独列出。
+     *
+     * @param table 表结构摘要，用于从分区表达式中识别列名
+     * @return 分区定义，未分区时为空
+     * @throws SQLException 查询元数据失败时抛出
+     */
+    public Optional<TablePartitioning> inspect(TableIndexes table) throws SQLException {
+        String method = null;
+        String expression = null;
+        Set<String> partitions = new LinkedHashSet<>();
+        try (PreparedStatement statement = connection.prepareStatement(PARTITIONS_SQL)) {
+            statement.setString(1, connection.getCatalog());
+            statement.setString(2, table.table());
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    method = rs.getString("PARTITION_METHOD");
+                    expression = rs.getString("PARTITION_EXPRESSION");
+                    partitions.add(rs.getString("PARTITION_NAME"));
+                }
+            }
+        }
+
+        if (partitions.isEmpty() || method == null) {
+            return Optional.empty();
+        }
+        String raw = expression == null ? "" : expression;
+        return Optional.of(new TablePartitioning(table.table(), method, raw, columnsOf(raw, table.columns()),
+                List.copyOf(partitions)));
+    }
+
+    /**
+     * 从分区表达式中识别引用的列：优先取反引号包围的标识符，否则取与表列名一致的单词。
+     *
+     * @param expression 分区表达式，如 {@code to_days(`create_time`)}、{@code `region`,`create_time`}
+     * @param columns    表的列名（小写）
+     * @return 分区键（小写），按出现顺序排列
+     */
+    static List<String> columnsOf(String expression, List<String> columns) {
+        Set<String> keys = new LinkedHashSet<>();
+        Matcher quoted = QUOTED_IDENTIFIER.matcher(expression);
+        while (quoted.find()) {
+            keys.add(quoted.group(1).toLowerCase(Locale.ROOT));
+        }
+        if (keys.isEmpty()) {
+            Matcher word = IDENTIFIER.matcher(expression);
+            while (word.find()) {
+                keys.add(word.group().toLowerCase(Locale.ROOT));
+            }
+        }
+        List<String> result = new ArrayList<>(keys);
+        result.retainAll(columns);
+        return List.copyOf(result);
+    }
+}
@@ -0,0 +1,28 @@
+package com.g2rain.crafter.advisor;
+
+
+/**
+ * 分析报告共用的 Markdown 表格工具。
+ *
+ * @author alpha
+ * @since 2026/10/18
+ */
+final class MarkdownTables {
+
+    /**
+     * 私有构造函数，防止实例化。
+     */
+    private MarkdownTables() {
+        // 禁止实例化
+    }
+
+    /**
+     * 转义表格单元格：{@code |} 会截断单元格（代码片段中也是如此），换行会结束表格行。
+     *
+     * @param value 单元格内容
+     * @return 转义后的内容
+     */
+    static String cell(String value) {
+        return value.replace("|", "\\|").replaceAll("\\s*\\R\\s*", " ");
+    }
+}
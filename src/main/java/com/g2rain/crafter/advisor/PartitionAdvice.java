@@ -0,0 +1,32 @@
+package com.g2rain.crafter.advisor;
+
+
+/**
+ * 一条分区裁剪问题：某条生成的语句无法（或不一定能）只访问部分分区。
+ *
+ * @param table      表名
+ * @param statement  生成的 Mapper 方法，如 {@code selectList}
+ * @param kind       问题类型
+ * @param reason     问题说明
+ * @param suggestion 修改建议，如需要在查询 DTO 与 Mapper SQL 中补充的分区键条件
+ * @author alpha
+ * @since 2026/10/18
+ */
+public record PartitionAdvice(String table, String statement, Kind kind, String reason, String suggestion) {
+
+    /**
+     * 问题类型
+     */
+    public enum Kind {
+
+        /**
+         * 语句条件中不包含分区键，每次执行都访问全部分区
+         */
+        CANNOT_PRUNE,
+
+        /**
+         * 分区键只是可选过滤条件，调用方未传入时访问全部分区
+         */
+        PRUNES_WHEN_FILTERED
+    }
+}
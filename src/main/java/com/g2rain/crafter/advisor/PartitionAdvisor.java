@@ -0,0 +1,153 @@
+package com.g2rain.crafter.advisor;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 分区裁剪分析器：对分区表逐条检查生成的查询是否带有分区键条件，即 MySQL 能否只访问部分分区。
+ *
+ * <p>生成代码中的查询条件按以下方式推断：</p>
+ * <ul>
+ *     <li>{@code selectById / updateById / deleteById} —— 主键 {@code id} 等值，租户表另有租户列等值；</li>
+ *     <li>{@code selectList} —— 租户表必带租户列等值，{@code data.index.filterColumns} 中的列为可选过滤条件。</li>
+ * </ul>
+ *
+ * <p>分区键不在必带条件中时给出 {@link PartitionAdvice.Kind#CANNOT_PRUNE}；只出现在可选过滤条件中时给出
+ * {@link PartitionAdvice.Kind#PRUNES_WHEN_FILTERED}。建议内容给出应在查询 DTO 与 Mapper SQL 中补充的分区键条件：
+ * RANGE / LIST 分区建议必填的范围条件（多列 RANGE COLUMNS 为前导列等值加最后一列范围），
+ * HASH / KEY 分区只能按等值条件裁剪，建议必填的等值条件。</p>
+ *
+ * <p><b>示例：</b></p>
+ * <pre>{@code
+ * PartitionAdvisor advisor = new PartitionAdvisor(List.of("status"));
+ * List<PartitionAdvice> advices = advisor.advise(tableIndexes, partitioning, "organ_id");
+ * // selectList CANNOT_PRUNE: AND `create_time` >= #{createTimeStart} AND `create_time` < #{createTimeEnd}
+ * }</pre>
+ *
+ * @author alpha
+ * @since 2026/10/18
+ */
+public class PartitionAdvisor {
+
+    /**
+     * 生成的按主键操作的 Mapper 方法
+     */
+    static final List<String> BY_ID_STATEMENTS = List.of("selectById", "updateById", "deleteById");
+
+    /**
+     * 生成的列表查询 Mapper 方法
+     */
+    static final String LIST_STATEMENT = "selectList";
+
+    private static final String ID_COLUMN = "id";
+
+    private final List<String> filterColumns;
+
+    /**
+     * 构造函数
+     *
+     * @param filterColumns 查询 DTO 中的常用过滤列
+     */
+    public PartitionAdvisor(Collection<String> filterColumns) {
+        this.filterColumns = filterColumns.stream()
+                .filter(Objects::nonNull)
+                .map(value -> value.trim().toLowerCase(Locale.ROOT))
+                .filter(value -> !value.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 分析单张分区表。
+     *
+     * @param table        表结构摘要
+     * @param partitioning 分区定义
+     * @param tenantColumn 参与数据隔离的租户列，非租户表为 {@code null}
+     * @return 无法裁剪的语句，分区键无法识别或全部语句都能裁剪时返回空列表
+     */
+    public List<PartitionAdvice> advise(TableIndexes table, TablePartitioning partitioning, String tenantColumn) {
+        List<String> keys = partitioning.columns();
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> required = new HashSet<>();
+        if (Objects.nonNull(tenantColumn)) {
+            required.add(tenantColumn);
+        }
+        List<PartitionAdvice> advices = new ArrayList<>();
+
+        Set<String> byId = new HashSet<>(required);
+        byId.add(ID_COLUMN);
+        if (!byId.containsAll(keys)) {
+            // 主键与租户列已在条件中，只补充其余分区键
+            List<String> missing = keys.stream().filter(key -> !byId.contains(key)).toList();
+            for (String statement : BY_ID_STATEMENTS) {
+                advices.add(new PartitionAdvice(table.table(), statement, PartitionAdvice.Kind.CANNOT_PRUNE,
+                        "Filters on " + describe(byId) + " only, every call probes all "
+                                + partitioning.partitions().size() + " partitions",
+                        "Also pass the partition key: WHERE `id` = #{id} AND " + equality(missing)));
+            }
+        }
+
+        if (required.containsAll(keys)) {
+            return advices;
+        }
+        Set<String> optional = new HashSet<>(required);
+        filterColumns.stream().filter(table.columns()::contains).forEach(optional::add);
+        PartitionAdvice.Kind kind = optional.containsAll(keys)
+                ? PartitionAdvice.Kind.PRUNES_WHEN_FILTERED : PartitionAdvice.Kind.CANNOT_PRUNE;
+        String reason = kind == PartitionAdvice.Kind.CANNOT_PRUNE
+                ? "No condition on partition key " + String.join(", ", keys) + ", scans all "
+                + partitioning.partitions().size() + " partitions"
+                : "Partition key " + String.join(", ", keys) + " is an optional filter, queries without it scan all "
+                + partitioning.partitions().size() + " partitions";
+        advices.add(new PartitionAdvice(table.table(), LIST_STATEMENT, kind, reason,
+                "Make the partition key required in the query DTO: AND " + (partitioning.equalityOnly()
+                        ? equality(keys) : range(keys, required))));
+        return advices;
+    }
+
+    private static String equality(List<String> keys) {
+        return keys.stream()
+                .map(key -> "`" + key + "` = #{" + toProperty(key) + "}")
+                .collect(Collectors.joining(" AND "));
+    }
+
+    private static String range(List<String> keys, Set<String> required) {
+        // RANGE COLUMNS 多列分区按列元组比较：只限定第一列时，第一列取值少（如地区）就几乎不能裁剪；
+        // 前导列等值、最后一列取范围才能把访问限定在连续的少数分区内。已是必带条件的前导列不再重复
+        List<String> leading = keys.subList(0, keys.size() - 1).stream()
+                .filter(key -> !required.contains(key))
+                .toList();
+        String key = keys.getLast();
+        String property = toProperty(key);
+        String range = "`" + key + "` >= #{" + property + "Start} AND `" + key + "` < #{" + property + "End}";
+        return leading.isEmpty() ? range : equality(leading) + " AND " + range;
+    }
+
+    private static String describe(Set<String> columns) {
+        return columns.stream().sorted().collect(Collectors.joining(", "));
+    }
+
+    private static String toProperty(String column) {
+        StringBuilder sb = new StringBuilder(column.length());
+        boolean upper = false;
+        for (char c : column.toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                sb.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package com.g2rain.crafter.advisor;
+
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.g2rain.crafter.advisor.MarkdownTables.cell;
+
+/**
+ * 分区裁剪报告：列出分区表的分区方式与分区键，以及无法裁剪的生成语句。
+ *
+ * @author alpha
+ * @since 2026/10/18
+ */
+public class PartitionReport {
+
+    /**
+     * 报告文件名
+     */
+    public static final String REPORT_FILE = "partition-report.md";
+
+    private final List<TablePartitioning> tables;
+
+    private final List<PartitionAdvice> advices;
+
+    /**
+     * 构造函数
+     *
+     * @param tables  分区表
+     * @param advices 无法裁剪的语句
+     */
+    public PartitionReport(List<TablePartitioning> tables, List<PartitionAdvice> advices) {
+        this.tables = tables;
+        this.advices = advices;
+    }
+
+    /**
+     * 写出报告到指定目录，目录不存在时自动创建。
+     *
+     * @param directory 输出目录，如 {@code target/crafter-reports}
+     * @throws IOException 写文件失败时抛出
+     */
+    public void writeTo(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve(REPORT_FILE), markdown());
+    }
+
+    /**
+     * 生成 Markdown 报告。
+     *
+     * @return 报告内容
+     */
+    public String markdown() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# Partition pruning\n\n");
+        sb.append("Found ").append(tables.size()).append(" partitioned table(s), ").append(advices.size())
+                .append(" generated statement(s) that may not prune.\n\n");
+        if (tables.isEmpty()) {
+            return sb.toString();
+        }
+
+        sb.append("| Table | Method | Partition key | Partitions |\n");
+        sb.append("| --- | --- | --- | --- |\n");
+        for (TablePartitioning table : tables) {
+            sb.append("| ").append(cell(table.table()))
+                    .append(" | ").append(table.method())
+                    .append(" | `` ").append(cell(table.expression())).append(" ``")
+                    .append(" | ").append(table.partitions().size()).append(" |\n");
+        }
+        if (advices.isEmpty()) {
+            return sb.toString();
+        }
+
+        sb.append("\n| Table | Statement | Kind | Reason | Suggestion |\n");
+        sb.append("| --- | --- | --- | --- | --- |\n");
+        for (PartitionAdvice advice : advices) {
+            sb.append("| ").append(cell(advice.table()))
+                    .append(" | ").append(advice.statement())
+                    .append(" | ").append(advice.kind())
+                    .append(" | ").append(cell(advice.reason()))
+                    .append(" | `` ").append(cell(advice.suggestion())).append(" `` |\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,16 @@
+package com.g2rain.crafter.advisor;
+
+
+import java.util.List;
+
+/**
+ * 从数据库元数据中读取的表结构摘要，供索引分析使用。
+ *
+ * @param table   表名
+ * @param columns 列名（小写）
+ * @param indexes 已有索引，包括主键
+ * @author alpha
+ * @since 2026/10/18
+ */
+public record TableIndexes(String table, List<String> columns, List<IndexDefinition> indexes) {
+}
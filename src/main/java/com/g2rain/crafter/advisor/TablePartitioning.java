@@ -0,0 +1,30 @@
+package com.g2rain.crafter.advisor;
+
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 从 {@code information_schema.PARTITIONS} 读取的表分区定义。
+ *
+ * @param table      表名
+ * @param method     分区方式，如 {@code RANGE}、{@code RANGE COLUMNS}、{@code HASH}
+ * @param expression 分区表达式原文，如 {@code to_days(`create_time`)}
+ * @param columns    分区表达式引用的列（小写），即分区键
+ * @param partitions 分区名，按定义顺序排列
+ * @author alpha
+ * @since 2026/10/18
+ */
+public record TablePartitioning(String table, String method, String expression, List<String> columns,
+                                List<String> partitions) {
+
+    /**
+     * 判断分区方式是否只能按等值条件裁剪：HASH / KEY 分区无法利用范围条件。
+     *
+     * @return HASH / KEY（含 LINEAR）分区时返回 {@code true}
+     */
+    public boolean equalityOnly() {
+        String upper = method.toUpperCase(Locale.ROOT);
+        return upper.contains("HASH") || upper.contains("KEY");
+    }
+}
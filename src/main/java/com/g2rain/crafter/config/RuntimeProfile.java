@@ -0,0 +1,190 @@
+package com.g2rain.crafter.config;
+
+
+import com.g2rain.generator.utils.Strings;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 生成项目的 JVM / 容器运行时画像，通过 {@code -Dskeleton.runtimeProfile} 选择。
+ *
+ * <p>每个画像同时决定三部分生成内容：</p>
+ * <ul>
+ *     <li>startup 模块 Jib 容器的 {@code jvmFlags}（垃圾收集器、堆占容器内存比例、对象头压缩等）；</li>
+ *     <li>application.yml 中 Tomcat 的连接与 keep-alive 配置；</li>
+ *     <li>application.yml 中 Hikari 连接池大小与取连接超时。</li>
+ * </ul>
+ *
+ * <p>请求由虚拟线程执行（见 VirtualThreadConfigurer），因此 Tomcat 不再有固定大小的工作线程池，
+ * 并发上限由 {@code max-connections} 决定，画像中的"线程"配置即体现为连接上限与等待队列长度。
+ * 连接池远小于请求并发上限：超出连接池的虚拟线程在 Hikari 中排队，排队时间由取连接超时约束。</p>
+ *
+ * <p>未指定画像时不生成任何 JVM 参数与 Tomcat 配置，完全沿用 JVM 与 Spring Boot 默认值；连接池使用模板中的通用默认值。</p>
+ *
+ * @author alpha
+ * @since 2026/10/18
+ */
+@Getter
+public enum RuntimeProfile {
+
+    /**
+     * 低延迟：分代 ZGC，亚毫秒级停顿，代价是约 10%~15% 的额外 CPU 与更大的堆余量需求。
+     * <p>等待队列较短，过载时快速失败而不是让请求在队列中累积延迟；长 keep-alive 减少握手开销；
+     * 取连接超时短，连接池耗尽时尽快失败。</p>
+     */
+    LOW_LATENCY(
+            "low-latency",
+            "分代 ZGC，停顿 < 1ms；以额外 CPU 与堆余量换取稳定的 p99/p999",
+            List.of(
+                    "-XX:+UseZGC",
+                    "-XX:MaxRAMPercentage=70.0",
+                    "-XX:+AlwaysPreTouch",
+                    "-XX:+UseCompactObjectHeaders",
+                    "-XX:+ExitOnOutOfMemoryError"
+            ),
+            4096, 100, "5s", "30s", -1, 32, "2s"
+    ),
+
+    /**
+     * 高吞吐：Parallel GC，单位 CPU 吞吐最高，代价是 Full/Young GC 停顿随堆大小增长（百毫秒级）。
+     * <p>适合批处理、导入导出等对尾延迟不敏感的服务；连接、队列与连接池放宽以容纳突发流量。</p>
+     */
+    THROUGHPUT(
+            "throughput",
+            "Parallel GC，吞吐优先；GC 停顿可达百毫秒级，不适合对尾延迟敏感的接口",
+            List.of(
+                    "-XX:+UseParallelGC",
+                    "-XX:MaxRAMPercentage=75.0",
+                    "-XX:+UseCompactObjectHeaders",
+                    "-XX:+ExitOnOutOfMemoryError"
+            ),
+            8192, 1000, "20s", "60s", 10000, 64, "10s"
+    ),
+
+    /**
+     * 小内存：Serial GC 与受限的代码缓存，最小化常驻内存，适合 1 核 / 512MB 以内的容器。
+     * <p>代价是 GC 单线程执行、停顿随堆增长；堆只占容器内存 60%，为元空间与代码缓存留出余量；
+     * 连接池较小，每个 MySQL 连接在客户端与服务端都占用内存。</p>
+     */
+    SMALL_FOOTPRINT(
+            "small-footprint",
+            "Serial GC + 受限代码缓存，常驻内存最小；单线程 GC，适合小规格容器",
+            List.of(
+                    "-XX:+UseSerialGC",
+                    "-XX:MaxRAMPercentage=60.0",
+                    "-XX:ReservedCodeCacheSize=64m",
+                    "-Xss512k",
+                    "-XX:+UseCompactObjectHeaders",
+                    "-XX:+ExitOnOutOfMemoryError"
+            ),
+            1024, 100, "10s", "15s", 100, 8, "5s"
+    );
+
+    /**
+     * 画像标识，即 {@code -Dskeleton.runtimeProfile} 的取值
+     */
+    private final String id;
+
+    /**
+     * 画像说明，描述目标延迟与内存取舍，会渲染到生成文件的注释中
+     */
+    private final String summary;
+
+    /**
+     * Jib 容器启动时使用的 JVM 参数
+     */
+    private final List<String> jvmFlags;
+
+    /**
+     * Tomcat 最大连接数，虚拟线程模型下即请求并发上限
+     */
+    private final int maxConnections;
+
+    /**
+     * 连接数达到上限后操作系统层面的等待队列长度
+     */
+    private final int acceptCount;
+
+    /**
+     * 建立连接后等待请求行的超时时间
+     */
+    private final String connectionTimeout;
+
+    /**
+     * keep-alive 连接空闲超时时间
+     */
+    private final String keepAliveTimeout;
+
+    /**
+     * 单个 keep-alive 连接最多处理的请求数，-1 表示不限制
+     */
+    private final int maxKeepAliveRequests;
+
+    /**
+     * Hikari 最大连接数，远小于请求并发上限，避免压垮 MySQL
+     */
+    private final int poolSize;
+
+    /**
+     * 从 Hikari 取连接的超时时间，即请求在连接池中排队的最长时间
+     */
+    private final String poolTimeout;
+
+    RuntimeProfile(String id, String summary, List<String> jvmFlags, int maxConnections, int acceptCount,
+                   String connectionTimeout, String keepAliveTimeout, int maxKeepAliveRequests, int poolSize,
+                   String poolTimeout) {
+        this.id = id;
+        this.summary = summary;
+        this.jvmFlags = jvmFlags;
+        this.maxConnections = maxConnections;
+        this.acceptCount = acceptCount;
+        this.connectionTimeout = connectionTimeout;
+        this.keepAliveTimeout = keepAliveTimeout;
+        this.maxKeepAliveRequests = maxKeepAliveRequests;
+        this.poolSize = poolSize;
+        this.poolTimeout = poolTimeout;
+    }
+
+    /**
+     * 根据标识解析运行时画像。
+     *
+     * @param id 画像标识，如 {@code low-latency}，可为空
+     * @return 对应画像；标识为空时返回 {@code null}，表示沿用 JVM 默认值
+     * @throws IllegalArgumentException 标识无法识别时抛出
+     */
+    public static RuntimeProfile of(String id) {
+        if (Strings.isBlank(id)) {
+            return null;
+        }
+
+        return Arrays.stream(values())
+                .filter(profile -> profile.id.equalsIgnoreCase(id.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown runtime profile: " + id + ", expected one of "
+                        + Arrays.stream(values()).map(RuntimeProfile::getId).collect(Collectors.joining("|"))));
+    }
+
+    /**
+     * 转换为模板数据模型。
+     *
+     * @return 包含 id、summary、jvmFlags、Tomcat 及连接池配置项的 Map
+     */
+    public Map<String, Object> toData() {
+        return Map.ofEntries(
+                Map.entry("id", id),
+                Map.entry("summary", summary),
+                Map.entry("jvmFlags", jvmFlags),
+                Map.entry("maxConnections", maxConnections),
+                Map.entry("acceptCount", acceptCount),
+                Map.entry("connectionTimeout", connectionTimeout),
+                Map.entry("keepAliveTimeout", keepAliveTimeout),
+                Map.entry("maxKeepAliveRequests", maxKeepAliveRequests),
+                Map.entry("poolSize", poolSize),
+                Map.entry("poolTimeout", poolTimeout)
+        );
+    }
+}
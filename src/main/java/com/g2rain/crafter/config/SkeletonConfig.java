@@ -5,7 +5,12 @@ import com.g2rain.generator.config.GeneratorConfig;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 项目骨架配置类，用于保存 Maven 项目骨架生成器（Skeleton Generator）所需的参数。
@@ -30,6 +35,8 @@ import java.util.Map;
  * // "version" -> "1.0.0"
  * // "description" -> "示例项目"
  * // "package" -> "com.g2rain.demo"
+ * // "runtime" -> {} （未选择运行时画像）
+ * // "features" -> {"benchmark": false, ...}
  * }</pre>
  *
  * @author alpha
@@ -54,6 +61,16 @@ public class SkeletonConfig extends GeneratorConfig {
      */
     private String description;
 
+    /**
+     * JVM / 容器运行时画像，为空时沿用 JVM 与 Spring Boot 默认值
+     */
+    private RuntimeProfile runtimeProfile;
+
+    /**
+     * 启用的骨架可选特性
+     */
+    private Set<SkeletonFeature> features = EnumSet.noneOf(SkeletonFeature.class);
+
     /**
      * 构造函数，初始化骨架生成所需的所有基本信息。
      *
@@ -82,6 +99,8 @@ public class SkeletonConfig extends GeneratorConfig {
      *     <li>"version" - 项目版本</li>
      *     <li>"description" - 项目描述</li>
      *     <li>"package" - 基础包名</li>
+     *     <li>"runtime" - 运行时画像数据，见 {@link RuntimeProfile#toData()}，未选择画像时为空 Map</li>
+     *     <li>"features" - 每个 {@link SkeletonFeature} 标识到是否启用的 Map</li>
      * </ul>
      *
      * @return 包含骨架配置数据的 Map
@@ -92,7 +111,21 @@ public class SkeletonConfig extends GeneratorConfig {
                 "projectName", this.getProjectName(),
                 "version", this.getVersion(),
                 "description", this.getDescription(),
-                "package", this.getBasePackage()
+                "package", this.getBasePackage(),
+                "runtime", Objects.isNull(this.runtimeProfile) ? Map.of() : this.runtimeProfile.toData(),
+                "features", Arrays.stream(SkeletonFeature.values()).collect(Collectors.toMap(
+                        SkeletonFeature::getId, this::isEnabled
+                ))
         );
     }
+
+    /**
+     * 判断骨架可选特性是否启用。
+     *
+     * @param feature 骨架可选特性
+     * @return 启用时返回 {@code true}
+     */
+    public boolean isEnabled(SkeletonFeature feature) {
+        return this.features.contains(feature);
+    }
 }
@@ -0,0 +1,180 @@
+package com.g2rain.crafter.config;
+
+
+import com.g2rain.generator.utils.Strings;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 骨架可选特性，通过 {@code -Dskeleton.features} 以逗号分隔的方式启用。
+ *
+ * <p>每个特性声明自己独占的模板路径（相对于模板根目录 {@code /archetype}），
+ * 特性未启用时这些路径下的文件和目录不会生成；与其他模板共享的内容则在模板内部通过
+ * {@code <#if features.xxx>} 判断。</p>
+ *
+ * <p><b>示例：</b></p>
+ * <pre>{@code
+ * Set<SkeletonFeature> features = SkeletonFeature.parse("benchmark");
+ * // features -> [BENCHMARK]
+ * }</pre>
+ *
+ * @author alpha
+ * @since 2026/10/18
+ */
+@Getter
+public enum SkeletonFeature {
+
+    /**
+     * JMH 基准测试模块 {@code ${projectName}-benchmark}，仅在 {@code -Pbench} 下参与构建
+     */
+    BENCHMARK("benchmark", "JMH 基准测试模块", List.of(
+            "g2rain-example/g2rain-example-benchmark"
+    )),
+
+    /**
+     * HTTP 压测模块 {@code ${projectName}-loadtest}，仅在 {@code -Ploadtest} 下参与构建，SLO 不达标时构建失败
+     */
+    LOAD_TEST("loadTest", "HTTP 压测模块", List.of(
+            "g2rain-example/g2rain-example-loadtest"
+    )),
+
+    /**
+     * 读写分离：主库 + N 个从库连接池的路由数据源，事务外查询与只读事务走从库，复制延迟超限时回退主库
+     */
+    READ_WRITE_SPLITTING("readWriteSplitting", "读写分离数据源", List.of(
+            "g2rain-example/g2rain-example-biz/src/main/java/support/routing",
+            "g2rain-example/g2rain-example-biz/src/main/java/config/ReadWriteSplittingConfig.java.ftl"
+    )),
+
+    /**
+     * JSON 访问器：注册 Jackson Blackbird 模块，以生成的访问器替代反射读写 VO / DTO 字段
+     */
+    JSON_BLACKBIRD("jsonBlackbird", "Jackson Blackbird 访问器", List.of(
+            "g2rain-example/g2rain-example-biz/src/main/java/config/JsonCodecConfig.java.ftl",
+            "g2rain-example/g2rain-example-benchmark/src/main/java/benchmark/JsonCodecBenchmark.java.ftl"
+    )),
+
+    /**
+     * 快速启动：构建期 Spring AOT 预处理替代启动时的类路径扫描，{@code lazy} profile 下延迟初始化非关键 Bean，就绪前预热关键路径
+     */
+    FAST_STARTUP("fastStartup", "AOT 预处理与延迟初始化", List.of(
+            "g2rain-example/g2rain-example-startup/src/main/java/config/FastStartupConfig.java.ftl",
+            "g2rain-example/g2rain-example-startup/src/main/java/config/WarmUpRunner.java.ftl",
+            "g2rain-example/g2rain-example-startup/src/main/resources/application-lazy.yml"
+    )),
+
+    /**
+     * 结构化并发：基于 {@code StructuredTaskScope} 与虚拟线程的 fork / join 并发查询，需以 {@code --enable-preview} 编译运行
+     */
+    STRUCTURED_CONCURRENCY("structuredConcurrency", "结构化并发查询", List.of(
+            "g2rain-example/g2rain-example-biz/src/main/java/support/concurrent",
+            "g2rain-example/g2rain-example-biz/src/main/java/config/FanOutConfig.java.ftl"
+    )),
+
+    /**
+     * 分布式追踪：Micrometer Tracing + OpenTelemetry，Service 方法与 Mapper 语句 span，默认以日志导出
+     */
+    TRACING("tracing", "分布式追踪", List.of(
+            "g2rain-example/g2rain-example-biz/src/main/java/support/tracing",
+            "g2rain-example/g2rain-example-biz/src/main/java/config/TracingConfig.java.ftl",
+            "g2rain-example/g2rain-example-benchmark/src/main/java/benchmark/TracingOverheadBenchmark.java.ftl"
+    )),
+
+    /**
+     * 限流：按租户与接口的 Redis 令牌桶，以及实例内的租户并发隔舱
+     */
+    RATE_LIMIT("rateLimit", "租户限流与并发隔舱", List.of(
+            "g2rain-example/g2rain-example-biz/src/main/java/support/limit",
+            "g2rain-example/g2rain-example-biz/src/main/java/config/RateLimitConfig.java.ftl"
+    )),
+
+    /**
+     * 本地主键：无锁、时间有序的 64 位 Snowflake 主键生成器，insert 前填充为空的主键
+     */
+    ID_GENERATOR("idGenerator", "Snowflake 本地主键", List.of(
+            "g2rain-example/g2rain-example-biz/src/main/java/support/id",
+            "g2rain-example/g2rain-example-biz/src/test/java/support/id",
+            "g2rain-example/g2rain-example-biz/src/main/java/config/IdGeneratorConfig.java.ftl",
+            "g2rain-example/g2rain-example-benchmark/src/main/java/benchmark/IdGeneratorBenchmark.java.ftl"
+    )),
+
+    /**
+     * 按租户分库：默认库 + N 个分片连接池的路由数据源，按路由表将租户映射到分片，支持跨分片并发查询与归并，与读写分离互斥
+     */
+    TENANT_SHARDING("tenantSharding", "按租户分库", List.of(
+            "g2rain-example/g2rain-example-biz/src/main/java/support/sharding",
+            "g2rain-example/g2rain-example-biz/src/test/java/support/sharding",
+            "g2rain-example/g2rain-example-biz/src/main/java/config/TenantShardingConfig.java.ftl"
+    ));
+
+    /**
+     * 特性标识，即 {@code -Dskeleton.features} 中的取值，同时作为模板中 {@code features} 的键
+     */
+    private final String id;
+
+    /**
+     * 特性说明
+     */
+    private final String description;
+
+    /**
+     * 该特性独占的模板路径前缀，特性未启用时跳过
+     */
+    private final List<String> templates;
+
+    SkeletonFeature(String id, String description, List<String> templates) {
+        this.id = id;
+        this.description = description;
+        this.templates = templates;
+    }
+
+    /**
+     * 解析逗号分隔的特性标识。
+     *
+     * @param ids 特性标识列表，如 {@code benchmark}，可为空
+     * @return 启用的特性集合，标识为空时返回空集合
+     * @throws IllegalArgumentException 存在无法识别的标识，或同时启用了互斥的特性时抛出
+     */
+    public static Set<SkeletonFeature> parse(String ids) {
+        Set<SkeletonFeature> features = EnumSet.noneOf(SkeletonFeature.class);
+        if (Strings.isBlank(ids)) {
+            return features;
+        }
+
+        for (String id : ids.split(",")) {
+            if (Strings.isBlank(id)) {
+                continue;
+            }
+
+            features.add(Arrays.stream(values())
+                    .filter(feature -> feature.id.equalsIgnoreCase(id.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown skeleton feature: " + id.trim()
+                            + ", expected any of " + Arrays.stream(values()).map(SkeletonFeature::getId)
+                            .collect(Collectors.joining(",")))));
+        }
+
+        // 两者都会替换应用的主数据源
+        if (features.contains(READ_WRITE_SPLITTING) && features.contains(TENANT_SHARDING)) {
+            throw new IllegalArgumentException("Skeleton features " + READ_WRITE_SPLITTING.id + " and "
+                    + TENANT_SHARDING.id + " both replace the primary datasource and cannot be combined");
+        }
+
+        return features;
+    }
+
+    /**
+     * 判断模板路径是否属于该特性。
+     *
+     * @param templatePath 相对于模板根目录的路径，使用 {@code /} 分隔
+     * @return 属于该特性时返回 {@code true}
+     */
+    public boolean owns(String templatePath) {
+        return templates.stream().anyMatch(templatePath::startsWith);
+    }
+}
@@ -2,6 +2,7 @@ package com.g2rain.crafter.generator;
 
 
 import com.g2rain.crafter.config.SkeletonConfig;
+import com.g2rain.crafter.config.SkeletonFeature;
 import com.g2rain.crafter.utils.Constants;
 import com.g2rain.generator.AbstractGenerator;
 import lombok.NonNull;
@@ -19,6 +20,7 @@ import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 
@@ -94,8 +96,10 @@ import static com.g2rain.generator.utils.Constants.JAVA_FILE_DIR;
  * <p>注意事项：</p>
  * <ul>
  *     <li>.keep 文件会被跳过，用于保持空目录结构</li>
+ *     <li>未启用的 {@link SkeletonFeature} 所声明的模板路径会被跳过</li>
  *     <li>模板渲染使用 {@link SkeletonConfig#toData()} 提供的数据模型</li>
  *     <li>生成 Application.java.ftl 时会自动将 basePackage 转换为目录结构</li>
+ *     <li>主源码与测试源码目录下的模板均按 basePackage 生成目录结构</li>
  * </ul>
  *
  * @author alpha
@@ -191,11 +195,18 @@ public class SkeletonGenerator extends AbstractGenerator {
         Files.walkFileTree(sourceRoot, new SimpleFileVisitor<>() {
             @Override
             public @NonNull FileVisitResult preVisitDirectory(@NonNull Path dir, @NonNull BasicFileAttributes attrs) throws IOException {
+                String sourcePath = sourceRoot.relativize(dir).toString().replace(File.separatorChar, '/');
+
+                // 跳过未启用特性的模板目录
+                if (isDisabled(sourcePath)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+
                 // 计算目标路径，替换模板项目名占位符
-                Path targetPath = Paths.get(sourceRoot.relativize(dir).toString()
-                    .replace(File.separatorChar, '/')
+                Path targetPath = Paths.get(sourcePath
                     .replace(Constants.TEMPLATE_BASE, skeletonConfig.getProjectName())
                     .replaceFirst("(.*" + JAVA_FILE_DIR + "/)(.+)$", "$1" + pkgPath + "/$2")
+                    .replaceFirst("(.*" + Constants.JAVA_TEST_DIR + "/)(.+)$", "$1" + pkgPath + "/$2")
                 );
 
                 // 创建目录
@@ -213,10 +224,16 @@ public class SkeletonGenerator extends AbstractGenerator {
                 // 计算源文件相对路径
                 String sourcePath = sourceRoot.relativize(file).toString().replace(File.separatorChar, '/');
 
+                // 跳过未启用特性的模板文件
+                if (isDisabled(sourcePath)) {
+                    return FileVisitResult.CONTINUE;
+                }
+
                 // 替换模板占位符 ${project} 和 ${package}，保证路径正确
                 Path targetPath = Paths.get(sourcePath
                     .replace(Constants.TEMPLATE_BASE, skeletonConfig.getProjectName())
                     .replaceFirst("(.*" + JAVA_FILE_DIR + "/)(.+)$", "$1" + pkgPath + "/$2")
+                    .replaceFirst("(.*" + Constants.JAVA_TEST_DIR + "/)(.+)$", "$1" + pkgPath + "/$2")
                 );
 
                 if (file.getFileName().toString().endsWith(".ftl")) {
@@ -233,4 +250,18 @@ public class SkeletonGenerator extends AbstractGenerator {
             }
         });
     }
+
+    /**
+     * 判断模板路径是否属于未启用的骨架特性。
+     *
+     * <p>一个路径可以被多个特性声明，只要其中任意一个未启用就跳过。</p>
+     *
+     * @param sourcePath 相对于模板根目录的路径
+     * @return 需要跳过时返回 {@code true}
+     */
+    private boolean isDisabled(String sourcePath) {
+        return Arrays.stream(SkeletonFeature.values())
+            .filter(feature -> !skeletonConfig.isEnabled(feature))
+            .anyMatch(feature -> feature.owns(sourcePath));
+    }
 }
@@ -89,4 +89,18 @@ public class Constants {
      * 用于代码生成或模板文件管理模块的根路径标识。
      */
     public static final String TEMPLATE_BASE = "g2rain-example";
+
+    /**
+     * 测试源码目录。
+     * <p>
+     * 与主源码目录一样，模板中位于该目录下的文件会按 basePackage 生成对应的包目录结构。
+     */
+    public static final String JAVA_TEST_DIR = "src/test/java";
+
+    /**
+     * 分析报告输出目录，相对于生成项目的根目录。
+     * <p>
+     * 索引建议等生成后分析的结果写入该目录，随 {@code mvn clean} 一并清除。
+     */
+    public static final String REPORT_DIR = "target/crafter-reports";
 }
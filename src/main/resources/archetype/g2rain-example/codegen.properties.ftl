@@ -47,3 +47,11 @@ data.isolation.tenantColumns=organ_id
 # 即使命中租户列也排除的表，逗号分隔
 # 示例：dict_type,config（留空表示不排除）
 data.isolation.excludeTables=
+
+# 索引分析配置
+# =============================================
+# 生成后检查租户列与以下查询过滤列上是否有可用索引，逗号分隔
+# 报告与建索引 DDL 输出到 target/crafter-reports/index-advice.md / index-advice.sql
+# 分区表另输出 partition-report.md，标出不带分区键条件、会访问全部分区的生成查询
+# 示例：status,code（留空表示只检查租户列）
+data.index.filterColumns=
@@ -0,0 +1,92 @@
+package ${package}.client;
+
+
+<#noparse>
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 服务间批量调用工具：把主键或待写入的行切分为固定大小的批次，每批一次请求。
+ *
+ * <p>逐条调用时每个实体一次往返，调用方的延迟随实体数线性增长；按批调用后往返次数降为
+ * {@code ceil(n / batchSize)}，批次上限同时避免单个请求的 URL 或请求体过大。</p>
+ *
+ * <p>批量接口在客户端接口中声明：</p>
+ * <pre>{@code
+ * @HttpExchange("http://demo-project/users")
+ * public interface UserClient {
+ *
+ *     @GetExchange("/batch")
+ *     List<UserVo> getByIds(@RequestParam("ids") List<Long> ids);
+ *
+ *     @PostExchange("/batch")
+ *     List<Long> createAll(@RequestBody List<UserDto> users);
+ * }
+ *
+ * Map<Long, UserVo> users = BatchCalls.getAll(userIds, 200, userClient::getByIds, UserVo::getId);
+ * }</pre>
+ */
+public final class BatchCalls {
+
+    private BatchCalls() {
+    }
+
+    /**
+     * 按主键分批读取。
+     *
+     * @param ids       主键，忽略 {@code null} 与重复值
+     * @param batchSize 每次请求的最大主键数
+     * @param call      批量读取接口，参数为不超过 {@code batchSize} 个互不相同的主键
+     * @param keyOf     从结果中取主键
+     * @param <K>       主键类型
+     * @param <V>       结果类型
+     * @return 主键到结果的映射，不存在的主键不在其中；主键为空时不发起请求
+     */
+    public static <K, V> Map<K, V> getAll(Collection<? extends K> ids, int batchSize,
+                                          Function<List<K>, List<V>> call, Function<? super V, ? extends K> keyOf) {
+        List<K> distinct = new ArrayList<>(new LinkedHashSet<K>(ids));
+        distinct.removeIf(Objects::isNull);
+
+        Map<K, V> found = HashMap.newHashMap(distinct.size());
+        for (V value : sendAll(distinct, batchSize, call)) {
+            found.put(keyOf.apply(value), value);
+        }
+        return found;
+    }
+
+    /**
+     * 分批发送，如批量创建。
+     *
+     * @param rows      待发送的行
+     * @param batchSize 每次请求的最大行数
+     * @param call      批量接口，参数为不超过 {@code batchSize} 行
+     * @param <T>       行类型
+     * @param <R>       结果类型
+     * @return 各批结果按批次顺序拼接，行为空时不发起请求
+     * @throws IllegalArgumentException {@code batchSize} 不为正数时抛出
+     */
+    public static <T, R> List<R> sendAll(List<T> rows, int batchSize, Function<List<T>, List<R>> call) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        if (rows.size() <= batchSize) {
+            return call.apply(rows);
+        }
+
+        List<R> results = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            results.addAll(call.apply(rows.subList(from, Math.min(from + batchSize, rows.size()))));
+        }
+        return results;
+    }
+}
+</#noparse>
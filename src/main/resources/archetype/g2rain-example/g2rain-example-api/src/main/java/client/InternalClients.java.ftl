@@ -0,0 +1,69 @@
+package ${package}.client;
+
+
+<#noparse>
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * 服务间调用客户端工厂：为 {@code @HttpExchange} 接口创建代理，所有代理共享同一个 JDK {@link HttpClient}。
+ *
+ * <p>JDK {@link HttpClient} 自带连接池，HTTP/1.1 连接在响应读完后保持并复用（空闲超时见系统属性
+ * {@code jdk.httpclient.keepalive.timeout}）；异步任务在虚拟线程上执行，阻塞调用不占用平台线程。
+ * 接口上的地址使用服务名（如 {@code http://demo-project/users}），由传入构建器上的负载均衡拦截器解析为实例地址。</p>
+ *
+ * <p><b>示例：</b></p>
+ * <pre>{@code
+ * UserClient userClient = internalClients.create(UserClient.class);
+ * }</pre>
+ */
+public class InternalClients {
+
+    private final HttpServiceProxyFactory factory;
+
+    /**
+     * 构造函数
+     *
+     * @param builder     已配置负载均衡的 {@link RestClient} 构建器
+     * @param httpClient  共享的 JDK 客户端，见 {@link #httpClient(Duration)}
+     * @param readTimeout 等待响应的超时时间
+     */
+    public InternalClients(RestClient.Builder builder, HttpClient httpClient, Duration readTimeout) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        RestClient restClient = builder.requestFactory(requestFactory).build();
+        this.factory = HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClient)).build();
+    }
+
+    /**
+     * 创建共享的 JDK 客户端：HTTP/1.1 长连接，虚拟线程执行器。
+     *
+     * @param connectTimeout 建立连接的超时时间
+     * @return 客户端，应用关闭时需要关闭
+     */
+    public static HttpClient httpClient(Duration connectTimeout) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * 创建客户端接口的代理。
+     *
+     * @param type 标注了 {@code @HttpExchange} 的接口
+     * @param <T>  接口类型
+     * @return 代理
+     */
+    public <T> T create(Class<T> type) {
+        return factory.createClient(type);
+    }
+}
+</#noparse>
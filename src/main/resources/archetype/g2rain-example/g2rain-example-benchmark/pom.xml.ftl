@@ -0,0 +1,116 @@
+<?xml version="1.0" encoding="UTF-8"?>
+<project xmlns="http://maven.apache.org/POM/4.0.0"
+         xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+         xsi:schemaLocation="http://maven.apache.org/POM/4.0.0 http://maven.apache.org/xsd/maven-4.0.0.xsd">
+
+    <modelVersion>4.0.0</modelVersion>
+
+    <parent>
+        <groupId>${groupId}</groupId>
+        <artifactId>${projectName}</artifactId>
+        <version>${"$"}{revision}</version>
+    </parent>
+
+    <artifactId>${projectName}-benchmark</artifactId>
+    <packaging>jar</packaging>
+
+    <name>${projectName}-benchmark</name>
+    <description>
+        JMH benchmark module for ${projectName}
+    </description>
+
+    <properties>
+        <!-- 基准测试模块不发布 -->
+        <maven.install.skip>true</maven.install.skip>
+        <maven.deploy.skip>true</maven.deploy.skip>
+        <!-- 固定的 JMH 参数, 保证多次运行结果可比较; 可通过 -Djmh.xxx 覆盖 -->
+        <jmh.includes>.*</jmh.includes>
+        <jmh.forks>1</jmh.forks>
+        <jmh.warmupIterations>3</jmh.warmupIterations>
+        <jmh.iterations>5</jmh.iterations>
+        <jmh.result>${"$"}{project.build.directory}/jmh-result.json</jmh.result>
+    </properties>
+
+    <dependencies>
+        <dependency>
+            <groupId>${groupId}</groupId>
+            <artifactId>${projectName}-biz</artifactId>
+            <version>${"$"}{project.version}</version>
+        </dependency>
+        <dependency>
+            <groupId>org.openjdk.jmh</groupId>
+            <artifactId>jmh-core</artifactId>
+            <version>${"$"}{jmh.version}</version>
+        </dependency>
+        <dependency>
+            <groupId>tools.jackson.core</groupId>
+            <artifactId>jackson-databind</artifactId>
+        </dependency>
+        <!-- 内存数据库, 作为 MySQL 的替身执行 Service / Mapper 基准 -->
+        <dependency>
+            <groupId>com.h2database</groupId>
+            <artifactId>h2</artifactId>
+        </dependency>
+    </dependencies>
+
+    <build>
+        <plugins>
+            <plugin>
+                <groupId>org.apache.maven.plugins</groupId>
+                <artifactId>maven-compiler-plugin</artifactId>
+                <configuration>
+                    <annotationProcessorPaths combine.children="append">
+                        <path>
+                            <groupId>org.openjdk.jmh</groupId>
+                            <artifactId>jmh-generator-annprocess</artifactId>
+                            <version>${"$"}{jmh.version}</version>
+                        </path>
+                    </annotationProcessorPaths>
+                </configuration>
+            </plugin>
+            <!-- 在 integration-test 阶段执行全部基准并输出 JSON 结果, -prof gc 记录每次操作的分配字节数 -->
+            <plugin>
+                <groupId>org.codehaus.mojo</groupId>
+                <artifactId>exec-maven-plugin</artifactId>
+                <executions>
+                    <execution>
+                        <id>run-benchmarks</id>
+                        <phase>integration-test</phase>
+                        <goals>
+                            <goal>exec</goal>
+                        </goals>
+                        <configuration>
+                            <classpathScope>runtime</classpathScope>
+                            <executable>java</executable>
+                            <arguments>
+<#if features.structuredConcurrency>
+                                <argument>--enable-preview</argument>
+</#if>
+                                <argument>-classpath</argument>
+                                <classpath/>
+                                <argument>org.openjdk.jmh.Main</argument>
+                                <argument>-f</argument>
+                                <argument>${"$"}{jmh.forks}</argument>
+                                <argument>-wi</argument>
+                                <argument>${"$"}{jmh.warmupIterations}</argument>
+                                <argument>-i</argument>
+                                <argument>${"$"}{jmh.iterations}</argument>
+                                <argument>-prof</argument>
+                                <argument>gc</argument>
+<#if features.structuredConcurrency>
+                                <argument>-jvmArgsAppend</argument>
+                                <argument>--enable-preview</argument>
+</#if>
+                                <argument>-rf</argument>
+                                <argument>json</argument>
+                                <argument>-rff</argument>
+                                <argument>${"$"}{jmh.result}</argument>
+                                <argument>${"$"}{jmh.includes}</argument>
+                            </arguments>
+                        </configuration>
+                    </execution>
+                </executions>
+            </plugin>
+        </plugins>
+    </build>
+</project>
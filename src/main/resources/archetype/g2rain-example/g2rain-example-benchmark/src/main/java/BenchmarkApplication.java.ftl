@@ -0,0 +1,32 @@
+package ${package};
+
+
+<#noparse>
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 基准测试使用的 Spring Boot 启动类。
+ *
+ * <p>与 startup 模块的 {@code Application} 位于同一基础包，保证组件扫描与 MyBatis Mapper
+ * 自动扫描范围一致；以非 Web 方式启动，并激活 {@code bench} 替身环境（见 application-bench.yml）。</p>
+ */
+@SpringBootApplication
+public class BenchmarkApplication {
+
+    /**
+     * 启动基准测试上下文。
+     *
+     * @param args 额外的启动参数，如 {@code --spring.datasource.url=...}
+     * @return 应用上下文，由调用方在基准结束时关闭
+     */
+    public static ConfigurableApplicationContext start(String... args) {
+        SpringApplication application = new SpringApplication(BenchmarkApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setAdditionalProfiles("bench");
+        return application.run(args);
+    }
+}
+</#noparse>
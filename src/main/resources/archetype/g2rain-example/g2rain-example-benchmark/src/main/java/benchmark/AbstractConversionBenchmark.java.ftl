@@ -0,0 +1,67 @@
+package ${package}.benchmark;
+
+
+<#noparse>
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO ↔ 实体转换基准的基类。
+ *
+ * <p>为每张表继承本类，在 {@link #source()} 中构造一个字段填充完整的源对象，
+ * 在 {@link #convert(Object)} 中调用生成的 MapStruct 转换器，例如：</p>
+ * <pre>{@code
+ * public class UserConverterBenchmark extends AbstractConversionBenchmark<UserDto, UserPo> {
+ *     protected UserDto source() { ... }
+ *     protected UserPo convert(UserDto dto) { return UserConverter.INSTANCE.toPo(dto); }
+ * }
+ * }</pre>
+ *
+ * @param <S> 源类型
+ * @param <T> 目标类型
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public abstract class AbstractConversionBenchmark<S, T> {
+
+    private S source;
+
+    @Setup
+    public void setUp() {
+        this.source = source();
+    }
+
+    /**
+     * 执行一次转换，返回值交由 JMH 消费以防止死代码消除。
+     *
+     * @return 转换结果
+     */
+    @Benchmark
+    public T convert() {
+        return convert(source);
+    }
+
+    /**
+     * 构造字段填充完整的源对象。
+     *
+     * @return 源对象
+     */
+    protected abstract S source();
+
+    /**
+     * 调用待测转换器。
+     *
+     * @param source 源对象
+     * @return 转换结果
+     */
+    protected abstract T convert(S source);
+}
+</#noparse>
@@ -0,0 +1,79 @@
+package ${package}.benchmark;
+
+
+<#noparse>
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * VO JSON 序列化基准的基类。
+ *
+ * <p>以列表接口的典型响应为模型：按 {@link #size} 构造 VO 列表，序列化为 UTF-8 字节数组。
+ * 为每张表继承本类并实现 {@link #sample(int)}；{@link #mapper()} 可被覆盖以对比不同的
+ * {@link JsonMapper} 配置。</p>
+ *
+ * @param <T> VO 类型
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public abstract class AbstractJsonBenchmark<T> {
+
+    /**
+     * 单次响应中的 VO 数量，对应详情接口与分页列表接口
+     */
+    @Param({"1", "100"})
+    public int size;
+
+    private JsonMapper mapper;
+
+    private List<T> payload;
+
+    @Setup
+    public void setUp() {
+        this.mapper = mapper();
+        this.payload = IntStream.range(0, size).mapToObj(this::sample).toList();
+    }
+
+    /**
+     * 序列化整个响应列表。
+     *
+     * @return 序列化结果
+     */
+    @Benchmark
+    public byte[] serialize() {
+        return mapper.writeValueAsBytes(payload);
+    }
+
+    /**
+     * 构造第 {@code index} 个 VO，字段取值应接近真实数据的长度与分布。
+     *
+     * @param index 序号
+     * @return VO 实例
+     */
+    protected abstract T sample(int index);
+
+    /**
+     * 待测的 JSON 映射器，默认不注册任何模块，即纯反射访问的基线。
+     *
+     * <p>不使用 {@code findAndAddModules()}：它会注册 classpath 上的全部模块（启用 jsonBlackbird 时包括 Blackbird），
+     * 基线就不再是反射访问。需要模块的对比在子类中显式注册，如 {@code JsonCodecBenchmark}。</p>
+     *
+     * @return JSON 映射器
+     */
+    protected JsonMapper mapper() {
+        return JsonMapper.builder().build();
+    }
+}
+</#noparse>
@@ -0,0 +1,74 @@
+package ${package}.benchmark;
+
+
+import ${package}.BenchmarkApplication;
+<#noparse>
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service / Mapper 基准的基类。
+ *
+ * <p>每个 fork 启动一次 Spring 上下文，数据源为 H2 内存库（MySQL 兼容模式），
+ * 表结构与种子数据来自 {@code bench-schema.sql}。继承本类并在 {@code @Benchmark}
+ * 方法中通过 {@link #bean(Class)} 获取生成的 Service 调用，例如：</p>
+ * <pre>{@code
+ * public class UserServiceBenchmark extends AbstractServiceBenchmark {
+ *     @Benchmark
+ *     public Object getById() {
+ *         return bean(UserService.class).getById(1L);
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>内存库没有网络往返与磁盘 IO，结果反映的是框架与生成代码自身的开销，
+ * 适合横向对比改动前后的差异，不能替代真实数据库上的压测。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public abstract class AbstractServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+
+    @Setup
+    public void startContext() {
+        this.context = BenchmarkApplication.start(contextArgs());
+    }
+
+    @TearDown
+    public void stopContext() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    /**
+     * 获取上下文中的 Bean。
+     *
+     * @param type Bean 类型
+     * @param <T>  Bean 类型
+     * @return Bean 实例
+     */
+    protected <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * 额外的启动参数，子类可覆盖以调整替身环境。
+     *
+     * @return 启动参数
+     */
+    protected String[] contextArgs() {
+        return new String[0];
+    }
+}
+</#noparse>
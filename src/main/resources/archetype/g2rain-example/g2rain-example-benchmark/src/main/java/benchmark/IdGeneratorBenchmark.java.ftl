@@ -0,0 +1,55 @@
+package ${package}.benchmark;
+
+
+import ${package}.support.id.SnowflakeIdGenerator;
+<#noparse>
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 本地主键生成吞吐基准。
+ *
+ * <ul>
+ *     <li>{@code single}：单线程发号，上限约为每毫秒 4096 个（序号位数），超出后借用后续毫秒；</li>
+ *     <li>{@code contended}：所有 CPU 线程共享一个生成器，衡量 CAS 竞争下的吞吐；</li>
+ *     <li>{@code randomUuid}：对照组，随机 UUID 无竞争但不有序，作主键时 B+ 树插入位置随机。</li>
+ * </ul>
+ * <p>长时间满速发号会使逻辑时间领先系统时钟，因此 maxDrift 在基准中放宽到一小时。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IdGeneratorBenchmark {
+
+    private final SnowflakeIdGenerator generator =
+            new SnowflakeIdGenerator(Instant.parse("2026-01-01T00:00:00Z"), 1, Duration.ofHours(1));
+
+    @Benchmark
+    @Threads(1)
+    public long single() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long contended() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+}
+</#noparse>
@@ -0,0 +1,32 @@
+package ${package}.benchmark;
+
+
+<#noparse>
+import org.openjdk.jmh.annotations.Param;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * 反射访问与 Blackbird 访问器的 VO 序列化对比。
+ *
+ * <p>两种 {@link #codec} 序列化同一份示例 VO 列表；结合 {@code -prof gc} 的
+ * {@code gc.alloc.rate.norm} 即可得到每次响应的 CPU 耗时与分配字节数之差。</p>
+ */
+public class JsonCodecBenchmark extends SampleVoJsonBenchmark {
+
+    /**
+     * {@code reflection}：不注册任何模块的基线；{@code blackbird}：注册 Blackbird 模块，与 JsonCodecConfig 一致
+     */
+    @Param({"reflection", "blackbird"})
+    public String codec;
+
+    @Override
+    protected JsonMapper mapper() {
+        JsonMapper.Builder builder = JsonMapper.builder();
+        if ("blackbird".equals(codec)) {
+            builder.addModule(new BlackbirdModule());
+        }
+        return builder.build();
+    }
+}
+</#noparse>
@@ -0,0 +1,77 @@
+package ${package}.benchmark;
+
+
+import ${package}.support.context.RequestContext;
+<#noparse>
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 请求上下文的 ThreadLocal 与 ScopedValue 对比基准。
+ *
+ * <p>模拟"每个请求一个虚拟线程"：每次操作启动一个虚拟线程，绑定租户 / 用户上下文，
+ * 按 {@link #reads} 次读取（对应一次请求中拦截器、缓存、指标等组件的读取次数）后结束。</p>
+ * <ul>
+ *     <li>{@code threadLocal}：常见的上下文持有者写法，Map 存放于 ThreadLocal，首次 set 时在线程上创建 ThreadLocalMap，
+ *     结束时需要 {@code remove()}；</li>
+ *     <li>{@code scopedValue}：{@link RequestContext#CURRENT}，绑定不可变记录，读取有缓存，无需清理。</li>
+ * </ul>
+ * <p>以 {@code -prof gc} 运行（bench profile 默认开启）比较 {@code gc.alloc.rate.norm}。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RequestContextBenchmark {
+
+    private static final ThreadLocal<Map<String, Object>> HOLDER = new ThreadLocal<>();
+
+    /**
+     * 单个请求内读取上下文的次数
+     */
+    @Param({"10", "100"})
+    public int reads;
+
+    @Benchmark
+    public long threadLocal() throws InterruptedException {
+        long[] sink = new long[1];
+        Thread.ofVirtual().start(() -> {
+            Map<String, Object> context = new HashMap<>();
+            context.put("tenant", "1001");
+            context.put("user", "2002");
+            context.put("crossTenant", Boolean.FALSE);
+            HOLDER.set(context);
+            try {
+                for (int i = 0; i < reads; i++) {
+                    Map<String, Object> current = HOLDER.get();
+                    sink[0] += ((String) current.get("tenant")).length() + (Boolean.TRUE.equals(current.get("crossTenant")) ? 1 : 0);
+                }
+            } finally {
+                HOLDER.remove();
+            }
+        }).join();
+        return sink[0];
+    }
+
+    @Benchmark
+    public long scopedValue() throws InterruptedException {
+        long[] sink = new long[1];
+        Thread.ofVirtual().start(() -> ScopedValue.where(RequestContext.CURRENT, new RequestContext("1001", "2002", false))
+                .run(() -> {
+                    for (int i = 0; i < reads; i++) {
+                        RequestContext current = RequestContext.CURRENT.get();
+                        sink[0] += current.tenant().length() + (current.crossTenant() ? 1 : 0);
+                    }
+                })).join();
+        return sink[0];
+    }
+}
+</#noparse>
@@ -0,0 +1,40 @@
+package ${package}.benchmark;
+
+
+<#noparse>
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 示例 VO 的 JSON 序列化基准。
+ *
+ * <p>字段组成与生成的 VO 一致（主键、租户列、字符串、金额、时间），在没有为具体表编写基准之前
+ * 提供一个可比较的基线；为真实表编写基准后可删除本类。</p>
+ */
+public class SampleVoJsonBenchmark extends AbstractJsonBenchmark<SampleVoJsonBenchmark.SampleVo> {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Override
+    protected SampleVo sample(int index) {
+        return new SampleVo((long) index, 1L, "name-" + index, "remark for row " + index,
+                BigDecimal.valueOf(index, 2), index % 2, NOW, NOW);
+    }
+
+    /**
+     * 示例 VO
+     *
+     * @param id         主键
+     * @param organId    租户列
+     * @param name       名称
+     * @param remark     备注
+     * @param amount     金额
+     * @param status     状态
+     * @param createTime 创建时间
+     * @param updateTime 更新时间
+     */
+    public record SampleVo(Long id, Long organId, String name, String remark, BigDecimal amount, Integer status,
+                           LocalDateTime createTime, LocalDateTime updateTime) {
+    }
+}
+</#noparse>
@@ -0,0 +1,72 @@
+package ${package}.benchmark;
+
+
+<#noparse>
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * 追踪开销基准。
+ *
+ * <p>模拟一次请求产生的 span 层级：HTTP 服务端 span → Service 方法 span → Mapper 语句 span，
+ * 与 {@code ServiceTracingInterceptor} / {@code StatementTracingInterceptor} 的用法一致。</p>
+ * <ul>
+ *     <li>{@code off}：{@link Tracer#NOOP}，相当于未启用追踪；</li>
+ *     <li>{@code 0.0} / {@code 0.1} / {@code 1.0}：{@code management.tracing.sampling.probability}，
+ *     未采样的 span 只传播上下文不记录。</li>
+ * </ul>
+ * <p>本地导出器在基准中关闭，结果只包含 span 创建与批量导出队列的开销；以 {@code -prof gc} 比较每次请求的分配。</p>
+ */
+public class TracingOverheadBenchmark extends AbstractServiceBenchmark {
+
+    /**
+     * 采样率，{@code off} 表示不追踪
+     */
+    @Param({"off", "0.0", "0.1", "1.0"})
+    public String sampling;
+
+    private Tracer tracer;
+
+    @Setup
+    public void resolveTracer() {
+        this.tracer = "off".equals(sampling) ? Tracer.NOOP : bean(Tracer.class);
+    }
+
+    @Override
+    protected String[] contextArgs() {
+        return new String[]{
+                "--management.tracing.sampling.probability=" + ("off".equals(sampling) ? "0.0" : sampling),
+                "--g2rain.tracing.local-exporter=false"
+        };
+    }
+
+    @Benchmark
+    public Span request() {
+        Span server = tracer.nextSpan().name("http get /users/{id}").kind(Span.Kind.SERVER).start();
+        try (Tracer.SpanInScope ignoredServer = tracer.withSpan(server)) {
+            Span service = tracer.nextSpan().name("UserServiceImpl.selectById").start();
+            try (Tracer.SpanInScope ignoredService = tracer.withSpan(service)) {
+                Span statement = tracer.nextSpan()
+                        .name("UserDao.selectById")
+                        .kind(Span.Kind.CLIENT)
+                        .tag("db.system", "mysql")
+                        .tag("db.operation", "select")
+                        .tag("db.sql.table", "user")
+                        .start();
+                try (Tracer.SpanInScope ignoredStatement = tracer.withSpan(statement)) {
+                    return statement;
+                } finally {
+                    statement.end();
+                }
+            } finally {
+                service.end();
+            }
+        } finally {
+            server.end();
+        }
+    }
+}
+</#noparse>
@@ -0,0 +1,4 @@
+-- 基准测试使用的建表语句与种子数据（H2 MySQL 兼容模式）
+-- 从生产库导出待测表的 DDL 粘贴到此处, 并插入足够数量的种子数据, 例如:
+-- CREATE TABLE IF NOT EXISTS user (id BIGINT PRIMARY KEY AUTO_INCREMENT, organ_id BIGINT, name VARCHAR(64));
+-- INSERT INTO user (organ_id, name) SELECT 1, CONCAT('user-', X) FROM SYSTEM_RANGE(1, 10000);
@@ -58,6 +58,32 @@
             <groupId>com.g2rain</groupId>
             <artifactId>g2rain-starter-mybatis-extensions</artifactId>
         </dependency>
+        <dependency>
+            <groupId>io.micrometer</groupId>
+            <artifactId>micrometer-core</artifactId>
+        </dependency>
+        <dependency>
+            <groupId>com.github.ben-manes.caffeine</groupId>
+            <artifactId>caffeine</artifactId>
+        </dependency>
+<#if features.jsonBlackbird>
+        <!-- 以 LambdaMetafactory 生成的访问器替代反射读写 VO 字段 -->
+        <dependency>
+            <groupId>tools.jackson.module</groupId>
+            <artifactId>jackson-module-blackbird</artifactId>
+        </dependency>
+</#if>
+<#if features.tracing>
+        <!-- Micrometer Tracing + OpenTelemetry, 未配置采集器时 span 以 OTLP JSON 输出到日志 -->
+        <dependency>
+            <groupId>org.springframework.boot</groupId>
+            <artifactId>spring-boot-starter-opentelemetry</artifactId>
+        </dependency>
+        <dependency>
+            <groupId>io.opentelemetry</groupId>
+            <artifactId>opentelemetry-exporter-logging-otlp</artifactId>
+        </dependency>
+</#if>
         <dependency>
             <groupId>com.mysql</groupId>
             <artifactId>mysql-connector-j</artifactId>
@@ -0,0 +1,48 @@
+package ${package}.config;
+
+
+import ${package}.support.batch.BatchLoaders;
+import ${package}.support.batch.BatchWriter;
+<#noparse>
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+/**
+ * 注册批量写入与合并读取工具。
+ */
+@Configuration
+public class BatchWriterConfig {
+
+    /**
+     * 批量写入工具
+     *
+     * @param sqlSessionFactory  会话工厂
+     * @param transactionManager 事务管理器，整批在一个事务中写入
+     * @param chunkSize          每块行数，{@code g2rain.mybatis.batch.chunk-size}，默认 1000
+     * @return 批量写入工具
+     */
+    @Bean
+    public BatchWriter batchWriter(SqlSessionFactory sqlSessionFactory, PlatformTransactionManager transactionManager,
+                                   @Value("${g2rain.mybatis.batch.chunk-size:1000}") int chunkSize) {
+        return new BatchWriter(sqlSessionFactory, transactionManager, chunkSize);
+    }
+
+    /**
+     * 按请求合并读取的加载器
+     *
+     * @param chunkSize 每次 IN 查询的最大主键数，{@code g2rain.mybatis.batch.in-chunk-size}，默认 500
+     * @param window    合并窗口，{@code g2rain.mybatis.batch.load-window}，默认 2ms
+     * @return 加载器工厂
+     */
+    @Bean
+    public BatchLoaders batchLoaders(@Value("${g2rain.mybatis.batch.in-chunk-size:500}") int chunkSize,
+                                     @Value("${g2rain.mybatis.batch.load-window:2ms}") Duration window) {
+        return new BatchLoaders(chunkSize, window);
+    }
+}
+</#noparse>
@@ -0,0 +1,34 @@
+package ${package}.config;
+
+
+import ${package}.support.change.TableVersions;
+import ${package}.support.tenant.TenantResolver;
+import ${package}.support.web.ConditionalRequests;
+import ${package}.support.web.EtagProperties;
+<#noparse>
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 注册条件 GET 支持，ETag 的表范围见 {@code g2rain.etag.tables}。
+ */
+@Configuration
+public class ConditionalRequestConfig {
+
+    /**
+     * 条件请求工具
+     *
+     * @param jdbcTemplate   JDBC 模板
+     * @param tableVersions  表版本号
+     * @param tenantResolver 租户解析器
+     * @param properties     条件请求配置
+     * @return 条件请求工具
+     */
+    @Bean
+    public ConditionalRequests conditionalRequests(JdbcTemplate jdbcTemplate, TableVersions tableVersions,
+                                                   TenantResolver tenantResolver, EtagProperties properties) {
+        return new ConditionalRequests(jdbcTemplate, tableVersions, tenantResolver, properties);
+    }
+}
+</#noparse>
@@ -0,0 +1,48 @@
+package ${package}.config;
+
+
+import ${package}.support.export.CursorExporter;
+import ${package}.support.export.FetchSizeInterceptor;
+import ${package}.support.tenant.TenantResolver;
+<#noparse>
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 注册流式导出工具及导出语句的 fetch size 拦截器，通过 {@code g2rain.export.enabled=true} 开启。
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "g2rain.export", name = "enabled", havingValue = "true")
+public class ExportConfig {
+
+    /**
+     * 流式导出工具
+     *
+     * @param sqlSessionFactory 会话工厂
+     * @param jsonMapper        JSON 映射器
+     * @param fetchSize         每次从服务端游标拉取的行数，{@code g2rain.export.fetch-size}，默认 1000
+     * @param tenantResolver    租户解析器，提供租户列配置
+     * @return 导出工具
+     */
+    @Bean
+    public CursorExporter cursorExporter(SqlSessionFactory sqlSessionFactory, JsonMapper jsonMapper,
+                                         @Value("${g2rain.export.fetch-size:1000}") int fetchSize,
+                                         TenantResolver tenantResolver) {
+        return new CursorExporter(sqlSessionFactory, jsonMapper, fetchSize, tenantResolver.columns());
+    }
+
+    /**
+     * 导出语句的 fetch size 拦截器
+     *
+     * @return 拦截器
+     */
+    @Bean
+    public FetchSizeInterceptor fetchSizeInterceptor() {
+        return new FetchSizeInterceptor();
+    }
+}
+</#noparse>
@@ -0,0 +1,53 @@
+package ${package}.config;
+
+
+import ${package}.support.concurrent.ContextPropagator;
+import ${package}.support.concurrent.FanOut;
+<#noparse>
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 注册结构化并发工具及默认的上下文传递器（请求上下文、MDC）。
+ */
+@Configuration
+public class FanOutConfig {
+
+    /**
+     * 结构化并发工具
+     *
+     * @param deadline    默认截止时间，{@code g2rain.fan-out.deadline}，默认 2s
+     * @param propagators 上下文传递器
+     * @return 并发工具
+     */
+    @Bean
+    public FanOut fanOut(@Value("${g2rain.fan-out.deadline:2s}") Duration deadline,
+                         ObjectProvider<ContextPropagator> propagators) {
+        return new FanOut(deadline, propagators.orderedStream().toList());
+    }
+
+    /**
+     * 请求上下文传递器
+     *
+     * @return 传递器
+     */
+    @Bean
+    public ContextPropagator requestAttributesPropagator() {
+        return ContextPropagator.requestAttributes();
+    }
+
+    /**
+     * MDC 传递器
+     *
+     * @return 传递器
+     */
+    @Bean
+    public ContextPropagator mdcPropagator() {
+        return ContextPropagator.mdc();
+    }
+}
+</#noparse>
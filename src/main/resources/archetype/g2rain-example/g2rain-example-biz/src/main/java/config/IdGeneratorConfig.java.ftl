@@ -0,0 +1,78 @@
+package ${package}.config;
+
+
+import ${package}.support.id.IdAssignInterceptor;
+import ${package}.support.id.IdGeneratorProperties;
+import ${package}.support.id.SnowflakeIdGenerator;
+import ${package}.support.id.WorkerIdLease;
+import ${package}.support.id.WorkerIdResolver;
+<#noparse>
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.OptionalLong;
+
+/**
+ * 注册本地主键生成器与 insert 前的主键填充拦截器。
+ *
+ * <p>worker 的确定方式见 {@link WorkerIdResolver} 与 {@link WorkerIdLease}；拦截器由 mybatis-spring-boot-starter 自动注册到 SqlSessionFactory。</p>
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(IdGeneratorProperties.class)
+public class IdGeneratorConfig {
+
+    /**
+     * 本实例的 worker：显式指定时直接使用，否则从 Redis 租用，应用关闭时释放
+     *
+     * @param properties   主键生成配置
+     * @param registration 服务注册信息，未启用服务注册时不存在
+     * @param redis        Redis 客户端
+     * @param application  应用名，{@code spring.application.name}
+     * @return worker 租约
+     */
+    @Bean
+    public WorkerIdLease workerIdLease(IdGeneratorProperties properties, ObjectProvider<Registration> registration,
+                                       StringRedisTemplate redis,
+                                       @Value("${spring.application.name:application}") String application) {
+        OptionalLong worker = WorkerIdResolver.resolve(properties, registration.getIfAvailable());
+        if (worker.isPresent()) {
+            return WorkerIdLease.fixed(worker.getAsLong());
+        }
+        WorkerIdLease lease = WorkerIdLease.acquire(redis, application, properties.leaseTtl());
+        log.info("Leased snowflake worker {} from Redis", lease.worker());
+        return lease;
+    }
+
+    /**
+     * 主键生成器
+     *
+     * @param properties 主键生成配置
+     * @param lease      本实例的 worker
+     * @return 主键生成器
+     */
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(IdGeneratorProperties properties, WorkerIdLease lease) {
+        log.info("Snowflake id generator uses worker {}", lease.worker());
+        return new SnowflakeIdGenerator(properties.epoch(), lease.worker(), properties.maxDrift());
+    }
+
+    /**
+     * 主键填充拦截器
+     *
+     * @param generator  主键生成器
+     * @param properties 主键生成配置
+     * @return 拦截器
+     */
+    @Bean
+    public IdAssignInterceptor idAssignInterceptor(SnowflakeIdGenerator generator, IdGeneratorProperties properties) {
+        return new IdAssignInterceptor(generator, properties);
+    }
+}
+</#noparse>
@@ -0,0 +1,51 @@
+package ${package}.config;
+
+
+import ${package}.client.InternalClients;
+<#noparse>
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.DeferringLoadBalancerInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 服务间调用：共享的 JDK {@link HttpClient} 与 {@code @HttpExchange} 客户端工厂。
+ *
+ * <p>构建器取自 Spring Boot（带有指标与追踪），在此基础上加入负载均衡拦截器，
+ * 因此只有经 {@link InternalClients} 创建的客户端按服务名解析地址，应用中其他 {@link RestClient} 不受影响。</p>
+ */
+@Configuration
+public class InternalClientConfig {
+
+    /**
+     * 服务间调用共享的 JDK 客户端
+     *
+     * @param connectTimeout 建立连接的超时时间，{@code g2rain.client.connect-timeout}，默认 2s
+     * @return 客户端
+     */
+    @Bean
+    public HttpClient internalHttpClient(@Value("${g2rain.client.connect-timeout:2s}") Duration connectTimeout) {
+        return InternalClients.httpClient(connectTimeout);
+    }
+
+    /**
+     * 客户端工厂
+     *
+     * @param builder      Spring Boot 的 {@link RestClient} 构建器
+     * @param httpClient   共享的 JDK 客户端
+     * @param loadBalancer 负载均衡拦截器，按服务名选择实例
+     * @param readTimeout  等待响应的超时时间，{@code g2rain.client.read-timeout}，默认 5s
+     * @return 客户端工厂
+     */
+    @Bean
+    public InternalClients internalClients(RestClient.Builder builder, HttpClient httpClient,
+                                           DeferringLoadBalancerInterceptor loadBalancer,
+                                           @Value("${g2rain.client.read-timeout:5s}") Duration readTimeout) {
+        return new InternalClients(builder.requestInterceptor(loadBalancer), httpClient, readTimeout);
+    }
+}
+</#noparse>
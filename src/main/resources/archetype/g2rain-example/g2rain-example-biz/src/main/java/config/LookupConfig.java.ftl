@@ -0,0 +1,39 @@
+package ${package}.config;
+
+
+import ${package}.support.change.TableVersions;
+import ${package}.support.lookup.LookupProperties;
+import ${package}.support.lookup.LookupTables;
+<#noparse>
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 注册常驻内存的字典表。
+ *
+ * <p>通过 {@code g2rain.lookup.tables} 选择字典表，未配置时不加载任何表；
+ * 表的变更经 {@link TableChangeConfig} 中的表版本号通知，触发快照重新加载。</p>
+ */
+@Configuration
+public class LookupConfig {
+
+    /**
+     * 字典表
+     *
+     * @param jdbcTemplate  JDBC 模板
+     * @param jsonMapper    JSON 映射器
+     * @param tableVersions 表版本号
+     * @param properties    字典表配置
+     * @return 字典表
+     */
+    @Bean
+    public LookupTables lookupTables(JdbcTemplate jdbcTemplate, JsonMapper jsonMapper, TableVersions tableVersions,
+                                     LookupProperties properties) {
+        LookupTables lookupTables = new LookupTables(jdbcTemplate, jsonMapper, properties);
+        tableVersions.addListener(lookupTables::onTableChange);
+        return lookupTables;
+    }
+}
+</#noparse>
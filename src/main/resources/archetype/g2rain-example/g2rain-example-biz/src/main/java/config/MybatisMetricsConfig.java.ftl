@@ -0,0 +1,48 @@
+package ${package}.config;
+
+
+import ${package}.support.mybatis.StatementMetricsInterceptor;
+import ${package}.support.mybatis.StatementMetricsProperties;
+import ${package}.support.tenant.TenantResolver;
+<#noparse>
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * 注册 Mapper 语句指标与慢 SQL 采集拦截器。
+ *
+ * <p>mybatis-spring-boot-starter 会自动把容器中的 {@link org.apache.ibatis.plugin.Interceptor}
+ * Bean 加入 SqlSessionFactory。通过 {@code g2rain.mybatis.metrics.enabled=false} 关闭；
+ * EXPLAIN 在 {@code prod} profile 下始终关闭。</p>
+ */
+@Configuration
+@EnableConfigurationProperties(StatementMetricsProperties.class)
+@ConditionalOnProperty(prefix = "g2rain.mybatis.metrics", name = "enabled", matchIfMissing = true)
+public class MybatisMetricsConfig {
+
+    /**
+     * 语句指标拦截器
+     *
+     * @param registry       指标注册表，未引入 actuator 时（如基准测试）使用全局注册表
+     * @param properties     采集配置
+     * @param tenantResolver 租户解析器
+     * @param environment    运行环境，用于判断当前 profile
+     * @return 拦截器
+     */
+    @Bean
+    public StatementMetricsInterceptor statementMetricsInterceptor(ObjectProvider<MeterRegistry> registry,
+                                                                   StatementMetricsProperties properties,
+                                                                   TenantResolver tenantResolver,
+                                                                   Environment environment) {
+        boolean explain = properties.explain() && !environment.matchesProfiles("prod");
+        return new StatementMetricsInterceptor(registry.getIfAvailable(() -> Metrics.globalRegistry), properties,
+                tenantResolver, explain);
+    }
+}
+</#noparse>
@@ -0,0 +1,39 @@
+package ${package}.config;
+
+
+import ${package}.support.optimistic.OptimisticRetry;
+<#noparse>
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 注册乐观锁更新的重试工具。
+ */
+@Configuration
+public class OptimisticRetryConfig {
+
+    /**
+     * 乐观锁重试工具
+     *
+     * @param maxAttempts 最大尝试次数，{@code g2rain.optimistic.max-attempts}，默认 5
+     * @param baseBackoff 首次退避上限，{@code g2rain.optimistic.base-backoff}，默认 5ms
+     * @param maxBackoff  单次退避上限，{@code g2rain.optimistic.max-backoff}，默认 100ms
+     * @param registry    指标注册表，未引入 actuator 时使用全局注册表
+     * @return 重试工具
+     */
+    @Bean
+    public OptimisticRetry optimisticRetry(@Value("${g2rain.optimistic.max-attempts:5}") int maxAttempts,
+                                           @Value("${g2rain.optimistic.base-backoff:5ms}") Duration baseBackoff,
+                                           @Value("${g2rain.optimistic.max-backoff:100ms}") Duration maxBackoff,
+                                           ObjectProvider<MeterRegistry> registry) {
+        return new OptimisticRetry(maxAttempts, baseBackoff, maxBackoff,
+                registry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+}
+</#noparse>
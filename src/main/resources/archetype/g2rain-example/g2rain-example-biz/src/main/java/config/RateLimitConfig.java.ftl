@@ -0,0 +1,102 @@
+package ${package}.config;
+
+
+import ${package}.support.context.IsolationContextSource;
+import ${package}.support.limit.RateLimitInterceptor;
+import ${package}.support.limit.RateLimitProperties;
+import ${package}.support.limit.RedisTokenBucket;
+import ${package}.support.limit.TenantBulkhead;
+<#noparse>
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.config.MeterFilter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 注册按租户与接口的 Redis 令牌桶限流及租户并发隔舱，通过 {@code g2rain.rate-limit.enabled=false} 关闭。
+ *
+ * <p>未声明 {@link IsolationContextSource} Bean 时不注册拦截器并在启动时输出警告：此时所有请求都没有租户，
+ * 会按客户端地址共用 {@code anonymous} 配额，经网关或负载均衡转发时整个服务只剩一份匿名配额与隔舱。</p>
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "g2rain.rate-limit", name = "enabled", matchIfMissing = true)
+public class RateLimitConfig {
+
+    /**
+     * 租户并发隔舱
+     *
+     * @param properties 限流配置
+     * @return 隔舱
+     */
+    @Bean
+    public TenantBulkhead tenantBulkhead(RateLimitProperties properties) {
+        return new TenantBulkhead(properties.bulkhead().maxConcurrent(), properties.bulkhead().maxWait());
+    }
+
+    /**
+     * 限流拦截器
+     *
+     * @param redis      Redis 客户端
+     * @param bulkhead   租户隔舱
+     * @param properties 限流配置
+     * @param registry   指标注册表，未引入 actuator 时使用全局注册表
+     * @return 拦截器
+     */
+    @Bean
+    public RateLimitInterceptor rateLimitInterceptor(StringRedisTemplate redis, TenantBulkhead bulkhead,
+                                                     RateLimitProperties properties,
+                                                     ObjectProvider<MeterRegistry> registry) {
+        return new RateLimitInterceptor(new RedisTokenBucket(redis, properties.keyPrefix()), bulkhead, properties,
+                registry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * 限制拒绝指标中租户标签的取值数，租户很多时不至于产生无限多的时间序列
+     *
+     * @param properties 限流配置
+     * @return 指标过滤器，超出上限的新租户不再注册
+     */
+    @Bean
+    public MeterFilter rateLimitTenantTagFilter(RateLimitProperties properties) {
+        return MeterFilter.maximumAllowableTags("g2rain.rate-limit.tenant.rejections", "tenant",
+                properties.maxTenantTags(), MeterFilter.deny());
+    }
+
+    /**
+     * 将限流拦截器注册到 {@code g2rain.rate-limit.paths}，未声明 {@link IsolationContextSource} Bean 时不注册
+     *
+     * @param interceptor 限流拦截器
+     * @param properties  限流配置
+     * @param sources     应用声明的租户与用户来源
+     * @return MVC 配置
+     */
+    @Bean
+    public WebMvcConfigurer rateLimitWebMvcConfigurer(RateLimitInterceptor interceptor, RateLimitProperties properties,
+                                                      ObjectProvider<IsolationContextSource> sources) {
+        boolean tenantAware = sources.getIfAvailable() != null;
+        if (!tenantAware) {
+            log.warn("Rate limiting is disabled: no IsolationContextSource bean declared, every request would share "
+                    + "the anonymous quota keyed on the peer address");
+        }
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(@NonNull InterceptorRegistry registry) {
+                if (tenantAware) {
+                    registry.addInterceptor(interceptor).addPathPatterns(properties.paths());
+                }
+            }
+        };
+    }
+}
+</#noparse>
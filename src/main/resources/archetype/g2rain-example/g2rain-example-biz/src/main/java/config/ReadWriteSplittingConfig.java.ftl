@@ -0,0 +1,119 @@
+package ${package}.config;
+
+
+import ${package}.support.routing.ReadRoutingInterceptor;
+import ${package}.support.routing.ReadWriteProperties;
+import ${package}.support.routing.ReadWriteRoutingDataSource;
+import ${package}.support.routing.ReplicaLagMonitor;
+<#noparse>
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 读写分离数据源配置：主库沿用 {@code spring.datasource}，从库列表见 {@code g2rain.datasource.read-write}。
+ *
+ * <p>对外暴露的 {@link DataSource} 是包装了路由数据源的 {@link LazyConnectionDataSourceProxy}，
+ * 实际连接在第一条语句执行时才获取，此时事务的只读属性与查询标记均已确定。
+ * 每个连接池（{@code primary}、{@code replica-0} ...）以 Hikari 指标单独输出。</p>
+ */
+@Configuration
+@EnableConfigurationProperties({DataSourceProperties.class, ReadWriteProperties.class})
+public class ReadWriteSplittingConfig {
+
+    /**
+     * 主库连接池，绑定 {@code spring.datasource} 与 {@code spring.datasource.hikari}
+     *
+     * @param properties 数据源配置
+     * @return 主库连接池配置
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariConfig primaryHikariConfig(DataSourceProperties properties) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(properties.determineUrl());
+        config.setUsername(properties.determineUsername());
+        config.setPassword(properties.determinePassword());
+        config.setDriverClassName(properties.determineDriverClassName());
+        return config;
+    }
+
+    /**
+     * 读写分离路由数据源
+     *
+     * @param primaryConfig 主库连接池配置
+     * @param properties    读写分离配置
+     * @param registry      指标注册表，未引入 actuator 时使用全局注册表
+     * @return 路由数据源
+     */
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariConfig primaryConfig,
+                                                                 ReadWriteProperties properties,
+                                                                 ObjectProvider<MeterRegistry> registry) {
+        MeterRegistry meterRegistry = registry.getIfAvailable(() -> Metrics.globalRegistry);
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        List<ReadWriteProperties.Replica> replicaList = properties.replicas();
+        for (int i = 0; i < replicaList.size(); i++) {
+            ReadWriteProperties.Replica replica = replicaList.get(i);
+            // 从库复制主库的连接池与驱动参数，只覆盖连接信息
+            HikariConfig config = new HikariConfig();
+            primaryConfig.copyStateTo(config);
+            config.setPoolName("replica-" + i);
+            config.setJdbcUrl(replica.url());
+            config.setUsername(replica.username());
+            config.setPassword(replica.password());
+            config.setReadOnly(true);
+            config.setMetricsTrackerFactory(metrics);
+            replicas.put(config.getPoolName(), new HikariDataSource(config));
+        }
+
+        // 连接池启动后配置即被锁定，因此在复制给从库之后再创建主库连接池
+        primaryConfig.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+        primaryConfig.setMetricsTrackerFactory(metrics);
+        HikariDataSource primary = new HikariDataSource(primaryConfig);
+
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replicas, properties.maxLag(),
+                properties.lagCheckInterval(), meterRegistry);
+        return new ReadWriteRoutingDataSource(primary, replicas, lagMonitor, meterRegistry);
+    }
+
+    /**
+     * 应用使用的数据源
+     *
+     * @param routingDataSource 路由数据源
+     * @return 延迟获取连接的数据源代理
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 事务外查询的读路由拦截器
+     *
+     * @return 拦截器
+     */
+    @Bean
+    public ReadRoutingInterceptor readRoutingInterceptor() {
+        return new ReadRoutingInterceptor();
+    }
+}
+</#noparse>
@@ -0,0 +1,45 @@
+package ${package}.config;
+
+
+import ${package}.support.cache.TableCache;
+import ${package}.support.cache.TableCacheProperties;
+import ${package}.support.change.TableVersions;
+import ${package}.support.tenant.TenantResolver;
+<#noparse>
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 注册两级表缓存。
+ *
+ * <p>通过 {@code g2rain.cache.tables} 选择需要缓存的表，未配置时所有读取直接访问数据库；
+ * 失效依赖 {@link TableChangeConfig} 中的表版本号。</p>
+ */
+@Configuration
+public class TableCacheConfig {
+
+    /**
+     * 两级表缓存
+     *
+     * @param redis          Redis 客户端
+     * @param jsonMapper     JSON 映射器
+     * @param tableVersions  表版本号
+     * @param tenantResolver 租户解析器
+     * @param properties     缓存配置
+     * @param registry       指标注册表，未引入 actuator 时使用全局注册表
+     * @return 表缓存
+     */
+    @Bean
+    public TableCache tableCache(StringRedisTemplate redis, JsonMapper jsonMapper, TableVersions tableVersions,
+                                 TenantResolver tenantResolver, TableCacheProperties properties,
+                                 ObjectProvider<MeterRegistry> registry) {
+        return new TableCache(redis, jsonMapper, tableVersions, tenantResolver, properties,
+                registry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+}
+</#noparse>
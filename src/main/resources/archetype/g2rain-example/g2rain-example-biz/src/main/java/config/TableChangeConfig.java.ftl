@@ -0,0 +1,114 @@
+package ${package}.config;
+
+
+import ${package}.support.cache.TableCacheProperties;
+import ${package}.support.change.TableChangeInterceptor;
+import ${package}.support.change.TableVersionProperties;
+import ${package}.support.change.TableVersions;
+import ${package}.support.lookup.LookupProperties;
+import ${package}.support.tenant.TenantResolver;
+import ${package}.support.web.EtagProperties;
+<#noparse>
+import lombok.NonNull;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 注册表版本号、递增版本号的写操作拦截器以及跨实例变更广播的订阅。
+ *
+ * <p>跟踪的表为 {@code g2rain.cache.tables}、{@code g2rain.etag.tables} 与 {@code g2rain.lookup.tables} 的并集，
+ * 其余表的写入不访问 Redis。</p>
+ */
+@Configuration
+@EnableConfigurationProperties({TableVersionProperties.class, TableCacheProperties.class, EtagProperties.class,
+        LookupProperties.class})
+public class TableChangeConfig {
+
+    /**
+     * 表版本号
+     *
+     * @param redis            Redis 客户端
+     * @param cacheProperties  缓存配置
+     * @param etagProperties   条件请求配置
+     * @param lookupProperties 字典表配置
+     * @param properties       版本号配置
+     * @return 表版本号
+     */
+    @Bean
+    public TableVersions tableVersions(StringRedisTemplate redis, TableCacheProperties cacheProperties,
+                                       EtagProperties etagProperties, LookupProperties lookupProperties,
+                                       TableVersionProperties properties) {
+        Set<String> tables = new HashSet<>(cacheProperties.tables());
+        tables.addAll(etagProperties.tables());
+        tables.addAll(lookupProperties.tables());
+        return new TableVersions(redis, tables, properties);
+    }
+
+    /**
+     * 表变更拦截器
+     *
+     * @param tableVersions  表版本号
+     * @param tenantResolver 租户解析器
+     * @return 拦截器
+     */
+    @Bean
+    public TableChangeInterceptor tableChangeInterceptor(TableVersions tableVersions, TenantResolver tenantResolver) {
+        return new TableChangeInterceptor(tableVersions, tenantResolver);
+    }
+
+    /**
+     * 订阅其他实例广播的版本号变更，仅在有跟踪的表时注册，未使用的环境（如基准测试）不连接 Redis
+     *
+     * @param connectionFactory Redis 连接工厂
+     * @param tableVersions     表版本号
+     * @param properties        版本号配置
+     * @return 监听容器
+     */
+    @Bean
+    @Conditional(TrackedTablesCondition.class)
+    public RedisMessageListenerContainer tableVersionListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       TableVersions tableVersions,
+                                                                       TableVersionProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> tableVersions.onChange(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(properties.topic())
+        );
+        return container;
+    }
+
+    /**
+     * 三项表配置中至少有一张表时匹配。按绑定后的集合判断，逗号分隔与 YAML 列表两种写法都能识别。
+     */
+    static class TrackedTablesCondition implements Condition {
+
+        private static final List<String> PROPERTIES = List.of(
+                "g2rain.cache.tables", "g2rain.etag.tables", "g2rain.lookup.tables");
+
+        @Override
+        public boolean matches(@NonNull ConditionContext context, @NonNull AnnotatedTypeMetadata metadata) {
+            Binder binder = Binder.get(context.getEnvironment());
+            return PROPERTIES.stream()
+                    .flatMap(name -> binder.bind(name, Bindable.setOf(String.class)).orElse(Set.of()).stream())
+                    .anyMatch(table -> !table.isBlank());
+        }
+    }
+}
+</#noparse>
@@ -0,0 +1,60 @@
+package ${package}.config;
+
+
+import ${package}.support.context.IsolationContextSource;
+import ${package}.support.context.RequestContextBindingFilter;
+import ${package}.support.tenant.TenantProperties;
+import ${package}.support.tenant.TenantResolver;
+<#noparse>
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 注册请求上下文绑定过滤器与租户解析器，供语句指标、缓存等按租户区分数据的组件共用。
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(TenantProperties.class)
+public class TenantConfig {
+
+    /**
+     * 租户解析器
+     *
+     * @param properties 租户识别配置
+     * @return 租户解析器
+     */
+    @Bean
+    public TenantResolver tenantResolver(TenantProperties properties) {
+        return new TenantResolver(properties);
+    }
+
+    /**
+     * 请求上下文绑定过滤器，在鉴权等过滤器之后执行，此时隔离上下文已建立；处理器与拦截器均可读取上下文。
+     *
+     * <p>未声明 {@link IsolationContextSource} Bean 时使用 {@link IsolationContextSource#NONE}，
+     * 请求按无租户绑定。这里不注册默认 Bean：普通配置类上的 {@code @ConditionalOnMissingBean}
+     * 依赖 Bean 定义的注册顺序，可能遮蔽或重复用户声明的来源。</p>
+     *
+     * @param sources 应用声明的租户与用户来源
+     * @return 过滤器注册
+     */
+    @Bean
+    public FilterRegistrationBean<RequestContextBindingFilter> requestContextBindingFilter(
+            ObjectProvider<IsolationContextSource> sources) {
+        IsolationContextSource source = sources.getIfAvailable(() -> {
+            log.warn("No IsolationContextSource bean declared, requests are bound without a tenant "
+                    + "and tenant-keyed components treat every request as anonymous");
+            return IsolationContextSource.NONE;
+        });
+        FilterRegistrationBean<RequestContextBindingFilter> registration =
+                new FilterRegistrationBean<>(new RequestContextBindingFilter(source));
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registration;
+    }
+}
+</#noparse>
@@ -0,0 +1,130 @@
+package ${package}.config;
+
+
+import ${package}.support.context.IsolationContextSource;
+import ${package}.support.sharding.TenantRoutingDataSource;
+import ${package}.support.sharding.TenantShardingProperties;
+import ${package}.support.sharding.TenantShards;
+<#noparse>
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 按租户分库数据源配置：默认分片沿用 {@code spring.datasource}，其余分片与路由表见 {@code g2rain.datasource.sharding}。
+ *
+ * <p>对外暴露的 {@link DataSource} 是包装了路由数据源的 {@link LazyConnectionDataSourceProxy}，
+ * 实际连接在第一条语句执行时才获取，生成的 Mapper 无需改动即按当前租户访问对应分片。
+ * 每个分片的连接池以分片名输出 Hikari 指标。</p>
+ *
+ * <p>配置了路由表却没有声明 {@link IsolationContextSource} Bean 时启动失败：此时请求中没有租户，
+ * 无法按租户选择分片。</p>
+ */
+@Configuration
+@EnableConfigurationProperties({DataSourceProperties.class, TenantShardingProperties.class})
+public class TenantShardingConfig {
+
+    /**
+     * 默认分片连接池，绑定 {@code spring.datasource} 与 {@code spring.datasource.hikari}
+     *
+     * @param properties 数据源配置
+     * @return 默认分片连接池配置
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariConfig defaultShardHikariConfig(DataSourceProperties properties) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(properties.determineUrl());
+        config.setUsername(properties.determineUsername());
+        config.setPassword(properties.determinePassword());
+        config.setDriverClassName(properties.determineDriverClassName());
+        return config;
+    }
+
+    /**
+     * 按租户分库的路由数据源
+     *
+     * @param defaultConfig 默认分片连接池配置
+     * @param properties    分库配置
+     * @param registry      指标注册表，未引入 actuator 时使用全局注册表
+     * @param sources       应用声明的租户与用户来源
+     * @return 路由数据源
+     * @throws IllegalStateException 配置了路由表但未声明 {@link IsolationContextSource} Bean 时抛出
+     */
+    @Bean
+    public TenantRoutingDataSource tenantRoutingDataSource(HikariConfig defaultConfig,
+                                                           TenantShardingProperties properties,
+                                                           ObjectProvider<MeterRegistry> registry,
+                                                           ObjectProvider<IsolationContextSource> sources) {
+        if (!properties.routes().isEmpty() && sources.getIfAvailable() == null) {
+            throw new IllegalStateException("g2rain.datasource.sharding.routes is configured but no "
+                    + "IsolationContextSource bean is declared, requests carry no tenant to route by");
+        }
+        MeterRegistry meterRegistry = registry.getIfAvailable(() -> Metrics.globalRegistry);
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        Map<String, HikariDataSource> shards = new LinkedHashMap<>();
+        properties.shards().forEach((name, shard) -> {
+            if (TenantRoutingDataSource.DEFAULT_SHARD.equals(name)) {
+                throw new IllegalArgumentException("Shard name '" + name + "' is reserved for spring.datasource");
+            }
+            // 分片复制默认分片的连接池与驱动参数，只覆盖连接信息
+            HikariConfig config = new HikariConfig();
+            defaultConfig.copyStateTo(config);
+            config.setPoolName(name);
+            config.setJdbcUrl(shard.url());
+            config.setUsername(shard.username());
+            config.setPassword(shard.password());
+            config.setMetricsTrackerFactory(metrics);
+            shards.put(name, new HikariDataSource(config));
+        });
+
+        // 连接池启动后配置即被锁定，因此在复制给其余分片之后再创建默认分片连接池
+        defaultConfig.setPoolName(TenantRoutingDataSource.DEFAULT_SHARD);
+        defaultConfig.setMetricsTrackerFactory(metrics);
+        Map<String, HikariDataSource> ordered = new LinkedHashMap<>();
+        ordered.put(TenantRoutingDataSource.DEFAULT_SHARD, new HikariDataSource(defaultConfig));
+        ordered.putAll(shards);
+
+        return new TenantRoutingDataSource(ordered, properties.routes(), meterRegistry);
+    }
+
+    /**
+     * 应用使用的数据源
+     *
+     * @param routingDataSource 路由数据源
+     * @return 延迟获取连接的数据源代理
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(TenantRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 分片操作工具
+     *
+     * @param routingDataSource 路由数据源
+     * @param properties        分库配置
+     * @return 分片操作工具
+     */
+    @Bean
+    public TenantShards tenantShards(TenantRoutingDataSource routingDataSource, TenantShardingProperties properties) {
+        return new TenantShards(routingDataSource, properties.scatterTimeout());
+    }
+}
+</#noparse>
@@ -0,0 +1,80 @@
+package ${package}.config;
+
+
+import ${package}.support.tracing.ServiceTracingInterceptor;
+import ${package}.support.tracing.StatementTracingInterceptor;
+<#noparse>
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.stereotype.Service;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.List;
+
+/**
+ * 分布式追踪：Service 方法与 Mapper 语句的 span，以及默认的本地导出器。
+ *
+ * <p>HTTP 请求（Tomcat）、Redis 命令（Lettuce）与经 Spring Boot 构建器创建的 HTTP 客户端由
+ * Spring Boot 的 Observation 自动生成 span，并通过 W3C {@code traceparent} 头跨服务传递；
+ * 本配置补齐生成代码内部的两层。采样率见 {@code management.tracing.sampling.probability}。</p>
+ *
+ * <p>未接入采集器时 span 以 OTLP JSON 格式输出到日志（{@code g2rain.tracing.local-exporter}，默认开启），
+ * 接入 OTLP 采集器后可关闭。容器中没有 {@link Tracer} 时（如关闭了追踪）使用 {@link Tracer#NOOP}。</p>
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Mapper 语句 span 拦截器
+     *
+     * @param tracer 追踪器
+     * @return 拦截器
+     */
+    @Bean
+    public StatementTracingInterceptor statementTracingInterceptor(ObjectProvider<Tracer> tracer) {
+        return new StatementTracingInterceptor(tracer.getIfAvailable(() -> Tracer.NOOP));
+    }
+
+    /**
+     * 应用包内 {@code @Service} 类的 span 切面，以基础设施角色注册，无需 AspectJ
+     *
+     * @param beanFactory Bean 工厂，用于读取应用包
+     * @param tracer      追踪器，首次调用时解析，避免切面注册时提前创建
+     * @return 切面
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceTracingAdvisor(BeanFactory beanFactory, ObjectProvider<Tracer> tracer) {
+        List<String> packages = AutoConfigurationPackages.get(beanFactory);
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationClassFilter(Service.class, true))
+                .intersection((ClassFilter) type -> packages.stream().anyMatch(type.getName()::startsWith));
+        return new DefaultPointcutAdvisor(pointcut,
+                new ServiceTracingInterceptor(SingletonSupplier.of(() -> tracer.getIfAvailable(() -> Tracer.NOOP))));
+    }
+
+    /**
+     * 本地 span 导出器，以 OTLP JSON 输出到日志
+     *
+     * @return 导出器
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "g2rain.tracing", name = "local-exporter", havingValue = "true", matchIfMissing = true)
+    public SpanExporter localSpanExporter() {
+        return OtlpJsonLoggingSpanExporter.create();
+    }
+}
+</#noparse>
@@ -0,0 +1,212 @@
+package ${package}.support.batch;
+
+
+<#noparse>
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 合并按主键读取的加载器：把一段时间窗口内的多次 {@link #load(Object)} 合并为一次 {@code IN} 查询，
+ * 消除组合接口中按关联主键逐条查询的 N+1 问题。
+ *
+ * <p>同一主键只查询一次，结果（包括不存在）在加载器生命周期内缓存；加载器通常由 {@link BatchLoaders}
+ * 按请求创建，请求结束即丢弃，因此不存在跨请求的过期数据。</p>
+ *
+ * <p>合并规则：</p>
+ * <ul>
+ *     <li>{@link #load(Object)} 时若没有待查询的主键，调用方等待一个窗口后发起查询，窗口内其他线程
+ *     （如 {@code FanOut} 中 fork 的子任务）加入的主键一并查询；待查询主键达到块大小时立即查询；</li>
+ *     <li>{@link #loadMany(Collection)} 立即查询，适合顺序代码中已知全部主键的场景，
+ *     顺序代码中逐个调用 {@code load} 只会逐个等待窗口，不能合并。</li>
+ * </ul>
+ * <p>查询失败时等待这些主键的调用方都收到同一异常，失败的主键不缓存，下次读取重新查询。</p>
+ *
+ * @param <K> 主键类型，需与 {@code keyOf} 返回值的类型一致（如都为 {@code Long}）
+ * @param <V> 行类型
+ */
+public final class BatchLoader<K, V> {
+
+    private final Function<List<K>, List<V>> query;
+
+    private final Function<? super V, ? extends K> keyOf;
+
+    private final int chunkSize;
+
+    private final long windowNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Map<K, CompletableFuture<V>> results = new HashMap<>();
+
+    private List<K> pending = new ArrayList<>();
+
+    /**
+     * 构造函数
+     *
+     * @param query     按主键批量查询，如 {@code userDao::selectByIds}，按 {@code chunkSize} 分块调用
+     * @param keyOf     从行中取主键，如 {@code User::getId}
+     * @param chunkSize 每次查询的最大主键数
+     * @param window    合并窗口，为零时每次 {@code load} 立即查询已排队的主键
+     */
+    public BatchLoader(Function<List<K>, List<V>> query, Function<? super V, ? extends K> keyOf, int chunkSize,
+                       Duration window) {
+        this.query = query;
+        this.keyOf = keyOf;
+        this.chunkSize = chunkSize;
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * 按主键读取，与窗口内的其他读取合并为一次查询。
+     *
+     * @param key 主键
+     * @return 对应行，不存在时返回 {@code null}
+     */
+    public V load(K key) {
+        Objects.requireNonNull(key, "key");
+        CompletableFuture<V> future;
+        boolean leader = false;
+        boolean full = false;
+        lock.lock();
+        try {
+            future = results.get(key);
+            if (Objects.isNull(future)) {
+                future = new CompletableFuture<>();
+                results.put(key, future);
+                leader = pending.isEmpty();
+                pending.add(key);
+                full = pending.size() >= chunkSize;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (full) {
+            dispatch();
+        } else if (leader) {
+            if (windowNanos > 0) {
+                LockSupport.parkNanos(windowNanos);
+            }
+            dispatch();
+        }
+        return join(future);
+    }
+
+    /**
+     * 批量读取，立即查询尚未缓存的主键（连同其他线程已排队的主键）。
+     *
+     * @param keys 主键，忽略 {@code null}
+     * @return 存在的行，按主键首次出现的顺序排列
+     */
+    public Map<K, V> loadMany(Collection<? extends K> keys) {
+        Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            for (K key : keys) {
+                if (Objects.isNull(key) || futures.containsKey(key)) {
+                    continue;
+                }
+                CompletableFuture<V> future = results.get(key);
+                if (Objects.isNull(future)) {
+                    future = new CompletableFuture<>();
+                    results.put(key, future);
+                    pending.add(key);
+                }
+                futures.put(key, future);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        dispatch();
+        Map<K, V> values = new LinkedHashMap<>();
+        futures.forEach((key, future) -> {
+            V value = join(future);
+            if (Objects.nonNull(value)) {
+                values.put(key, value);
+            }
+        });
+        return values;
+    }
+
+    /**
+     * 清除已缓存的结果，在同一请求中写入后需要重新读取时调用。
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            results.values().removeIf(CompletableFuture::isDone);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void dispatch() {
+        List<K> keys;
+        List<CompletableFuture<V>> futures = new ArrayList<>();
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            keys = pending;
+            pending = new ArrayList<>();
+            for (K key : keys) {
+                futures.add(results.get(key));
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        Map<K, V> found;
+        try {
+            found = HashMap.newHashMap(keys.size());
+            for (V row : InChunks.select(keys, chunkSize, query)) {
+                found.put(keyOf.apply(row), row);
+            }
+        } catch (Throwable e) {
+            // 任何异常（包括 Error 与绕过编译检查的受检异常）都要结束等待中的读取，否则调用方会一直阻塞
+            lock.lock();
+            try {
+                keys.forEach(results::remove);
+            } finally {
+                lock.unlock();
+            }
+            futures.forEach(future -> future.completeExceptionally(e));
+            if (e instanceof Error error) {
+                throw error;
+            }
+            return;
+        }
+
+        for (int i = 0; i < keys.size(); i++) {
+            futures.get(i).complete(found.get(keys.get(i)));
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
+</#noparse>
@@ -0,0 +1,83 @@
+package ${package}.support.batch;
+
+
+<#noparse>
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 按请求创建 {@link BatchLoader}：同一请求内同名的加载器只有一个，请求结束后随请求属性丢弃。
+ *
+ * <p>加载器保存在 {@link RequestContextHolder} 的请求属性中，{@code FanOut} 默认传递请求属性，
+ * 因此 fork 出的子任务与父线程共用同一个加载器，各自的 {@code load} 被合并为一次查询。
+ * 不在请求中（如定时任务）时每次返回新的加载器，只在该实例内去重与缓存。</p>
+ *
+ * <p><b>示例：</b></p>
+ * <pre>{@code
+ * BatchLoader<Long, User> users = batchLoaders.get("user", userDao::selectByIds, User::getId);
+ * try (FanOut.Scope scope = fanOut.open()) {
+ *     Supplier<User> author = scope.fork(() -> users.load(post.getAuthorId()));
+ *     Supplier<User> editor = scope.fork(() -> users.load(post.getEditorId()));
+ *     scope.join();
+ *     ...
+ * }
+ * }</pre>
+ */
+public class BatchLoaders {
+
+    private static final String ATTRIBUTE = BatchLoaders.class.getName();
+
+    private final int chunkSize;
+
+    private final Duration window;
+
+    /**
+     * 构造函数
+     *
+     * @param chunkSize 每次 {@code IN} 查询的最大主键数
+     * @param window    合并窗口
+     */
+    public BatchLoaders(int chunkSize, Duration window) {
+        this.chunkSize = chunkSize;
+        this.window = window;
+    }
+
+    /**
+     * 获取当前请求中指定名称的加载器，不存在时创建。
+     *
+     * @param name  加载器名称，通常为表名；同名加载器的查询函数与行类型必须一致
+     * @param query 按主键批量查询，如 {@code userDao::selectByIds}
+     * @param keyOf 从行中取主键，如 {@code User::getId}
+     * @param <K>   主键类型
+     * @param <V>   行类型
+     * @return 加载器
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> BatchLoader<K, V> get(String name, Function<List<K>, List<V>> query,
+                                        Function<? super V, ? extends K> keyOf) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (Objects.isNull(attributes)) {
+            return new BatchLoader<>(query, keyOf, chunkSize, window);
+        }
+
+        // fork 出的子任务共享同一个请求属性对象，首次创建时可能并发
+        synchronized (attributes) {
+            Map<String, BatchLoader<?, ?>> loaders =
+                    (Map<String, BatchLoader<?, ?>>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (Objects.isNull(loaders)) {
+                loaders = new HashMap<>();
+                attributes.setAttribute(ATTRIBUTE, loaders, RequestAttributes.SCOPE_REQUEST);
+            }
+            return (BatchLoader<K, V>) loaders.computeIfAbsent(name,
+                    key -> new BatchLoader<>(query, keyOf, chunkSize, window));
+        }
+    }
+}
+</#noparse>
@@ -0,0 +1,64 @@
+package ${package}.support.batch;
+
+
+<#noparse>
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 按主键批量查询的分块工具：把主键去重后切分为固定大小的 {@code IN} 列表，逐块调用查询并合并结果。
+ *
+ * <p>过长的 {@code IN} 列表会使语句超出 {@code max_allowed_packet}、让优化器放弃范围扫描，
+ * 并使每个不同长度都成为一条新的预编译语句；分块后每块一次往返，块大小固定时语句可复用。</p>
+ *
+ * <p>查询函数通常为 Mapper XML 中自定义的 {@code selectByIds}：</p>
+ * <pre>{@code
+ * <select id="selectByIds" resultMap="BaseResultMap">
+ *     SELECT * FROM user WHERE id IN
+ *     <foreach collection="ids" item="id" open="(" separator="," close=")">#{id}</foreach>
+ * </select>
+ *
+ * List<User> users = InChunks.select(ids, 500, userDao::selectByIds);
+ * }</pre>
+ */
+public final class InChunks {
+
+    private InChunks() {
+    }
+
+    /**
+     * 分块查询。
+     *
+     * @param ids       主键，忽略 {@code null} 与重复值
+     * @param chunkSize 每块主键数
+     * @param query     单块查询，参数为不超过 {@code chunkSize} 个互不相同的主键
+     * @param <K>       主键类型
+     * @param <T>       行类型
+     * @return 各块结果按块顺序拼接，主键为空时不执行查询并返回空列表
+     */
+    public static <K, T> List<T> select(Collection<? extends K> ids, int chunkSize, Function<List<K>, List<T>> query) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+
+        List<K> distinct = new ArrayList<>(new LinkedHashSet<K>(ids));
+        distinct.removeIf(Objects::isNull);
+        if (distinct.isEmpty()) {
+            return List.of();
+        }
+        if (distinct.size() <= chunkSize) {
+            return query.apply(distinct);
+        }
+
+        List<T> rows = new ArrayList<>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            rows.addAll(query.apply(distinct.subList(from, Math.min(from + chunkSize, distinct.size()))));
+        }
+        return rows;
+    }
+}
+</#noparse>
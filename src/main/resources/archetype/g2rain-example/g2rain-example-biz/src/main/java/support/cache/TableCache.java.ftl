@@ -0,0 +1,196 @@
+package ${package}.support.cache;
+
+
+import ${package}.support.change.TableVersions;
+import ${package}.support.tenant.TenantResolver;
+<#noparse>
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 两级表缓存：本地 Caffeine（L1）+ Redis（L2）。
+ *
+ * <p>缓存键包含表名、租户与 {@link TableVersions} 的版本令牌：</p>
+ * <pre>{@code g2rain:cache:{table}:{tenant}:{versionToken}:{key}}</pre>
+ * <p>写操作不逐个删除缓存键，而是递增版本号：版本令牌变化后旧条目不再被读取，
+ * 随 TTL 与容量淘汰自然清除。</p>
+ *
+ * <p>只有 {@link TableCacheProperties#tables()} 中列出的表会被缓存，其余表的读取直接调用加载函数。
+ * 租户取自已认证的请求上下文，没有已认证租户时（未鉴权、不在请求内）不读写缓存，直接调用加载函数，
+ * 避免加载结果与缓存键属于不同租户。Redis 不可用时退化为直接读库。</p>
+ *
+ * <p>L1 中的对象在多个请求间共享，调用方不应修改返回值。</p>
+ *
+ * <p><b>示例：</b></p>
+ * <pre>{@code
+ * public UserVo selectById(Long id) {
+ *     return tableCache.get("user", id, UserVo.class, () -> converter.toVo(userDao.selectById(id)));
+ * }
+ * }</pre>
+ */
+@Slf4j
+public class TableCache {
+
+    private static final String KEY_PREFIX = "g2rain:cache:";
+
+    private final StringRedisTemplate redis;
+
+    private final JsonMapper jsonMapper;
+
+    private final TableVersions tableVersions;
+
+    private final TenantResolver tenantResolver;
+
+    private final TableCacheProperties properties;
+
+    private final MeterRegistry registry;
+
+    private final Cache<String, Object> local;
+
+    /**
+     * 构造函数
+     *
+     * @param redis          Redis 客户端
+     * @param jsonMapper     L2 序列化使用的 JSON 映射器
+     * @param tableVersions  表版本号
+     * @param tenantResolver 租户解析器
+     * @param properties     缓存配置
+     * @param registry       指标注册表
+     */
+    public TableCache(StringRedisTemplate redis, JsonMapper jsonMapper, TableVersions tableVersions,
+                      TenantResolver tenantResolver, TableCacheProperties properties, MeterRegistry registry) {
+        this.redis = redis;
+        this.jsonMapper = jsonMapper;
+        this.tableVersions = tableVersions;
+        this.tenantResolver = tenantResolver;
+        this.properties = properties;
+        this.registry = registry;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(properties.localMaximumSize())
+                .expireAfterWrite(properties.localTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, local, "g2rain.table.cache.local");
+    }
+
+    /**
+     * 判断表是否启用了缓存。
+     *
+     * @param table 表名（小写）
+     * @return 启用时返回 {@code true}
+     */
+    public boolean caches(String table) {
+        return properties.tables().contains(table);
+    }
+
+    /**
+     * 读取单个对象，未命中时调用加载函数并回填两级缓存；加载结果为 {@code null} 时不缓存。
+     *
+     * @param table  表名（小写）
+     * @param key    业务键，通常为主键
+     * @param type   对象类型
+     * @param loader 加载函数
+     * @param <T>    对象类型
+     * @return 缓存或加载的对象
+     */
+    public <T> T get(String table, Object key, Class<T> type, Supplier<T> loader) {
+        return get(table, key, jsonMapper.getTypeFactory().constructType(type), loader);
+    }
+
+    /**
+     * 读取对象列表，未命中时调用加载函数并回填两级缓存。
+     *
+     * @param table       表名（小写）
+     * @param key         业务键，如查询条件的摘要
+     * @param elementType 元素类型
+     * @param loader      加载函数
+     * @param <E>         元素类型
+     * @return 缓存或加载的列表
+     */
+    public <E> List<E> getList(String table, Object key, Class<E> elementType, Supplier<List<E>> loader) {
+        return get(table, key, jsonMapper.getTypeFactory().constructCollectionType(List.class, elementType), loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(String table, Object key, JavaType type, Supplier<T> loader) {
+        if (!caches(table)) {
+            return loader.get();
+        }
+
+        // 缓存键的租户必须与加载时 MyBatis 实际使用的租户一致，只信任已认证的租户
+        Optional<String> tenant = tenantResolver.current();
+        if (tenant.isEmpty()) {
+            count(table, "bypass");
+            return loader.get();
+        }
+
+        String cacheKey;
+        try {
+            cacheKey = KEY_PREFIX + table + ":" + tenant.get() + ":" + tableVersions.token(table, tenant.get()) + ":" + key;
+        } catch (DataAccessException e) {
+            log.debug("Table cache {} bypassed, redis unavailable", table, e);
+            return loader.get();
+        }
+
+        Object cached = local.getIfPresent(cacheKey);
+        if (Objects.nonNull(cached)) {
+            count(table, "local");
+            return (T) cached;
+        }
+
+        String json = readRemote(cacheKey);
+        if (Objects.nonNull(json)) {
+            T value = jsonMapper.readValue(json, type);
+            local.put(cacheKey, value);
+            count(table, "remote");
+            return value;
+        }
+
+        count(table, "miss");
+        T value = loader.get();
+        if (Objects.nonNull(value)) {
+            local.put(cacheKey, value);
+            writeRemote(cacheKey, jsonMapper.writeValueAsString(value));
+        }
+        return value;
+    }
+
+    private String readRemote(String cacheKey) {
+        try {
+            return redis.opsForValue().get(cacheKey);
+        } catch (DataAccessException e) {
+            log.debug("Failed to read {} from redis", cacheKey, e);
+            return null;
+        }
+    }
+
+    private void writeRemote(String cacheKey, String json) {
+        try {
+            redis.opsForValue().set(cacheKey, json, properties.remoteTtl());
+        } catch (DataAccessException e) {
+            log.debug("Failed to write {} to redis", cacheKey, e);
+        }
+    }
+
+    private void count(String table, String result) {
+        Counter.builder("g2rain.table.cache.gets")
+                .description("Table cache lookups by the level that served them")
+                .tags("table", table, "result", result)
+                .register(registry)
+                .increment();
+    }
+}
+</#noparse>
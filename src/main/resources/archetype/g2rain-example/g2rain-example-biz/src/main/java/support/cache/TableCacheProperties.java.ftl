@@ -0,0 +1,27 @@
+package ${package}.support.cache;
+
+
+<#noparse>
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 两级表缓存配置，前缀 {@code g2rain.cache}。
+ *
+ * @param tables           启用缓存的表名（小写），未列出的表直接读库
+ * @param localMaximumSize 本地 L1 缓存的最大条目数
+ * @param localTtl         本地 L1 缓存条目的存活时间
+ * @param remoteTtl        Redis L2 缓存条目的存活时间
+ */
+@ConfigurationProperties(prefix = "g2rain.cache")
+public record TableCacheProperties(
+        @DefaultValue Set<String> tables,
+        @DefaultValue("10000") long localMaximumSize,
+        @DefaultValue("30s") Duration localTtl,
+        @DefaultValue("10m") Duration remoteTtl
+) {
+}
+</#noparse>
@@ -0,0 +1,104 @@
+package ${package}.support.change;
+
+
+import ${package}.support.mybatis.MappedStatements;
+import ${package}.support.tenant.TenantResolver;
+<#noparse>
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 表变更拦截器：生成的 insert / update / delete 方法执行后递增对应表的版本号（见 {@link TableVersions}），
+ * 表缓存与 ETag 随之失效。
+ *
+ * <p>受影响的租户优先从语句参数的租户列读取；参数不含租户列但语句作用于租户表且未跳过隔离时，
+ * 使用当前请求的租户；都无法确定时递增表级版本。</p>
+ *
+ * <p>在事务中执行时，除立即递增外还会在提交后再递增一次，避免提交前被并发读取以新版本号回填旧数据；
+ * 同一事务内对同一表、同一租户的重复写入只递增一次。</p>
+ */
+@Intercepts(@Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}))
+public class TableChangeInterceptor implements Interceptor {
+
+    private static final Object INVALIDATED_KEY = new Object();
+
+    private final TableVersions tableVersions;
+
+    private final TenantResolver tenantResolver;
+
+    /**
+     * 构造函数
+     *
+     * @param tableVersions  表版本号
+     * @param tenantResolver 租户解析器
+     */
+    public TableChangeInterceptor(TableVersions tableVersions, TenantResolver tenantResolver) {
+        this.tableVersions = tableVersions;
+        this.tenantResolver = tenantResolver;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        Object parameter = invocation.getArgs()[1];
+        String table = MappedStatements.table(ms, parameter);
+        if (!tableVersions.tracks(table)) {
+            return result;
+        }
+
+        String tenant = tenantResolver.of(ms, parameter).or(() -> currentTenant(ms, parameter)).orElse(null);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tableVersions.bump(table, tenant);
+            return result;
+        }
+
+        // 同一事务内对同一表、同一租户的多次写入（如批量写入）只递增一次
+        if (invalidated().add(table + ":" + tenant)) {
+            tableVersions.bump(table, tenant);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tableVersions.bump(table, tenant);
+                }
+            });
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> invalidated() {
+        Set<String> invalidated = (Set<String>) TransactionSynchronizationManager.getResource(INVALIDATED_KEY);
+        if (Objects.isNull(invalidated)) {
+            invalidated = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(INVALIDATED_KEY, invalidated);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(INVALIDATED_KEY);
+                }
+            });
+        }
+        return invalidated;
+    }
+
+    private Optional<String> currentTenant(MappedStatement ms, Object parameter) {
+        if (MappedStatements.withoutIsolation(ms) || !MappedStatements.tenantScoped(ms, parameter, tenantResolver.columns())) {
+            return Optional.empty();
+        }
+        return tenantResolver.current();
+    }
+}
+</#noparse>
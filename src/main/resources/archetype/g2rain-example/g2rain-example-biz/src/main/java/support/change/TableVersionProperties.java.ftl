@@ -0,0 +1,22 @@
+package ${package}.support.change;
+
+
+<#noparse>
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 表版本号配置，前缀 {@code g2rain.table-version}。
+ *
+ * @param localTtl 本地持有版本号的时间，也是错过变更广播时读到旧版本号的最长时间
+ * @param topic    版本号变更广播使用的 Redis 频道
+ */
+@ConfigurationProperties(prefix = "g2rain.table-version")
+public record TableVersionProperties(
+        @DefaultValue("30s") Duration localTtl,
+        @DefaultValue("g2rain:table-version") String topic
+) {
+}
+</#noparse>
@@ -0,0 +1,166 @@
+package ${package}.support.change;
+
+
+<#noparse>
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 按表、按租户的数据版本号，保存在 Redis 中，任何写操作都会使其递增（见 {@link TableChangeInterceptor}）。
+ *
+ * <p>每张表有两级版本号：表级版本在无法确定租户的写入时递增，使所有租户的数据视为已变化；
+ * 租户版本在已知租户的写入时递增。{@link #token(String, String)} 把两者组合为一个字符串，
+ * 表缓存用它构造缓存键，条件请求用它构造 ETag —— 只要令牌不变，该租户在这张表上的数据就没有变化。</p>
+ *
+ * <p>版本号在本地缓存 {@link TableVersionProperties#localTtl()}，变更后经 Redis pub/sub 广播，
+ * 各实例收到后立即更新本地值。只有被跟踪的表（启用了缓存、ETag 或字典表的表）才维护版本号。</p>
+ *
+ * <p>需要在表变化时主动刷新的组件（如字典表快照）可通过 {@link #addListener(Consumer)} 订阅，
+ * 本实例的写入与其他实例的广播都会通知，同一次写入可能通知多次，订阅方应自行合并。</p>
+ */
+@Slf4j
+public class TableVersions {
+
+    /**
+     * 不带租户的读取使用的租户占位值
+     */
+    public static final String NO_TENANT = "_";
+
+    private static final String KEY_PREFIX = "g2rain:table-version:";
+
+    private final StringRedisTemplate redis;
+
+    private final Set<String> tables;
+
+    private final String topic;
+
+    private final Cache<String, Long> versions;
+
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 构造函数
+     *
+     * @param redis      Redis 客户端
+     * @param tables     跟踪的表名（小写）
+     * @param properties 版本号配置
+     */
+    public TableVersions(StringRedisTemplate redis, Set<String> tables, TableVersionProperties properties) {
+        this.redis = redis;
+        this.tables = Set.copyOf(tables);
+        this.topic = properties.topic();
+        this.versions = Caffeine.newBuilder().expireAfterWrite(properties.localTtl()).build();
+    }
+
+    /**
+     * 订阅被跟踪表的变更。
+     *
+     * @param listener 变更回调，参数为表名（小写），在写入线程或 Redis 订阅线程中执行，不应阻塞
+     */
+    public void addListener(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 判断表是否被跟踪。
+     *
+     * @param table 表名（小写）
+     * @return 跟踪时返回 {@code true}
+     */
+    public boolean tracks(String table) {
+        return tables.contains(table);
+    }
+
+    /**
+     * 当前版本令牌，格式为 {@code 表级版本.租户版本}。
+     *
+     * @param table  表名（小写）
+     * @param tenant 租户，{@code null} 表示不带租户的读取
+     * @return 版本令牌
+     * @throws DataAccessException 本地没有版本号且 Redis 不可用时抛出
+     */
+    public String token(String table, String tenant) {
+        return version(key(table)) + "." + version(key(table, Objects.requireNonNullElse(tenant, NO_TENANT)));
+    }
+
+    /**
+     * 记录一次写入：递增版本号并广播给其他实例。Redis 不可用时只清除本地版本号并输出警告。
+     *
+     * @param table  表名（小写）
+     * @param tenant 受影响的租户，{@code null} 表示无法确定租户，递增表级版本
+     */
+    public void bump(String table, String tenant) {
+        if (!tracks(table)) {
+            return;
+        }
+
+        // 不带租户的读取（如后台任务）可能包含任意租户的数据，因此租户写入同时递增其版本
+        List<String> keys = Objects.isNull(tenant) ? List.of(key(table)) : List.of(key(table, tenant), key(table, NO_TENANT));
+        for (String key : keys) {
+            try {
+                Long version = redis.opsForValue().increment(key);
+                if (Objects.nonNull(version)) {
+                    versions.asMap().merge(key, version, Math::max);
+                    redis.convertAndSend(topic, key + "=" + version);
+                }
+            } catch (DataAccessException e) {
+                versions.invalidate(key);
+                log.warn("Failed to bump table version {}", key, e);
+            }
+        }
+        notifyListeners(table);
+    }
+
+    /**
+     * 处理其他实例广播的变更消息，消息格式为 {@code key=version}。
+     *
+     * @param message 变更消息
+     */
+    public void onChange(String message) {
+        int separator = message.lastIndexOf('=');
+        if (separator < 0) {
+            return;
+        }
+        String key = message.substring(0, separator);
+        versions.asMap().merge(key, Long.parseLong(message.substring(separator + 1)), Math::max);
+        if (key.startsWith(KEY_PREFIX)) {
+            int end = key.indexOf(':', KEY_PREFIX.length());
+            notifyListeners(end < 0 ? key.substring(KEY_PREFIX.length()) : key.substring(KEY_PREFIX.length(), end));
+        }
+    }
+
+    private void notifyListeners(String table) {
+        for (Consumer<String> listener : listeners) {
+            try {
+                listener.accept(table);
+            } catch (RuntimeException e) {
+                log.warn("Table change listener failed for {}", table, e);
+            }
+        }
+    }
+
+    private long version(String key) {
+        return versions.get(key, k -> {
+            String value = redis.opsForValue().get(k);
+            return Objects.isNull(value) ? 0L : Long.parseLong(value);
+        });
+    }
+
+    private static String key(String table) {
+        return KEY_PREFIX + table;
+    }
+
+    private static String key(String table, String tenant) {
+        return KEY_PREFIX + table + ":" + tenant;
+    }
+}
+</#noparse>
@@ -0,0 +1,99 @@
+package ${package}.support.concurrent;
+
+
+<#noparse>
+import org.slf4j.MDC;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 将发起 fork 的线程上的 ThreadLocal 上下文传递到子任务线程。
+ *
+ * <p>{@link ScopedValue} 绑定（请求上下文 {@code RequestContext}、读写分离路由、导出 fetch size 等）由 {@code StructuredTaskScope}
+ * 自动继承，无需传递；ThreadLocal 上下文则需要在此声明。注册为 Bean 即对 {@link FanOut} 生效，
+ * 例如自定义的数据隔离上下文。</p>
+ *
+ * <p><b>示例：</b></p>
+ * <pre>{@code
+ * @Bean
+ * public ContextPropagator isolationPropagator() {
+ *     return () -> {
+ *         IsolationContext context = IsolationContextHolder.get();
+ *         return () -> {
+ *             IsolationContextHolder.set(context);
+ *             return IsolationContextHolder::clear;
+ *         };
+ *     };
+ * }
+ * }</pre>
+ */
+@FunctionalInterface
+public interface ContextPropagator {
+
+    /**
+     * 在发起 fork 的线程中捕获上下文。
+     *
+     * @return 在子任务线程中安装上下文的动作
+     */
+    Installer capture();
+
+    /**
+     * 在子任务线程中安装已捕获的上下文。
+     */
+    @FunctionalInterface
+    interface Installer {
+
+        /**
+         * 安装上下文。
+         *
+         * @return 子任务结束后恢复上下文的动作
+         */
+        Runnable install();
+    }
+
+    /**
+     * 传递当前请求（{@link RequestContextHolder}）与区域设置（{@link LocaleContextHolder}），
+     * 子任务中直接读取 {@code HttpServletRequest} 的逻辑因此与调用方一致。
+     *
+     * <p>子任务在调用方 join 之前结束，请求对象在其生命周期内有效。</p>
+     *
+     * @return 请求上下文传递器
+     */
+    static ContextPropagator requestAttributes() {
+        return () -> {
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            LocaleContext locale = LocaleContextHolder.getLocaleContext();
+            return () -> {
+                RequestContextHolder.setRequestAttributes(attributes);
+                LocaleContextHolder.setLocaleContext(locale);
+                return () -> {
+                    RequestContextHolder.resetRequestAttributes();
+                    LocaleContextHolder.resetLocaleContext();
+                };
+            };
+        };
+    }
+
+    /**
+     * 传递日志 MDC（如 traceId），子任务的日志与调用方可关联。
+     *
+     * @return MDC 传递器
+     */
+    static ContextPropagator mdc() {
+        return () -> {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            return () -> {
+                if (Objects.nonNull(context)) {
+                    MDC.setContextMap(context);
+                }
+                return MDC::clear;
+            };
+        };
+    }
+}
+</#noparse>
@@ -0,0 +1,184 @@
+package ${package}.support.concurrent;
+
+
+<#noparse>
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * 基于结构化并发（{@link StructuredTaskScope}）与虚拟线程的 fork / join 并发查询。
+ *
+ * <p>聚合接口需要联合 3~5 张表或服务的数据时，顺序调用的耗时为各调用之和，并发后约为其中最慢的一个：</p>
+ * <ul>
+ *     <li>每个子任务在独立的虚拟线程上执行；</li>
+ *     <li>任一子任务失败时取消其余子任务，并原样抛出该异常（受检异常包装为 {@link IllegalStateException}）；</li>
+ *     <li>超过截止时间时取消全部子任务并抛出 {@link IllegalStateException}；</li>
+ *     <li>租户 / 用户上下文（{@code RequestContext}）等 {@link ScopedValue} 绑定自动继承，
+ *     请求、MDC 等 ThreadLocal 上下文经 {@link ContextPropagator} 传递。</li>
+ * </ul>
+ *
+ * <p>子任务不参与调用方的事务：它们使用各自的连接，看不到调用方事务中未提交的写入，
+ * 因此只用于读取；在只读事务内 fork 的查询同样不在该事务中执行。</p>
+ *
+ * <p>{@link StructuredTaskScope} 在 JDK 25 中仍为预览 API，编译与运行均需 {@code --enable-preview}（骨架已配置）。</p>
+ *
+ * <p><b>示例：</b></p>
+ * <pre>{@code
+ * public UserDetailVo detail(Long id) {
+ *     try (FanOut.Scope scope = fanOut.open()) {
+ *         Supplier<UserVo> user = scope.fork(() -> userService.selectById(id));
+ *         Supplier<List<RoleVo>> roles = scope.fork(() -> roleService.selectByUserId(id));
+ *         Supplier<List<OrganVo>> organs = scope.fork(() -> organService.selectByUserId(id));
+ *         scope.join();
+ *         return new UserDetailVo(user.get(), roles.get(), organs.get());
+ *     }
+ * }
+ * }</pre>
+ */
+public class FanOut {
+
+    private final Duration deadline;
+
+    private final List<ContextPropagator> propagators;
+
+    /**
+     * 构造函数
+     *
+     * @param deadline    默认截止时间
+     * @param propagators 上下文传递器，按顺序安装
+     */
+    public FanOut(Duration deadline, List<ContextPropagator> propagators) {
+        this.deadline = deadline;
+        this.propagators = List.copyOf(propagators);
+    }
+
+    /**
+     * 以默认截止时间打开作用域。
+     *
+     * @return 作用域，需在 try-with-resources 中使用
+     */
+    public Scope open() {
+        return open(deadline);
+    }
+
+    /**
+     * 以指定截止时间打开作用域。
+     *
+     * @param deadline 截止时间，从打开时开始计算
+     * @return 作用域，需在 try-with-resources 中使用
+     */
+    public Scope open(Duration deadline) {
+        return new Scope(StructuredTaskScope.open(StructuredTaskScope.Joiner.awaitAllSuccessfulOrThrow(),
+                configuration -> configuration.withTimeout(deadline).withName("fan-out")), deadline);
+    }
+
+    /**
+     * 并发执行两个任务并合并结果。
+     *
+     * @param first    第一个任务
+     * @param second   第二个任务
+     * @param combiner 合并函数
+     * @param <A>      第一个任务的结果类型
+     * @param <B>      第二个任务的结果类型
+     * @param <R>      合并结果类型
+     * @return 合并结果
+     */
+    public <A, B, R> R all(Callable<A> first, Callable<B> second, BiFunction<? super A, ? super B, ? extends R> combiner) {
+        try (Scope scope = open()) {
+            Supplier<A> a = scope.fork(first);
+            Supplier<B> b = scope.fork(second);
+            scope.join();
+            return combiner.apply(a.get(), b.get());
+        }
+    }
+
+    /**
+     * 并发执行一组同类任务。
+     *
+     * @param tasks 任务
+     * @param <T>   结果类型
+     * @return 结果，顺序与任务一致
+     */
+    public <T> List<T> all(List<? extends Callable<? extends T>> tasks) {
+        try (Scope scope = open()) {
+            List<Supplier<? extends T>> results = new ArrayList<>(tasks.size());
+            tasks.forEach(task -> results.add(scope.fork(task)));
+            scope.join();
+            return results.stream().<T>map(Supplier::get).toList();
+        }
+    }
+
+    private <T> Callable<T> propagate(Callable<T> task) {
+        List<ContextPropagator.Installer> installers = propagators.stream().map(ContextPropagator::capture).toList();
+        return () -> {
+            List<Runnable> restorers = new ArrayList<>(installers.size());
+            try {
+                installers.forEach(installer -> restorers.add(installer.install()));
+                return task.call();
+            } finally {
+                restorers.reversed().forEach(Runnable::run);
+            }
+        };
+    }
+
+    /**
+     * 一次 fork / join 的作用域，关闭时取消仍在执行的子任务并等待其结束。
+     */
+    public final class Scope implements AutoCloseable {
+
+        private final StructuredTaskScope<Object, Void> scope;
+
+        private final Duration deadline;
+
+        private Scope(StructuredTaskScope<Object, Void> scope, Duration deadline) {
+            this.scope = scope;
+            this.deadline = deadline;
+        }
+
+        /**
+         * 在新的虚拟线程上执行任务，需在 {@link #join()} 之前调用。
+         *
+         * @param task 任务
+         * @param <T>  结果类型
+         * @return 结果，{@link #join()} 成功返回后可读取
+         */
+        public <T> Supplier<T> fork(Callable<? extends T> task) {
+            StructuredTaskScope.Subtask<? extends T> subtask = scope.fork(propagate(task));
+            return subtask::get;
+        }
+
+        /**
+         * 等待全部子任务完成。
+         *
+         * @throws RuntimeException      任一子任务抛出的非受检异常
+         * @throws IllegalStateException 子任务抛出受检异常、超过截止时间或等待被中断
+         */
+        public void join() {
+            try {
+                scope.join();
+            } catch (StructuredTaskScope.FailedException e) {
+                switch (e.getCause()) {
+                    case RuntimeException cause -> throw cause;
+                    case Error cause -> throw cause;
+                    case Throwable cause -> throw new IllegalStateException(cause);
+                }
+            } catch (StructuredTaskScope.TimeoutException e) {
+                throw new IllegalStateException("Fan-out exceeded deadline " + deadline, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Fan-out interrupted", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            scope.close();
+        }
+    }
+}
+</#noparse>
@@ -0,0 +1,46 @@
+package ${package}.support.context;
+
+
+<#noparse>
+import java.util.Optional;
+
+/**
+ * 已认证的租户与用户来源，{@link RequestContextBindingFilter} 从中填充 {@link RequestContext}。
+ *
+ * <p>租户必须来自鉴权后的数据隔离上下文（即 MyBatis 租户条件实际使用的上下文），不能读取客户端可任意设置的请求头，
+ * 否则按租户区分的缓存、限流、分库路由等都可以被伪造。将 starter 的隔离上下文适配为 Bean 即可
+ * （上下文类名以所用 starter 版本为准）：</p>
+ * <pre>{@code
+ * @Bean
+ * public IsolationContextSource isolationContextSource() {
+ *     return () -> Optional.ofNullable(IsolationContextHolder.get())
+ *             .map(context -> new IsolationContextSource.Identity(context.getTenantId(), context.getUserId()));
+ * }
+ * }</pre>
+ * <p>未声明时使用 {@link #NONE}：请求上下文中没有租户，按租户区分的组件按"无租户"处理（缓存旁路、按客户端限流等）。</p>
+ */
+@FunctionalInterface
+public interface IsolationContextSource {
+
+    /**
+     * 不提供租户与用户
+     */
+    IsolationContextSource NONE = Optional::empty;
+
+    /**
+     * 当前线程上已认证的租户与用户。
+     *
+     * @return 身份，未认证时为空
+     */
+    Optional<Identity> current();
+
+    /**
+     * 已认证的身份
+     *
+     * @param tenant 租户标识，可为 {@code null}
+     * @param user   用户标识，可为 {@code null}
+     */
+    record Identity(String tenant, String user) {
+    }
+}
+</#noparse>
@@ -0,0 +1,67 @@
+package ${package}.support.context;
+
+
+<#noparse>
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 当前请求的租户与用户上下文。
+ *
+ * <p>由 {@link RequestContextBindingFilter} 在每个请求开始时从已认证的 {@link IsolationContextSource} 绑定到
+ * {@link #CURRENT}，请求结束即失效：</p>
+ * <ul>
+ *     <li>不可变，绑定后不需要 {@code remove()}，不存在 ThreadLocal 遗漏清理导致的串租户或泄漏；</li>
+ *     <li>不在线程上创建 ThreadLocalMap，每个请求一个虚拟线程时没有额外的每线程分配；</li>
+ *     <li>{@code StructuredTaskScope} 的子任务自动继承，无需手动传递。</li>
+ * </ul>
+ * <p>这是生成代码（缓存、ETag、限流、语句指标等）读取租户的只读视图。MyBatis 租户条件仍由 starter 的
+ * ThreadLocal 隔离上下文驱动，本类不会开启或关闭租户过滤；跨租户读取需调用生成的 {@code *WithoutIsolation} 方法。</p>
+ *
+ * @param tenant      已认证的租户标识，未认证时为 {@code null}
+ * @param user        已认证的用户标识，未认证时为 {@code null}
+ * @param crossTenant 调用方声明的跨租户代码段标记，仅作为语句指标 {@code isolation} 标签的提示，
+ *                    见 {@link #markCrossTenant(ScopedValue.CallableOp)}
+ */
+public record RequestContext(String tenant, String user, boolean crossTenant) {
+
+    /**
+     * 当前请求上下文，在请求处理期间绑定
+     */
+    public static final ScopedValue<RequestContext> CURRENT = ScopedValue.newInstance();
+
+    /**
+     * 当前请求上下文。
+     *
+     * @return 上下文，不在请求内时为空
+     */
+    public static Optional<RequestContext> current() {
+        return CURRENT.isBound() ? Optional.of(CURRENT.get()) : Optional.empty();
+    }
+
+    /**
+     * 将一段代码标记为跨租户，其中执行的语句在指标中的 {@code isolation} 标签为 {@code off}。
+     *
+     * <p>只影响指标，不关闭 starter 的租户过滤：标记内调用普通 Mapper 方法仍只读到当前租户的数据。</p>
+     *
+     * @param op  操作
+     * @param <T> 结果类型
+     * @param <X> 操作抛出的异常类型
+     * @return 操作结果
+     * @throws X 操作抛出的异常
+     */
+    public static <T, X extends Throwable> T markCrossTenant(ScopedValue.CallableOp<? extends T, X> op) throws X {
+        RequestContext context = current().orElseGet(() -> new RequestContext(null, null, false));
+        return ScopedValue.where(CURRENT, new RequestContext(context.tenant(), context.user(), true)).call(op);
+    }
+
+    /**
+     * 是否携带租户标识
+     *
+     * @return 携带时返回 {@code true}
+     */
+    public boolean hasTenant() {
+        return Objects.nonNull(tenant) && !tenant.isBlank();
+    }
+}
+</#noparse>
@@ -0,0 +1,61 @@
+package ${package}.support.context;
+
+
+<#noparse>
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 为每个请求绑定 {@link RequestContext}。
+ *
+ * <p>租户与用户取自 {@link IsolationContextSource}，即鉴权后的数据隔离上下文，不读取请求头；
+ * 来源为空时绑定无租户的上下文。过滤器在鉴权过滤器之后执行，错误分发与异步分发同样绑定。</p>
+ */
+public class RequestContextBindingFilter extends OncePerRequestFilter {
+
+    private final IsolationContextSource source;
+
+    /**
+     * 构造函数
+     *
+     * @param source 已认证的租户与用户来源
+     */
+    public RequestContextBindingFilter(IsolationContextSource source) {
+        this.source = source;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain) throws ServletException, IOException {
+        RequestContext context = source.current()
+                .map(identity -> new RequestContext(identity.tenant(), identity.user(), false))
+                .orElseGet(() -> new RequestContext(null, null, false));
+        try {
+            ScopedValue.where(RequestContext.CURRENT, context).call(() -> {
+                chain.doFilter(request, response);
+                return null;
+            });
+        } catch (IOException | ServletException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return false;
+    }
+}
+</#noparse>
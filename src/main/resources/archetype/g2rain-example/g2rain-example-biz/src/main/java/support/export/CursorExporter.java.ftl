@@ -0,0 +1,243 @@
+package ${package}.support.export;
+
+
+import ${package}.support.context.RequestContext;
+import ${package}.support.mybatis.MappedStatements;
+<#noparse>
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+/**
+ * 流式导出：以 MyBatis {@link Cursor} 逐行读取，直接写入输出流，内存占用与行数无关。
+ *
+ * <p>导出复用生成的列表查询语句（如 {@code UserDao.selectList}），因此查询 DTO 的过滤条件与列表接口一致。
+ * 查询执行期间 {@link #STATEMENT} 被绑定，{@link FetchSizeInterceptor} 据此为语句设置 fetch size，
+ * 配合数据源的 {@code useCursorFetch=true} 使用 MySQL 服务端游标分批拉取，并记录实际执行的 SQL。</p>
+ *
+ * <p>游标查询走 {@code Executor#queryCursor}，只拦截 {@code Executor#query} 的隔离拦截器不会为其追加租户条件。
+ * 因此请求携带租户、语句作用于租户表且不是 {@code *WithoutIsolation} 方法时，写出任何数据之前先核对实际执行的 SQL
+ * 已绑定当前租户（参数值或 {@code = 租户} 字面量），否则抛出 {@link IllegalStateException}。</p>
+ *
+ * <p>CSV 的列取自第一行，之后每行按相同的列取值，缺少的列为空；以 {@code = + - @}、制表符或回车开头的文本
+ * 前加 {@code '}，避免在电子表格中被当作公式执行。</p>
+ *
+ * <p>导出在调用线程上同步执行；请求由虚拟线程处理，阻塞写出不会占用平台线程。
+ * 整个导出期间占用一个数据库连接。</p>
+ *
+ * <p><b>示例：</b></p>
+ * <pre>{@code
+ * @GetMapping(value = "/export", params = "format=ndjson")
+ * public void export(UserDto query, HttpServletResponse response) throws IOException {
+ *     response.setContentType(CursorExporter.Format.NDJSON.getContentType());
+ *     cursorExporter.export(UserDao.class, "selectList", query, CursorExporter.Format.NDJSON, response.getOutputStream());
+ * }
+ * }</pre>
+ */
+public class CursorExporter {
+
+    /**
+     * 当前导出语句的 fetch size 与实际执行的 SQL，仅在导出查询执行期间绑定
+     */
+    static final ScopedValue<ExportStatement> STATEMENT = ScopedValue.newInstance();
+
+    private static final TypeReference<Map<String, Object>> ROW_TYPE = new TypeReference<>() {
+    };
+
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    /**
+     * 导出格式
+     */
+    public enum Format {
+
+        /**
+         * 每行一个 JSON 对象
+         */
+        NDJSON("application/x-ndjson"),
+
+        /**
+         * 首行为列名的 CSV，列名取自第一行对象的属性
+         */
+        CSV("text/csv");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        /**
+         * 响应的 Content-Type
+         *
+         * @return Content-Type
+         */
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    private final SqlSessionFactory sqlSessionFactory;
+
+    private final JsonMapper jsonMapper;
+
+    private final int fetchSize;
+
+    private final Collection<String> tenantColumns;
+
+    /**
+     * 构造函数
+     *
+     * @param sqlSessionFactory 会话工厂
+     * @param jsonMapper        JSON 映射器
+     * @param fetchSize         每次从服务端游标拉取的行数
+     * @param tenantColumns     租户列（下划线命名），用于识别租户表
+     */
+    public CursorExporter(SqlSessionFactory sqlSessionFactory, JsonMapper jsonMapper, int fetchSize,
+                          Collection<String> tenantColumns) {
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.jsonMapper = jsonMapper;
+        this.fetchSize = fetchSize;
+        this.tenantColumns = List.copyOf(tenantColumns);
+    }
+
+    /**
+     * 执行 Mapper 查询语句并流式写出结果。
+     *
+     * @param mapperType Mapper 接口
+     * @param method     查询方法名，如 {@code selectList}
+     * @param query      查询参数，与列表接口相同的查询 DTO
+     * @param format     导出格式
+     * @param out        输出流，导出结束后不关闭
+     * @return 导出行数
+     * @throws IOException           写出失败时抛出
+     * @throws IllegalStateException 租户表的游标查询没有按当前租户过滤时抛出，此时尚未写出任何数据
+     */
+    public long export(Class<?> mapperType, String method, Object query, Format format, OutputStream out) throws IOException {
+        String statement = mapperType.getName() + "." + method;
+        ExportStatement export = new ExportStatement(fetchSize, new AtomicReference<>());
+        try (SqlSession session = sqlSessionFactory.openSession();
+             Cursor<Object> cursor = ScopedValue.where(STATEMENT, export).call(() -> session.selectCursor(statement, query))) {
+            checkIsolation(session.getConfiguration().getMappedStatement(statement), query, export.prepared().get());
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            long rows = format == Format.NDJSON ? writeNdjson(cursor, writer) : writeCsv(cursor, writer);
+            writer.flush();
+            return rows;
+        }
+    }
+
+    private void checkIsolation(MappedStatement ms, Object query, BoundSql prepared) {
+        Optional<String> tenant = RequestContext.current().filter(RequestContext::hasTenant).map(RequestContext::tenant);
+        if (tenant.isEmpty() || MappedStatements.withoutIsolation(ms)
+                || !MappedStatements.tenantScoped(ms, query, tenantColumns)) {
+            return;
+        }
+        if (Objects.isNull(prepared) || !boundToTenant(ms.getConfiguration(), prepared, tenant.get())) {
+            throw new IllegalStateException("Cursor query " + ms.getId() + " is not filtered by the current tenant, "
+                    + "the isolation interceptor must also intercept Executor#queryCursor");
+        }
+    }
+
+    /**
+     * 判断 SQL 是否绑定了租户：某个参数值等于租户，或 SQL 中有 {@code = 租户} 字面量。
+     *
+     * @param configuration MyBatis 配置
+     * @param boundSql      实际执行的 SQL
+     * @param tenant        租户标识
+     * @return 绑定时返回 {@code true}
+     */
+    static boolean boundToTenant(Configuration configuration, BoundSql boundSql, String tenant) {
+        for (Object value : MappedStatements.parameterValues(configuration, boundSql.getParameterObject(), boundSql)) {
+            if (Objects.nonNull(value) && tenant.equals(String.valueOf(value))) {
+                return true;
+            }
+        }
+        return Pattern.compile("=\\s*'?" + Pattern.quote(tenant) + "'?(?![\\w'])").matcher(boundSql.getSql()).find();
+    }
+
+    private long writeNdjson(Iterable<Object> cursor, Writer writer) throws IOException {
+        long rows = 0;
+        SequenceWriter sequence = jsonMapper.writer().withRootValueSeparator("\n").writeValues(writer);
+        for (Object row : cursor) {
+            sequence.write(row);
+            rows++;
+        }
+        sequence.flush();
+        if (rows > 0) {
+            writer.write('\n');
+        }
+        return rows;
+    }
+
+    long writeCsv(Iterable<?> cursor, Writer writer) throws IOException {
+        long rows = 0;
+        List<String> header = List.of();
+        for (Object row : cursor) {
+            Map<String, Object> values = jsonMapper.convertValue(row, ROW_TYPE);
+            if (rows == 0) {
+                header = List.copyOf(values.keySet());
+                writeCsvLine(writer, header);
+            }
+            // 各行序列化出的属性可能不同（如省略 null），按表头取值以免列错位
+            writeCsvLine(writer, header.stream().map(values::get).toList());
+            rows++;
+        }
+        return rows;
+    }
+
+    private static void writeCsvLine(Writer writer, Iterable<?> values) throws IOException {
+        boolean first = true;
+        for (Object value : values) {
+            if (!first) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(value));
+            first = false;
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escapeCsv(Object value) {
+        if (Objects.isNull(value)) {
+            return "";
+        }
+        String text = String.valueOf(value);
+        if (!(value instanceof Number) && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * 导出语句的设置与实际执行的 SQL
+     *
+     * @param fetchSize 每次从服务端游标拉取的行数
+     * @param prepared  语句创建后由 {@link FetchSizeInterceptor} 写入
+     */
+    record ExportStatement(int fetchSize, AtomicReference<BoundSql> prepared) {
+    }
+}
+</#noparse>
@@ -0,0 +1,33 @@
+package ${package}.support.export;
+
+
+<#noparse>
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * 在 {@link CursorExporter#STATEMENT} 绑定期间为新建的语句设置 fetch size，并记录实际执行的 SQL 供导出核对租户条件；
+ * 其余语句保持驱动默认行为。
+ */
+@Intercepts(@Signature(type = StatementHandler.class, method = "prepare", args = {Connection.class, Integer.class}))
+public class FetchSizeInterceptor implements Interceptor {
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        if (CursorExporter.STATEMENT.isBound() && result instanceof Statement statement) {
+            CursorExporter.ExportStatement export = CursorExporter.STATEMENT.get();
+            statement.setFetchSize(export.fetchSize());
+            // 在其余拦截器改写 SQL 之后读取
+            export.prepared().set(((StatementHandler) invocation.getTarget()).getBoundSql());
+        }
+        return result;
+    }
+}
+</#noparse>
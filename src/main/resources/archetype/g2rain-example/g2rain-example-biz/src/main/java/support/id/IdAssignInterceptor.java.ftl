@@ -0,0 +1,81 @@
+package ${package}.support.id;
+
+
+import ${package}.support.mybatis.MappedStatements;
+<#noparse>
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 主键填充拦截器：生成的 insert 方法执行前，为主键属性为 {@code null} 的实体填充 {@link SnowflakeIdGenerator} 生成的主键。
+ *
+ * <p>调用方在插入前即可拿到主键，无需等待数据库自增值回填，批量写入（{@code BatchWriter}）时也能预先建立关联。
+ * 只处理类型为 {@code Long} 的主键属性，已赋值的主键保持不变；参数为集合或 {@code @Param} 包装时逐个处理其中的实体。</p>
+ *
+ * <p>插入语句需要写入主键列才会生效；主键列不在插入语句中时数据库仍使用自增值，并由 MyBatis 回填覆盖本拦截器的赋值。</p>
+ */
+@Intercepts(@Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}))
+public class IdAssignInterceptor implements Interceptor {
+
+    private final SnowflakeIdGenerator generator;
+
+    private final IdGeneratorProperties properties;
+
+    /**
+     * 构造函数
+     *
+     * @param generator  主键生成器
+     * @param properties 主键生成配置
+     */
+    public IdAssignInterceptor(SnowflakeIdGenerator generator, IdGeneratorProperties properties) {
+        this.generator = generator;
+        this.properties = properties;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        Object parameter = invocation.getArgs()[1];
+        if (ms.getSqlCommandType() == SqlCommandType.INSERT && Objects.nonNull(parameter)
+                && (properties.tables().isEmpty() || properties.tables().contains(MappedStatements.table(ms, parameter)))) {
+            assign(ms, parameter, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+        return invocation.proceed();
+    }
+
+    private void assign(MappedStatement ms, Object parameter, Set<Object> visited) {
+        if (!visited.add(parameter)) {
+            return;
+        }
+        if (parameter instanceof Map<?, ?> map) {
+            // @Param 包装：同一实体可能以多个名称出现，visited 保证只填充一次
+            map.values().stream().filter(Objects::nonNull).forEach(value -> assign(ms, value, visited));
+            return;
+        }
+        if (parameter instanceof Collection<?> rows) {
+            rows.stream().filter(Objects::nonNull).forEach(row -> assign(ms, row, visited));
+            return;
+        }
+
+        MetaObject meta = ms.getConfiguration().newMetaObject(parameter);
+        String property = properties.idProperty();
+        if (meta.hasSetter(property) && meta.hasGetter(property) && meta.getSetterType(property) == Long.class
+                && Objects.isNull(meta.getValue(property))) {
+            meta.setValue(property, generator.nextId());
+        }
+    }
+}
+</#noparse>
@@ -0,0 +1,33 @@
+package ${package}.support.id;
+
+
+<#noparse>
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * 本地主键生成配置，前缀 {@code g2rain.id}。
+ *
+ * @param workerId   worker，0 ~ 1023，小于 0 时从注册中心实例元数据 {@code worker-id} 读取，仍未指定时从 Redis 租用，
+ *                   见 {@link WorkerIdResolver}
+ * @param leaseTtl   从 Redis 租用 worker 时租约的有效期，每 1/3 有效期续期一次，实例宕机后经过该时间释放
+ * @param epoch      时间戳纪元，上线后不可修改，否则可能生成重复主键
+ * @param maxDrift   逻辑时间允许领先系统时钟的最大值，时钟回拨超过该值时发号失败
+ * @param tables     插入前填充主键的表名（小写），为空表示所有表
+ * @param idProperty 主键属性名
+ */
+@ConfigurationProperties(prefix = "g2rain.id")
+public record IdGeneratorProperties(
+        @DefaultValue("-1") long workerId,
+        @DefaultValue("60s") Duration leaseTtl,
+        @DefaultValue("2026-01-01T00:00:00Z") Instant epoch,
+        @DefaultValue("5s") Duration maxDrift,
+        @DefaultValue Set<String> tables,
+        @DefaultValue("id") String idProperty
+) {
+}
+</#noparse>
@@ -0,0 +1,144 @@
+package ${package}.support.id;
+
+
+<#noparse>
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 本地生成的 64 位时间有序主键，Snowflake 布局：
+ * <pre>{@code
+ * | 1 位符号 0 | 41 位毫秒时间戳（相对纪元） | 10 位 worker | 12 位序号 |
+ * }</pre>
+ *
+ * <p>时间戳与序号合并为一个 {@link AtomicLong}，以 CAS 推进，无锁；同一毫秒内最多 4096 个主键，
+ * 序号用尽时借用下一毫秒，因此同一实例生成的主键严格递增。</p>
+ *
+ * <p>时钟回拨或借用导致逻辑时间领先系统时钟时继续沿用逻辑时间，保证不重复；
+ * 领先超过 {@code maxDrift} 时抛出异常，而不是长时间以未来的时间戳发号。</p>
+ *
+ * <p>不同实例的 worker 必须互不相同，否则会生成重复主键，见 {@link WorkerIdResolver} 与 {@link WorkerIdLease}。</p>
+ */
+public final class SnowflakeIdGenerator {
+
+    /**
+     * worker 位数
+     */
+    public static final int WORKER_BITS = 10;
+
+    /**
+     * 序号位数
+     */
+    public static final int SEQUENCE_BITS = 12;
+
+    /**
+     * worker 最大值
+     */
+    public static final long MAX_WORKER = (1L << WORKER_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final int TIMESTAMP_SHIFT = WORKER_BITS + SEQUENCE_BITS;
+
+    private final long epochMillis;
+
+    private final long worker;
+
+    private final long maxDriftMillis;
+
+    private final LongSupplier clock;
+
+    /**
+     * 逻辑时间（相对纪元的毫秒）左移 {@link #SEQUENCE_BITS} 位后与序号合并
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * 构造函数
+     *
+     * @param epoch    纪元，时间戳相对纪元计算，41 位约可使用 69 年
+     * @param worker   worker，0 ~ {@link #MAX_WORKER}
+     * @param maxDrift 逻辑时间允许领先系统时钟的最大值
+     */
+    public SnowflakeIdGenerator(Instant epoch, long worker, Duration maxDrift) {
+        this(epoch, worker, maxDrift, System::currentTimeMillis);
+    }
+
+    /**
+     * 构造函数，可指定时钟，测试中以此模拟时钟回拨
+     *
+     * @param epoch    纪元
+     * @param worker   worker，0 ~ {@link #MAX_WORKER}
+     * @param maxDrift 逻辑时间允许领先系统时钟的最大值
+     * @param clock    毫秒时钟
+     */
+    public SnowflakeIdGenerator(Instant epoch, long worker, Duration maxDrift, LongSupplier clock) {
+        if (worker < 0 || worker > MAX_WORKER) {
+            throw new IllegalArgumentException("worker must be between 0 and " + MAX_WORKER + ": " + worker);
+        }
+        this.epochMillis = epoch.toEpochMilli();
+        this.worker = worker;
+        this.maxDriftMillis = maxDrift.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * 生成下一个主键。
+     *
+     * @return 正数主键，同一实例内严格递增
+     * @throws IllegalStateException 系统时钟回拨超过 {@code maxDrift}，或持续超出每毫秒 4096 个的发号速度时抛出
+     */
+    public long nextId() {
+        while (true) {
+            long last = state.get();
+            long now = clock.getAsLong() - epochMillis;
+            long lastMillis = last >>> SEQUENCE_BITS;
+            long next;
+            if (now > lastMillis) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                if (lastMillis - now > maxDriftMillis) {
+                    throw new IllegalStateException("Clock is " + (lastMillis - now)
+                            + "ms behind the last issued id, exceeding the allowed drift of " + maxDriftMillis + "ms");
+                }
+                // 同一毫秒或时钟回拨：序号加一，序号用尽时进位到下一毫秒
+                next = last + 1;
+            }
+            if (state.compareAndSet(last, next)) {
+                return ((next >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT) | (worker << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * 当前 worker
+     *
+     * @return worker
+     */
+    public long worker() {
+        return worker;
+    }
+
+    /**
+     * 解析主键的生成时间。
+     *
+     * @param id 主键
+     * @return 生成时间（毫秒精度），序号借用时可能略晚于实际时间
+     */
+    public Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> TIMESTAMP_SHIFT) + epochMillis);
+    }
+
+    /**
+     * 解析主键的 worker。
+     *
+     * @param id 主键
+     * @return worker
+     */
+    public static long workerOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_WORKER;
+    }
+}
+</#noparse>
@@ -0,0 +1,153 @@
+package ${package}.support.id;
+
+
+<#noparse>
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 本实例占用的 Snowflake worker。
+ *
+ * <p>未显式配置 worker 时，从 Redis 租用一个：从随机位置开始依次对 {@code g2rain:id:worker:{应用名}:<worker>}
+ * 执行 {@code SET NX PX}，第一个成功的即为本实例的 worker，因此同一时刻每个 worker 只属于一个实例。
+ * 租约每 {@code ttl / 3} 续期一次，实例退出时删除；实例宕机后租约在 {@code ttl} 后过期，worker 可被新实例使用。
+ * 1024 个 worker 全部被占用时启动失败，不会退化为可能碰撞的取值。</p>
+ *
+ * <p>续期时发现租约已被其他实例占用（如与 Redis 断开超过 {@code ttl}）只能输出 ERROR，
+ * 应保证 {@code ttl} 远大于可能的网络中断与 GC 停顿。</p>
+ */
+@Slf4j
+public final class WorkerIdLease implements AutoCloseable {
+
+    private static final String KEY_PREFIX = "g2rain:id:worker:";
+
+    /**
+     * KEYS[1] 租约键；ARGV[1] 持有者，ARGV[2] 有效期毫秒。返回 1 表示续期成功，0 表示已被其他实例占用
+     */
+    private static final RedisScript<Long> RENEW = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if owner == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            if owner then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1] 租约键；ARGV[1] 持有者。仅删除自己持有的租约
+     */
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final long worker;
+
+    private final StringRedisTemplate redis;
+
+    private final String key;
+
+    private final String owner;
+
+    private final ScheduledExecutorService heartbeat;
+
+    private WorkerIdLease(long worker, StringRedisTemplate redis, String key, String owner,
+                          ScheduledExecutorService heartbeat) {
+        this.worker = worker;
+        this.redis = redis;
+        this.key = key;
+        this.owner = owner;
+        this.heartbeat = heartbeat;
+    }
+
+    /**
+     * 显式配置的 worker，不占用 Redis。
+     *
+     * @param worker worker
+     * @return 租约
+     */
+    public static WorkerIdLease fixed(long worker) {
+        return new WorkerIdLease(worker, null, null, null, null);
+    }
+
+    /**
+     * 从 Redis 租用一个空闲的 worker 并开始续期。
+     *
+     * @param redis       Redis 客户端
+     * @param application 应用名，不同应用的 worker 互不影响
+     * @param ttl         租约有效期
+     * @return 租约
+     * @throws IllegalStateException 所有 worker 都已被占用时抛出
+     */
+    public static WorkerIdLease acquire(StringRedisTemplate redis, String application, Duration ttl) {
+        String owner = UUID.randomUUID().toString();
+        long slots = SnowflakeIdGenerator.MAX_WORKER + 1;
+        long start = ThreadLocalRandom.current().nextLong(slots);
+        for (long i = 0; i < slots; i++) {
+            long worker = (start + i) % slots;
+            String key = KEY_PREFIX + application + ":" + worker;
+            if (Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(key, owner, ttl))) {
+                ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofVirtual().name("worker-id-lease").factory());
+                WorkerIdLease lease = new WorkerIdLease(worker, redis, key, owner, heartbeat);
+                long period = Math.max(1, ttl.toMillis() / 3);
+                heartbeat.scheduleAtFixedRate(() -> lease.renew(ttl), period, period, TimeUnit.MILLISECONDS);
+                return lease;
+            }
+        }
+        throw new IllegalStateException("No free worker id for " + application + ": all " + slots
+                + " leases are held, set g2rain.id.worker-id explicitly");
+    }
+
+    /**
+     * 本实例的 worker
+     *
+     * @return worker，0 ~ {@link SnowflakeIdGenerator#MAX_WORKER}
+     */
+    public long worker() {
+        return worker;
+    }
+
+    private void renew(Duration ttl) {
+        try {
+            Long renewed = redis.execute(RENEW, List.of(key), owner, String.valueOf(ttl.toMillis()));
+            if (Objects.equals(renewed, 0L)) {
+                log.error("Worker id lease {} is held by another instance, generated ids may collide", key);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to renew worker id lease {}", key, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (Objects.isNull(heartbeat)) {
+            return;
+        }
+        heartbeat.shutdownNow();
+        try {
+            redis.execute(RELEASE, List.of(key), owner);
+        } catch (DataAccessException e) {
+            log.warn("Failed to release worker id lease {}, it expires on its own", key, e);
+        }
+    }
+}
+</#noparse>
@@ -0,0 +1,59 @@
+package ${package}.support.id;
+
+
+<#noparse>
+import org.springframework.cloud.client.serviceregistry.Registration;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+
+/**
+ * 确定本实例的 Snowflake worker，按以下顺序：
+ * <ol>
+ *     <li>{@code g2rain.id.worker-id}（可放在 Nacos 配置中心按实例下发）；</li>
+ *     <li>服务注册的实例元数据 {@code worker-id}，如 {@code spring.cloud.nacos.discovery.metadata.worker-id}，
+ *     通常由部署平台按实例序号注入（StatefulSet 序号、环境变量等）；</li>
+ *     <li>都未设置时从 Redis 租用，见 {@link WorkerIdLease}。</li>
+ * </ol>
+ * <p>不按注册地址等哈希推导：1024 个取值上约 40 个实例即有一半概率碰撞，碰撞即生成重复主键。</p>
+ */
+public final class WorkerIdResolver {
+
+    /**
+     * 实例元数据中 worker 的键
+     */
+    public static final String METADATA_KEY = "worker-id";
+
+    private WorkerIdResolver() {
+    }
+
+    /**
+     * 解析显式指定的 worker。
+     *
+     * @param properties   主键生成配置
+     * @param registration 服务注册信息，未启用服务注册时为 {@code null}
+     * @return worker，0 ~ {@link SnowflakeIdGenerator#MAX_WORKER}；配置与实例元数据都未指定时为空，应从 Redis 租用
+     * @throws IllegalArgumentException 指定的 worker 超出范围时抛出
+     */
+    public static OptionalLong resolve(IdGeneratorProperties properties, Registration registration) {
+        if (properties.workerId() >= 0) {
+            return OptionalLong.of(checked(properties.workerId(), "g2rain.id.worker-id"));
+        }
+        Map<String, String> metadata = Objects.isNull(registration) ? null : registration.getMetadata();
+        String value = Objects.isNull(metadata) ? null : metadata.get(METADATA_KEY);
+        if (Objects.nonNull(value)) {
+            return OptionalLong.of(checked(Long.parseLong(value.trim()), "instance metadata " + METADATA_KEY));
+        }
+        return OptionalLong.empty();
+    }
+
+    private static long checked(long worker, String source) {
+        if (worker < 0 || worker > SnowflakeIdGenerator.MAX_WORKER) {
+            throw new IllegalArgumentException(source + " must be between 0 and " + SnowflakeIdGenerator.MAX_WORKER
+                    + ": " + worker);
+        }
+        return worker;
+    }
+}
+</#noparse>
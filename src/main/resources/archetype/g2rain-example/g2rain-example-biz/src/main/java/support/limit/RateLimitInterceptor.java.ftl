@@ -0,0 +1,141 @@
+package ${package}.support.limit;
+
+
+import ${package}.support.context.RequestContext;
+<#noparse>
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Optional;
+
+/**
+ * 按租户与接口限流，并以租户隔舱限制并发。
+ *
+ * <p>在处理器映射之后执行，接口以 {@code 方法 路径模式} 标识（如 {@code GET /users/{id}}），
+ * 路径变量不会产生新的桶。依次检查：</p>
+ * <ol>
+ *     <li>{@link RedisTokenBucket}：超出速率返回 {@code 429} 及 {@code Retry-After}；Redis 不可用时放行；</li>
+ *     <li>{@link TenantBulkhead}：租户并发已满返回 {@code 503}。</li>
+ * </ol>
+ * <p>限流对象为已认证的租户（来自 {@link RequestContext}，不读取请求头）；没有已认证租户的请求按客户端地址
+ * （{@code server.forward-headers-strategy} 配置后为真实客户端）使用 {@code anonymous} 配额与独立的隔舱，不会绕过限流。
+ * 指标 {@code g2rain.rate-limit.decisions}，标签 {@code endpoint} 与 {@code outcome}
+ * （allowed / limited / rejected / redis_error）；被拒绝的请求另计入 {@code g2rain.rate-limit.tenant.rejections}
+ * （标签 {@code tenant}，未认证请求为 {@code anonymous}，取值数受 {@code max-tenant-tags} 限制），用于定位高频租户。</p>
+ */
+@Slf4j
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String ACQUIRED = RateLimitInterceptor.class.getName() + ".ACQUIRED";
+
+    private static final String ANONYMOUS = "anonymous";
+
+    private final RedisTokenBucket tokenBucket;
+
+    private final TenantBulkhead bulkhead;
+
+    private final RateLimitProperties properties;
+
+    private final MeterRegistry registry;
+
+    /**
+     * 构造函数
+     *
+     * @param tokenBucket 令牌桶
+     * @param bulkhead    租户隔舱
+     * @param properties  限流配置
+     * @param registry    指标注册表
+     */
+    public RateLimitInterceptor(RedisTokenBucket tokenBucket, TenantBulkhead bulkhead, RateLimitProperties properties,
+                                MeterRegistry registry) {
+        this.tokenBucket = tokenBucket;
+        this.bulkhead = bulkhead;
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) throws Exception {
+        // 异步请求再次分发时已经通过检查
+        if (request.getAttribute(ACQUIRED) != null) {
+            return true;
+        }
+
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        Optional<String> tenant = RequestContext.current().filter(RequestContext::hasTenant).map(RequestContext::tenant);
+        String subject = tenant.map(id -> "tenant:" + id).orElseGet(() -> "client:" + request.getRemoteAddr());
+        String tag = tenant.orElse(ANONYMOUS);
+        String endpoint = endpoint(request);
+        RateLimitProperties.Quota quota = tenant.map(id -> properties.quotaOf(id, endpoint)).orElse(properties.anonymous());
+
+        long wait;
+        try {
+            wait = tokenBucket.acquire(subject, endpoint, quota);
+        } catch (DataAccessException e) {
+            log.warn("Rate limit check failed, request allowed: {}", e.getMessage());
+            count(endpoint, "redis_error");
+            wait = 0;
+        }
+        if (wait > 0) {
+            reject(response, tag, endpoint, "limited", HttpStatus.TOO_MANY_REQUESTS, wait);
+            return false;
+        }
+
+        if (!bulkhead.tryAcquire(subject)) {
+            reject(response, tag, endpoint, "rejected", HttpStatus.SERVICE_UNAVAILABLE, 1000);
+            return false;
+        }
+        request.setAttribute(ACQUIRED, subject);
+        count(endpoint, "allowed");
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        if (request.getAttribute(ACQUIRED) instanceof String subject) {
+            request.removeAttribute(ACQUIRED);
+            bulkhead.release(subject);
+        }
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern == null ? request.getRequestURI() : pattern);
+    }
+
+    private void reject(HttpServletResponse response, String tenant, String endpoint, String outcome,
+                        HttpStatus status, long retryAfterMillis) {
+        count(endpoint, outcome);
+        Counter.builder("g2rain.rate-limit.tenant.rejections")
+                .description("Requests rejected by rate limit or bulkhead, per tenant")
+                .tag("tenant", tenant)
+                .register(registry)
+                .increment();
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfterMillis + 999) / 1000)));
+    }
+
+    private void count(String endpoint, String outcome) {
+        Counter.builder("g2rain.rate-limit.decisions")
+                .description("Rate limit decisions")
+                .tags("endpoint", endpoint, "outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+}
+</#noparse>
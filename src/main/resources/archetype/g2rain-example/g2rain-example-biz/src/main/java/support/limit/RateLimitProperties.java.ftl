@@ -0,0 +1,95 @@
+package ${package}.support.limit;
+
+
+<#noparse>
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 限流与租户隔舱配置，前缀 {@code g2rain.rate-limit}。
+ *
+ * <p>配额按 租户覆盖 → 接口覆盖 → 默认值 的顺序取第一个命中的配置；接口以 {@code 方法 路径模式} 标识，
+ * 如 {@code GET /users}。没有已认证租户的请求按客户端地址使用 {@code anonymous} 配额。</p>
+ *
+ * @param enabled       是否启用
+ * @param paths         参与限流的路径模式
+ * @param quota         默认配额
+ * @param endpoints     按接口覆盖的配额
+ * @param tenants       按租户覆盖的配额
+ * @param anonymous     没有已认证租户的请求按客户端地址使用的配额
+ * @param bulkhead      租户并发隔舱
+ * @param keyPrefix     令牌桶在 Redis 中的键前缀
+ * @param maxTenantTags {@code g2rain.rate-limit.tenant.rejections} 指标中 {@code tenant} 标签的最大取值数，超出后不再注册新租户
+ */
+@ConfigurationProperties(prefix = "g2rain.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("/**") List<String> paths,
+        @DefaultValue Quota quota,
+        Map<String, Quota> endpoints,
+        Map<String, Quota> tenants,
+        @DefaultValue Quota anonymous,
+        @DefaultValue Bulkhead bulkhead,
+        @DefaultValue("g2rain:rate:") String keyPrefix,
+        @DefaultValue("100") int maxTenantTags
+) {
+
+    public RateLimitProperties {
+        endpoints = endpoints == null ? Map.of() : Map.copyOf(endpoints);
+        tenants = tenants == null ? Map.of() : Map.copyOf(tenants);
+    }
+
+    /**
+     * 解析租户在接口上的配额。
+     *
+     * @param tenant   租户标识
+     * @param endpoint 接口标识
+     * @return 配额
+     */
+    public Quota quotaOf(String tenant, String endpoint) {
+        Quota tenantQuota = tenants.get(tenant);
+        if (tenantQuota != null) {
+            return tenantQuota;
+        }
+        return endpoints.getOrDefault(endpoint, quota);
+    }
+
+    /**
+     * 令牌桶配额
+     *
+     * @param rate  每秒补充的令牌数，即持续请求速率，必须大于 0
+     * @param burst 桶容量，即允许的突发请求数，至少为 1
+     */
+    public record Quota(
+            @DefaultValue("50") double rate,
+            @DefaultValue("100") int burst
+    ) {
+
+        public Quota {
+            // 令牌桶脚本以 rate 作除数计算等待时间与过期时间
+            if (!(rate > 0)) {
+                throw new IllegalArgumentException("Rate limit quota rate must be positive: " + rate);
+            }
+            if (burst < 1) {
+                throw new IllegalArgumentException("Rate limit quota burst must be at least 1: " + burst);
+            }
+        }
+    }
+
+    /**
+     * 租户并发隔舱
+     *
+     * @param maxConcurrent 单个租户同时处理中的请求上限，0 表示不限制
+     * @param maxWait       达到上限后等待空位的最长时间，0 表示立即拒绝
+     */
+    public record Bulkhead(
+            @DefaultValue("32") int maxConcurrent,
+            @DefaultValue("0ms") Duration maxWait
+    ) {
+    }
+}
+</#noparse>
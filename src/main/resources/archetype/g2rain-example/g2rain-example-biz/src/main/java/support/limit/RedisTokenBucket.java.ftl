@@ -0,0 +1,72 @@
+package ${package}.support.limit;
+
+
+<#noparse>
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * Redis 令牌桶，所有实例共享同一个桶。
+ *
+ * <p>取令牌在 Lua 脚本中原子完成，时间取 Redis 服务端 {@code TIME}，不受实例时钟偏差影响；
+ * 桶在空闲到补满所需时间后自动过期。</p>
+ */
+public class RedisTokenBucket {
+
+    /**
+     * KEYS[1] 桶键；ARGV[1] 每秒速率，ARGV[2] 容量。返回 0 表示取得令牌，否则为需要等待的毫秒数
+     */
+    private static final RedisScript<Long> ACQUIRE = new DefaultRedisScript<>("""
+            local rate = tonumber(ARGV[1])
+            local burst = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or burst
+            local ts = tonumber(state[2]) or now
+            tokens = math.min(burst, tokens + math.max(0, now - ts) * rate / 1000)
+            local wait = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+            else
+                wait = math.ceil((1 - tokens) * 1000 / rate)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tokens, 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(burst * 1000 / rate) + 1000)
+            return wait
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+
+    private final String keyPrefix;
+
+    /**
+     * 构造函数
+     *
+     * @param redis     Redis 客户端
+     * @param keyPrefix 键前缀
+     */
+    public RedisTokenBucket(StringRedisTemplate redis, String keyPrefix) {
+        this.redis = redis;
+        this.keyPrefix = keyPrefix;
+    }
+
+    /**
+     * 从限流对象在接口上的桶中取一个令牌。
+     *
+     * @param subject  限流对象，如 {@code tenant:1001} 或 {@code client:10.0.0.8}
+     * @param endpoint 接口标识
+     * @param quota    配额
+     * @return 0 表示取得令牌，否则为建议的重试等待毫秒数
+     * @throws org.springframework.dao.DataAccessException Redis 不可用时抛出，由调用方决定是否放行
+     */
+    public long acquire(String subject, String endpoint, RateLimitProperties.Quota quota) {
+        Long wait = redis.execute(ACQUIRE, List.of(keyPrefix + "{" + subject + "}:" + endpoint),
+                String.valueOf(quota.rate()), String.valueOf(quota.burst()));
+        return wait == null ? 0 : wait;
+    }
+}
+</#noparse>
@@ -0,0 +1,129 @@
+package ${package}.support.limit;
+
+
+<#noparse>
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 租户并发隔舱：限制单个租户（或未认证的单个客户端）同时处理中的请求数。
+ *
+ * <p>请求由虚拟线程执行，Tomcat 不再有固定大小的线程池来兜底并发；没有隔舱时，一个租户的突发流量会占满
+ * 数据库连接池，使所有租户的请求都在取连接处排队。隔舱让超出份额的请求在进入业务代码之前被拒绝，
+ * 其他租户的 p99 不受影响。</p>
+ *
+ * <p>只为有请求在处理或等待的对象保留信号量，最后一个请求离开时即移除，
+ * 因此内存占用以同时在途的请求数为上限，不随出现过的租户数增长。</p>
+ *
+ * <p>隔舱是实例内的，实际并发上限为 {@code maxConcurrent × 实例数}。</p>
+ */
+public class TenantBulkhead {
+
+    private final int maxConcurrent;
+
+    private final long maxWaitNanos;
+
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+
+    /**
+     * 构造函数
+     *
+     * @param maxConcurrent 单个对象的并发上限，0 表示不限制
+     * @param maxWait       达到上限后等待空位的最长时间
+     */
+    public TenantBulkhead(int maxConcurrent, Duration maxWait) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    /**
+     * 为对象占用一个并发名额，成功后必须调用 {@link #release(String)}。
+     *
+     * @param subject 隔舱对象，如租户标识
+     * @return 占用成功返回 {@code true}
+     * @throws InterruptedException 等待空位时被中断
+     */
+    public boolean tryAcquire(String subject) throws InterruptedException {
+        if (maxConcurrent <= 0) {
+            return true;
+        }
+        Slot slot = enter(subject);
+        boolean acquired = false;
+        try {
+            acquired = maxWaitNanos <= 0 ? slot.semaphore.tryAcquire()
+                    : slot.semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+            return acquired;
+        } finally {
+            if (!acquired) {
+                leave(subject);
+            }
+        }
+    }
+
+    /**
+     * 释放对象的并发名额。
+     *
+     * @param subject 隔舱对象
+     */
+    public void release(String subject) {
+        if (maxConcurrent <= 0) {
+            return;
+        }
+        Slot slot = slots.get(subject);
+        if (slot != null) {
+            slot.semaphore.release();
+            leave(subject);
+        }
+    }
+
+    /**
+     * 对象当前处理中的请求数
+     *
+     * @param subject 隔舱对象
+     * @return 处理中的请求数
+     */
+    public int inFlight(String subject) {
+        Slot slot = slots.get(subject);
+        return slot == null ? 0 : maxConcurrent - slot.semaphore.availablePermits();
+    }
+
+    /**
+     * 当前保留的隔舱数，即有请求在处理或等待的对象数
+     *
+     * @return 隔舱数
+     */
+    public int size() {
+        return slots.size();
+    }
+
+    private Slot enter(String subject) {
+        // 引用计数在 compute 中修改，与移除互斥
+        return slots.compute(subject, (key, slot) -> {
+            Slot current = slot == null ? new Slot(new Semaphore(maxConcurrent)) : slot;
+            current.holders++;
+            return current;
+        });
+    }
+
+    private void leave(String subject) {
+        slots.computeIfPresent(subject, (key, slot) -> --slot.holders == 0 ? null : slot);
+    }
+
+    /**
+     * 单个对象的信号量与持有者（处理中及等待中的请求）计数
+     */
+    private static final class Slot {
+
+        private final Semaphore semaphore;
+
+        private int holders;
+
+        private Slot(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+    }
+}
+</#noparse>
@@ -0,0 +1,89 @@
+package ${package}.support.lookup;
+
+
+<#noparse>
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 以 {@code long} 为键的只读哈希表，开放寻址 + 线性探测。
+ *
+ * <p>键存放在 {@code long[]} 中，查找时不装箱、不分配对象，相比 {@code HashMap<Long, V>}
+ * 每个条目少一个 {@code Long} 与一个 {@code Node}，也更利于缓存局部性。构造后不可修改，可被多个线程并发读取。</p>
+ *
+ * @param <V> 值类型，不允许为 {@code null}
+ */
+public final class LongObjectMap<V> {
+
+    private final long[] keys;
+
+    private final Object[] values;
+
+    private final int mask;
+
+    private final int size;
+
+    private LongObjectMap(long[] keys, Object[] values, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.mask = keys.length - 1;
+        this.size = size;
+    }
+
+    /**
+     * 由已有映射构造，容量为不小于条目数两倍的 2 的幂，负载因子不超过 0.5。
+     *
+     * @param entries 键值对，值不允许为 {@code null}
+     * @param <V>     值类型
+     * @return 只读哈希表
+     */
+    public static <V> LongObjectMap<V> of(Map<Long, ? extends V> entries) {
+        int capacity = Integer.highestOneBit(Math.max(2, entries.size() * 2 - 1)) << 1;
+        long[] keys = new long[capacity];
+        Object[] values = new Object[capacity];
+        int mask = capacity - 1;
+        entries.forEach((key, value) -> {
+            int slot = slot(key, mask);
+            while (Objects.nonNull(values[slot])) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = Objects.requireNonNull(value, "value");
+        });
+        return new LongObjectMap<>(keys, values, entries.size());
+    }
+
+    /**
+     * 按键查找。
+     *
+     * @param key 键
+     * @return 对应的值，不存在时返回 {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int slot = slot(key, mask);
+        Object value;
+        while (Objects.nonNull(value = values[slot])) {
+            if (keys[slot] == key) {
+                return (V) value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * 条目数
+     *
+     * @return 条目数
+     */
+    public int size() {
+        return size;
+    }
+
+    static int slot(long key, int mask) {
+        // 自增主键是连续的，乘以黄金分割常数后取高位打散，避免线性探测时聚集
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+}
+</#noparse>
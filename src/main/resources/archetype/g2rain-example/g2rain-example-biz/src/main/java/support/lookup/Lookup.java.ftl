@@ -0,0 +1,82 @@
+package ${package}.support.lookup;
+
+
+<#noparse>
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 字典表的类型化视图，由 {@link LookupTables#lookup(String, Class)} 创建，通常作为单例字段持有。
+ *
+ * <p>每个快照只转换一次：底层快照刷新后，首次读取时把整表转换为目标类型并缓存，
+ * 此后的读取不访问数据库，也不再做 JSON 转换。返回的对象在多个请求间共享，调用方不应修改。</p>
+ *
+ * @param <T> 行类型
+ */
+public final class Lookup<T> {
+
+    private final LookupTables tables;
+
+    private final String table;
+
+    private final Class<T> type;
+
+    private final JsonMapper jsonMapper;
+
+    private volatile Converted<T> converted;
+
+    Lookup(LookupTables tables, String table, Class<T> type, JsonMapper jsonMapper) {
+        this.tables = tables;
+        this.table = table;
+        this.type = type;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * 按整数主键查找。
+     *
+     * @param key 主键
+     * @return 对应行
+     */
+    public Optional<T> get(long key) {
+        return snapshot().get(key);
+    }
+
+    /**
+     * 按字符串主键查找。
+     *
+     * @param key 主键
+     * @return 对应行
+     */
+    public Optional<T> get(String key) {
+        return snapshot().get(key);
+    }
+
+    /**
+     * 全部行，按加载顺序排列，不可修改
+     *
+     * @return 全部行
+     */
+    public List<T> all() {
+        return snapshot().all();
+    }
+
+    private LookupSnapshot<T> snapshot() {
+        LookupSnapshot<Map<String, Object>> source = tables.snapshot(table);
+        Converted<T> current = converted;
+        if (Objects.isNull(current) || current.source() != source) {
+            // 并发刷新时可能重复转换，结果相同，不加锁
+            current = new Converted<>(source, source.map(row -> jsonMapper.convertValue(row, type)));
+            converted = current;
+        }
+        return current.snapshot();
+    }
+
+    private record Converted<T>(LookupSnapshot<?> source, LookupSnapshot<T> snapshot) {
+    }
+}
+</#noparse>
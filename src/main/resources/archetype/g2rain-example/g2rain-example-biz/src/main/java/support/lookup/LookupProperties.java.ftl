@@ -0,0 +1,25 @@
+package ${package}.support.lookup;
+
+
+<#noparse>
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 常驻内存的字典表配置，前缀 {@code g2rain.lookup}。
+ *
+ * @param tables          启动时整表加载到内存的表名（小写），应为不区分租户的小表
+ * @param refreshInterval 定时全量刷新的间隔，作为错过变更广播时的兜底
+ * @param maxRows         单表允许加载的最大行数，超出时保留原快照并输出警告
+ */
+@ConfigurationProperties(prefix = "g2rain.lookup")
+public record LookupProperties(
+        @DefaultValue Set<String> tables,
+        @DefaultValue("10m") Duration refreshInterval,
+        @DefaultValue("10000") int maxRows
+) {
+}
+</#noparse>
@@ -0,0 +1,144 @@
+package ${package}.support.lookup;
+
+
+<#noparse>
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 一张字典表在某一时刻的不可变快照。
+ *
+ * <p>主键全部为整数时使用 {@link LongObjectMap} 索引，按 {@code long} 查找不装箱；
+ * 否则按主键的字符串形式索引。刷新时整体替换快照对象，读取方不会看到加载到一半的数据。</p>
+ *
+ * @param <T> 行类型
+ */
+public final class LookupSnapshot<T> {
+
+    private static final LookupSnapshot<?> EMPTY = new LookupSnapshot<>(List.of(), List.of());
+
+    private final List<Object> keys;
+
+    private final List<T> rows;
+
+    private final LongObjectMap<T> byLong;
+
+    private final Map<String, T> byString;
+
+    private LookupSnapshot(List<Object> keys, List<T> rows) {
+        this.keys = keys;
+        this.rows = rows;
+        if (keys.stream().allMatch(LookupSnapshot::isIntegral)) {
+            Map<Long, T> entries = HashMap.newHashMap(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                entries.put(((Number) keys.get(i)).longValue(), rows.get(i));
+            }
+            this.byLong = LongObjectMap.of(entries);
+            this.byString = null;
+        } else {
+            Map<String, T> entries = HashMap.newHashMap(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                entries.put(keys.get(i).toString(), rows.get(i));
+            }
+            this.byLong = null;
+            this.byString = Map.copyOf(entries);
+        }
+    }
+
+    /**
+     * 构造快照。
+     *
+     * @param keys 主键，与行一一对应，不允许为 {@code null}
+     * @param rows 行，按加载顺序排列
+     * @param <T>  行类型
+     * @return 快照
+     */
+    public static <T> LookupSnapshot<T> of(List<?> keys, List<T> rows) {
+        if (keys.size() != rows.size()) {
+            throw new IllegalArgumentException("keys and rows must have the same size");
+        }
+        return new LookupSnapshot<>(List.copyOf(keys), Collections.unmodifiableList(new ArrayList<>(rows)));
+    }
+
+    /**
+     * 空快照，表尚未加载成功时使用
+     *
+     * @param <T> 行类型
+     * @return 空快照
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> LookupSnapshot<T> empty() {
+        return (LookupSnapshot<T>) EMPTY;
+    }
+
+    /**
+     * 按整数主键查找。
+     *
+     * @param key 主键
+     * @return 对应行
+     */
+    public Optional<T> get(long key) {
+        return Optional.ofNullable(Objects.nonNull(byLong) ? byLong.get(key) : byString.get(Long.toString(key)));
+    }
+
+    /**
+     * 按字符串主键查找，整数主键的表会先把参数解析为整数。
+     *
+     * @param key 主键
+     * @return 对应行
+     */
+    public Optional<T> get(String key) {
+        if (Objects.isNull(byLong)) {
+            return Optional.ofNullable(byString.get(key));
+        }
+        try {
+            return get(Long.parseLong(key));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 全部行，按加载顺序排列，不可修改
+     *
+     * @return 全部行
+     */
+    public List<T> all() {
+        return rows;
+    }
+
+    /**
+     * 行数
+     *
+     * @return 行数
+     */
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * 以相同主键转换每一行，得到新的快照。
+     *
+     * @param mapper 行转换函数，结果不允许为 {@code null}
+     * @param <R>    新的行类型
+     * @return 新快照
+     */
+    public <R> LookupSnapshot<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            mapped.add(Objects.requireNonNull(mapper.apply(row), "mapped row"));
+        }
+        return new LookupSnapshot<>(keys, Collections.unmodifiableList(mapped));
+    }
+
+    private static boolean isIntegral(Object key) {
+        return key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte;
+    }
+}
+</#noparse>
@@ -0,0 +1,211 @@
+package ${package}.support.lookup;
+
+
+import ${package}.support.mybatis.MappedStatements;
+<#noparse>
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 常驻内存的字典表：启动时把 {@link LookupProperties#tables()} 中的小表整表加载为不可变快照，读取不访问数据库。
+ *
+ * <p>快照在以下时机整体替换：</p>
+ * <ul>
+ *     <li>表发生写入时（本实例的写入或其他实例经 Redis 广播的变更，见 {@code TableVersions}），
+ *     短暂合并后重新加载，批量写入只触发一次加载；</li>
+ *     <li>按 {@link LookupProperties#refreshInterval()} 定时重新加载，兜底错过的广播与绕过应用的写入。</li>
+ * </ul>
+ * <p>加载失败时保留原快照并输出警告，启动时加载失败的表在下次刷新前视为空表。</p>
+ *
+ * <p>加载使用 {@link JdbcTemplate}，不经过 MyBatis 的租户拦截器，因此字典表应为不区分租户的表，
+ * 通常同时列在代码生成的 {@code data.isolation.excludeTables} 中。行的键为列名转换后的属性名（{@code dict_type} → {@code dictType}）。</p>
+ *
+ * <p><b>示例：</b></p>
+ * <pre>{@code
+ * private final Lookup<DictTypeVo> dictTypes;
+ *
+ * public DictService(LookupTables lookupTables) {
+ *     this.dictTypes = lookupTables.lookup("dict_type", DictTypeVo.class);
+ * }
+ *
+ * public String label(long id) {
+ *     return dictTypes.get(id).map(DictTypeVo::getName).orElse(null);
+ * }
+ * }</pre>
+ */
+@Slf4j
+public class LookupTables implements AutoCloseable {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z0-9_]+");
+
+    private static final String DEFAULT_KEY_COLUMN = "id";
+
+    private static final long RELOAD_DELAY_MILLIS = 200;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final JsonMapper jsonMapper;
+
+    private final LookupProperties properties;
+
+    private final Map<String, LookupSnapshot<Map<String, Object>>> snapshots = new ConcurrentHashMap<>();
+
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * 构造函数，同步加载全部字典表后开始定时刷新
+     *
+     * @param jdbcTemplate JDBC 模板
+     * @param jsonMapper   类型化视图使用的 JSON 映射器
+     * @param properties   字典表配置
+     * @throws IllegalArgumentException 表名不是合法标识符时抛出
+     */
+    public LookupTables(JdbcTemplate jdbcTemplate, JsonMapper jsonMapper, LookupProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jsonMapper = jsonMapper;
+        this.properties = properties;
+        for (String table : properties.tables()) {
+            if (!IDENTIFIER.matcher(table).matches()) {
+                throw new IllegalArgumentException("Invalid lookup table name: " + table);
+            }
+            reload(table);
+        }
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("lookup-refresh").factory());
+        if (!properties.tables().isEmpty()) {
+            long interval = properties.refreshInterval().toMillis();
+            scheduler.scheduleWithFixedDelay(() -> properties.tables().forEach(this::reload), interval, interval,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 判断表是否为字典表。
+     *
+     * @param table 表名（小写）
+     * @return 已配置时返回 {@code true}
+     */
+    public boolean contains(String table) {
+        return properties.tables().contains(table);
+    }
+
+    /**
+     * 当前快照，行为列名转换为属性名后的只读 Map。
+     *
+     * @param table 表名（小写）
+     * @return 当前快照，尚未加载成功时为空快照
+     * @throws IllegalArgumentException 表未配置为字典表时抛出
+     */
+    public LookupSnapshot<Map<String, Object>> snapshot(String table) {
+        if (!contains(table)) {
+            throw new IllegalArgumentException("Not a lookup table: " + table + ", add it to g2rain.lookup.tables");
+        }
+        return snapshots.getOrDefault(table, LookupSnapshot.empty());
+    }
+
+    /**
+     * 创建类型化视图，行按属性名转换为目标类型。
+     *
+     * @param table 表名（小写）
+     * @param type  行类型，通常为 VO
+     * @param <T>   行类型
+     * @return 类型化视图
+     * @throws IllegalArgumentException 表未配置为字典表时抛出
+     */
+    public <T> Lookup<T> lookup(String table, Class<T> type) {
+        snapshot(table);
+        return new Lookup<>(this, table, type, jsonMapper);
+    }
+
+    /**
+     * 表发生写入时调用，合并短时间内的多次变更后重新加载。
+     *
+     * @param table 表名（小写）
+     */
+    public void onTableChange(String table) {
+        if (contains(table) && pending.add(table)) {
+            scheduler.schedule(() -> {
+                pending.remove(table);
+                reload(table);
+            }, RELOAD_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void reload(String table) {
+        try {
+            String keyColumn = keyColumn(table);
+            List<Object> keys = new ArrayList<>();
+            List<Map<String, Object>> rows = new ArrayList<>();
+            jdbcTemplate.query("SELECT * FROM `" + table + "` LIMIT " + (properties.maxRows() + 1), rs -> {
+                ResultSetMetaData metaData = rs.getMetaData();
+                Map<String, Object> row = new LinkedHashMap<>();
+                Object key = null;
+                for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                    String column = metaData.getColumnLabel(i);
+                    Object value = rs.getObject(i);
+                    if (column.equalsIgnoreCase(keyColumn)) {
+                        key = value;
+                    }
+                    row.put(MappedStatements.toProperty(column), value);
+                }
+                if (Objects.nonNull(key)) {
+                    keys.add(key);
+                    rows.add(Collections.unmodifiableMap(row));
+                }
+            });
+
+            if (rows.size() > properties.maxRows()) {
+                log.warn("Lookup table {} has more than {} rows, keeping the previous snapshot", table,
+                        properties.maxRows());
+                return;
+            }
+            snapshots.put(table, LookupSnapshot.of(keys, rows));
+            log.debug("Loaded lookup table {}: {} rows keyed by {}", table, rows.size(), keyColumn);
+        } catch (DataAccessException e) {
+            log.warn("Failed to load lookup table {}, keeping the previous snapshot", table, e);
+        }
+    }
+
+    private String keyColumn(String table) {
+        List<String> primaryKeys = jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            List<String> names = new ArrayList<>();
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet rs = metaData.getPrimaryKeys(connection.getCatalog(), connection.getSchema(), table)) {
+                while (rs.next()) {
+                    names.add(rs.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+                }
+            }
+            return names;
+        });
+        // 无主键或联合主键时按约定的 id 列索引
+        return Objects.nonNull(primaryKeys) && primaryKeys.size() == 1 ? primaryKeys.getFirst() : DEFAULT_KEY_COLUMN;
+    }
+}
+</#noparse>
@@ -0,0 +1,165 @@
+package ${package}.support.mybatis;
+
+
+<#noparse>
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.Reflector;
+import org.apache.ibatis.session.Configuration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Mapper 语句元数据解析工具，结果按语句 id 缓存，每条语句只解析一次。
+ *
+ * <p>生成的 Mapper 语句均为单表操作，因此从 SQL 中第一个 {@code FROM / INTO / UPDATE}
+ * 之后的标识符即可确定目标表。</p>
+ */
+public final class MappedStatements {
+
+    /**
+     * 无法识别目标表时使用的占位值
+     */
+    public static final String UNKNOWN_TABLE = "unknown";
+
+    /**
+     * 生成的跳过租户隔离方法的后缀
+     */
+    public static final String WITHOUT_ISOLATION_SUFFIX = "WithoutIsolation";
+
+    private static final Pattern TABLE_PATTERN = Pattern.compile(
+            "\\b(?:from|into|update)\\s+`?([\\w$]+)`?(?:\\s*\\.\\s*`?([\\w$]+)`?)?", Pattern.CASE_INSENSITIVE
+    );
+
+    private static final Map<String, String> TABLES = new ConcurrentHashMap<>();
+
+    private static final Map<String, Boolean> TENANT_SCOPED = new ConcurrentHashMap<>();
+
+    private MappedStatements() {
+        // 禁止实例化
+    }
+
+    /**
+     * 解析语句的目标表名（小写）。
+     *
+     * @param ms        语句
+     * @param parameter 语句参数，首次解析动态 SQL 时使用
+     * @return 表名，无法识别时返回 {@link #UNKNOWN_TABLE}
+     */
+    public static String table(MappedStatement ms, Object parameter) {
+        return TABLES.computeIfAbsent(ms.getId(), id -> tableOf(ms.getBoundSql(parameter).getSql()));
+    }
+
+    /**
+     * 从 SQL 中解析第一个目标表名（小写），库名前缀会被去掉。
+     *
+     * @param sql SQL 语句
+     * @return 表名，无法识别时返回 {@link #UNKNOWN_TABLE}
+     */
+    public static String tableOf(String sql) {
+        Matcher matcher = TABLE_PATTERN.matcher(sql);
+        if (!matcher.find()) {
+            return UNKNOWN_TABLE;
+        }
+        String table = Objects.requireNonNullElse(matcher.group(2), matcher.group(1));
+        return table.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 判断语句是否作用于租户表：参数类型或结果类型包含任一租户列对应的属性。
+     *
+     * @param ms            语句
+     * @param parameter     语句参数
+     * @param tenantColumns 租户列（下划线命名），如 {@code organ_id}
+     * @return 作用于租户表时返回 {@code true}
+     */
+    public static boolean tenantScoped(MappedStatement ms, Object parameter, Collection<String> tenantColumns) {
+        return TENANT_SCOPED.computeIfAbsent(ms.getId(), id -> {
+            if (Objects.nonNull(parameter) && hasAnyProperty(ms, parameter.getClass(), tenantColumns)) {
+                return true;
+            }
+            for (ResultMap resultMap : ms.getResultMaps()) {
+                if (hasAnyProperty(ms, resultMap.getType(), tenantColumns)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * 判断语句是否来自生成的 {@code *WithoutIsolation} 方法，即显式跳过了租户隔离。
+     *
+     * @param ms 语句
+     * @return 跳过租户隔离时返回 {@code true}
+     */
+    public static boolean withoutIsolation(MappedStatement ms) {
+        return ms.getId().endsWith(WITHOUT_ISOLATION_SUFFIX);
+    }
+
+    /**
+     * 按占位符顺序取出语句的参数值，取值方式与 MyBatis 设置参数时一致。
+     *
+     * @param configuration MyBatis 配置
+     * @param parameter     语句参数
+     * @param boundSql      语句
+     * @return 参数值，与 {@link BoundSql#getParameterMappings()} 一一对应
+     */
+    public static List<Object> parameterValues(Configuration configuration, Object parameter, BoundSql boundSql) {
+        MetaObject metaObject = parameter == null ? null : configuration.newMetaObject(parameter);
+        List<Object> values = new ArrayList<>();
+        for (ParameterMapping mapping : boundSql.getParameterMappings()) {
+            String property = mapping.getProperty();
+            if (boundSql.hasAdditionalParameter(property)) {
+                values.add(boundSql.getAdditionalParameter(property));
+            } else if (parameter == null) {
+                values.add(null);
+            } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+                values.add(parameter);
+            } else {
+                values.add(metaObject.getValue(property));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 将下划线列名转换为驼峰属性名。
+     *
+     * @param column 列名，如 {@code organ_id}
+     * @return 属性名，如 {@code organId}
+     */
+    public static String toProperty(String column) {
+        StringBuilder sb = new StringBuilder(column.length());
+        boolean upper = false;
+        for (char c : column.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                sb.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean hasAnyProperty(MappedStatement ms, Class<?> type, Collection<String> columns) {
+        if (Map.class.isAssignableFrom(type) || type.getName().startsWith("java.")) {
+            return false;
+        }
+        Reflector reflector = ms.getConfiguration().getReflectorFactory().findForClass(type);
+        return columns.stream().map(MappedStatements::toProperty).anyMatch(reflector::hasGetter);
+    }
+}
+</#noparse>
@@ -0,0 +1,195 @@
+package ${package}.support.mybatis;
+
+
+import ${package}.support.context.RequestContext;
+import ${package}.support.tenant.TenantResolver;
+<#noparse>
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapper 语句级指标与慢 SQL 采集拦截器。
+ *
+ * <p>每次语句执行记录：</p>
+ * <ul>
+ *     <li>{@code g2rain.mybatis.statement}：执行耗时 Timer；</li>
+ *     <li>{@code g2rain.mybatis.statement.rows}：查询返回行数 / 更新影响行数。</li>
+ * </ul>
+ * <p>标签包括语句 id、表名、语句类型、结果以及租户隔离状态：{@code on} 表示作用于租户表，
+ * {@code off} 表示调用了生成的 {@code *WithoutIsolation} 方法或在 {@link RequestContext#markCrossTenant} 标记中执行，
+ * {@code none} 表示非租户表。</p>
+ *
+ * <p>耗时超过阈值的语句以 WARN 输出 SQL；参数值可能包含个人信息，默认只输出个数，
+ * 由 {@code log-parameters} 开启。开启 EXPLAIN 时，慢查询会在虚拟线程上使用独立连接异步执行 {@code EXPLAIN}，
+ * 不增加业务请求的耗时；同一时刻至多执行一个，其余慢查询跳过 EXPLAIN，
+ * 避免数据库变慢时大量 EXPLAIN 再占用连接池。</p>
+ */
+@Slf4j
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+
+    private final MeterRegistry registry;
+
+    private final StatementMetricsProperties properties;
+
+    private final TenantResolver tenantResolver;
+
+    private final boolean explain;
+
+    private final Semaphore explaining = new Semaphore(1);
+
+    /**
+     * 构造函数
+     *
+     * @param registry       指标注册表
+     * @param properties     采集配置
+     * @param tenantResolver 租户解析器，提供租户列配置
+     * @param explain        慢查询是否附带执行计划
+     */
+    public StatementMetricsInterceptor(MeterRegistry registry, StatementMetricsProperties properties,
+                                       TenantResolver tenantResolver, boolean explain) {
+        this.registry = registry;
+        this.properties = properties;
+        this.tenantResolver = tenantResolver;
+        this.explain = explain;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object[] args = invocation.getArgs();
+        MappedStatement ms = (MappedStatement) args[0];
+        Object parameter = args[1];
+
+        long start = System.nanoTime();
+        Object result = null;
+        String outcome = "success";
+        try {
+            result = invocation.proceed();
+            return result;
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            record(ms, parameter, result, outcome, elapsed);
+            if (elapsed >= properties.slowThreshold().toNanos()) {
+                BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : ms.getBoundSql(parameter);
+                reportSlow(ms, parameter, boundSql, elapsed);
+            }
+        }
+    }
+
+    private void record(MappedStatement ms, Object parameter, Object result, String outcome, long elapsed) {
+        Tags tags = Tags.of(
+                "statement", ms.getId(),
+                "table", MappedStatements.table(ms, parameter),
+                "type", ms.getSqlCommandType().name().toLowerCase(Locale.ROOT),
+                "isolation", isolation(ms, parameter)
+        );
+
+        Timer.builder("g2rain.mybatis.statement")
+                .description("Mapper statement execution time")
+                .tags(tags.and("outcome", outcome))
+                .register(registry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+
+        long rows = switch (result) {
+            case Collection<?> collection -> collection.size();
+            case Integer count -> count;
+            case null, default -> -1;
+        };
+        if (rows >= 0) {
+            DistributionSummary.builder("g2rain.mybatis.statement.rows")
+                    .description("Rows returned by queries or affected by updates")
+                    .baseUnit("rows")
+                    .tags(tags)
+                    .register(registry)
+                    .record(rows);
+        }
+    }
+
+    private String isolation(MappedStatement ms, Object parameter) {
+        if (MappedStatements.withoutIsolation(ms) || RequestContext.current().map(RequestContext::crossTenant).orElse(false)) {
+            return "off";
+        }
+        return MappedStatements.tenantScoped(ms, parameter, tenantResolver.columns()) ? "on" : "none";
+    }
+
+    private void reportSlow(MappedStatement ms, Object parameter, BoundSql boundSql, long elapsed) {
+        String sql = boundSql.getSql().replaceAll("\\s+", " ").trim();
+        Object parameters = properties.logParameters()
+                ? MappedStatements.parameterValues(ms.getConfiguration(), parameter, boundSql)
+                : boundSql.getParameterMappings().size() + " (values hidden)";
+        log.warn("Slow SQL [{}] took {}ms: {} parameters={}", ms.getId(),
+                TimeUnit.NANOSECONDS.toMillis(elapsed), sql, parameters);
+
+        if (explain && ms.getSqlCommandType() == SqlCommandType.SELECT && explaining.tryAcquire()) {
+            try {
+                Thread.ofVirtual().name("slow-sql-explain").start(() -> {
+                    try {
+                        explain(ms, parameter, boundSql);
+                    } finally {
+                        explaining.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                explaining.release();
+                throw e;
+            }
+        }
+    }
+
+    private void explain(MappedStatement ms, Object parameter, BoundSql boundSql) {
+        DataSource dataSource = ms.getConfiguration().getEnvironment().getDataSource();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+            ms.getConfiguration().newParameterHandler(ms, parameter, boundSql).setParameters(statement);
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = statement.executeQuery()) {
+                ResultSetMetaData meta = rs.getMetaData();
+                while (rs.next()) {
+                    plan.append(System.lineSeparator()).append("  ");
+                    for (int i = 1; i <= meta.getColumnCount(); i++) {
+                        plan.append(meta.getColumnLabel(i)).append('=').append(rs.getObject(i)).append(' ');
+                    }
+                }
+            }
+            log.warn("EXPLAIN [{}]:{}", ms.getId(), plan);
+        } catch (SQLException e) {
+            log.debug("EXPLAIN [{}] failed", ms.getId(), e);
+        }
+    }
+}
+</#noparse>
@@ -0,0 +1,26 @@
+package ${package}.support.mybatis;
+
+
+<#noparse>
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Mapper 语句指标与慢 SQL 采集配置，前缀 {@code g2rain.mybatis.metrics}。
+ *
+ * @param enabled       是否启用语句指标
+ * @param slowThreshold 慢 SQL 阈值，执行耗时超过该值时输出日志
+ * @param logParameters 慢 SQL 日志是否输出绑定参数的值，默认关闭，关闭时只输出参数个数
+ * @param explain       慢查询是否附带 EXPLAIN 执行计划，{@code prod} profile 下始终不执行
+ */
+@ConfigurationProperties(prefix = "g2rain.mybatis.metrics")
+public record StatementMetricsProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("500ms") Duration slowThreshold,
+        @DefaultValue("false") boolean logParameters,
+        @DefaultValue("true") boolean explain
+) {
+}
+</#noparse>
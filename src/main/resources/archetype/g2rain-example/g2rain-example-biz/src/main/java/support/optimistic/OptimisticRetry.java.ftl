@@ -0,0 +1,132 @@
+package ${package}.support.optimistic;
+
+
+<#noparse>
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * 乐观锁更新：读取 → 修改 → 按版本号比较并设置（CAS），版本号不匹配时退避后重新读取重试。
+ *
+ * <p>替代 {@code SELECT ... FOR UPDATE}：热点行上的并发写入不再排队持有行锁，冲突的一方只需重读重试。
+ * CAS 更新需在 Mapper XML 中声明，仅当版本号未变时更新并递增版本号，返回影响行数：</p>
+ * <pre>{@code
+ * <update id="updateByIdAndVersion">
+ *     UPDATE account SET balance = #{balance}, version = version + 1
+ *     WHERE id = #{id} AND version = #{version}
+ * </update>
+ * }</pre>
+ *
+ * <p>退避采用指数增长 + 完全随机抖动（{@code [0, min(maxBackoff, baseBackoff * 2^n))}），避免冲突各方同步重试。
+ * 重试时需要读到其他事务已提交的新版本，因此：</p>
+ * <ul>
+ *     <li>不在事务中调用时（推荐），每次尝试各自提交，按配置重试；</li>
+ *     <li>在事务中调用时，MySQL 默认的可重复读下重新读取仍是事务开始时的快照，重试没有意义，
+ *     只尝试一次，冲突直接返回 {@link UpdateOutcome.Conflict}，由调用方决定回滚或在事务外整体重试。</li>
+ * </ul>
+ *
+ * <p><b>示例：</b></p>
+ * <pre>{@code
+ * UpdateOutcome<Account> outcome = optimisticRetry.update("account",
+ *         () -> accountDao.selectById(id),
+ *         account -> {
+ *             account.setBalance(account.getBalance().add(amount));
+ *             return account;
+ *         },
+ *         accountDao::updateByIdAndVersion);
+ * }</pre>
+ */
+@Slf4j
+public class OptimisticRetry {
+
+    private final int maxAttempts;
+
+    private final long baseBackoffNanos;
+
+    private final long maxBackoffNanos;
+
+    private final MeterRegistry registry;
+
+    /**
+     * 构造函数
+     *
+     * @param maxAttempts 最大尝试次数（含首次）
+     * @param baseBackoff 首次退避上限
+     * @param maxBackoff  单次退避上限
+     * @param registry    指标注册表
+     */
+    public OptimisticRetry(int maxAttempts, Duration baseBackoff, Duration maxBackoff, MeterRegistry registry) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1: " + maxAttempts);
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffNanos = baseBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.registry = registry;
+    }
+
+    /**
+     * 执行乐观锁更新。
+     *
+     * @param name   名称，通常为表名，作为指标标签
+     * @param read   读取当前行（含版本号），不存在时返回 {@code null}
+     * @param modify 基于当前行计算新行，需保留读取到的版本号；冲突时以重新读取的行再次调用，不应有其他副作用
+     * @param cas    按主键与版本号更新，返回影响行数，如 {@code accountDao::updateByIdAndVersion}
+     * @param <T>    行类型
+     * @return 更新结果
+     */
+    public <T> UpdateOutcome<T> update(String name, Supplier<T> read, UnaryOperator<T> modify, ToIntFunction<T> cas) {
+        int attempts = TransactionSynchronizationManager.isActualTransactionActive() ? 1 : maxAttempts;
+        for (int attempt = 1; ; attempt++) {
+            T current = read.get();
+            if (Objects.isNull(current)) {
+                return new UpdateOutcome.NotFound<>();
+            }
+
+            T next = modify.apply(current);
+            if (cas.applyAsInt(next) > 0) {
+                record(name, attempt > 1 ? "retried" : "applied");
+                return new UpdateOutcome.Applied<>(next, attempt);
+            }
+
+            if (attempt >= attempts) {
+                record(name, "conflict");
+                log.debug("Optimistic update on {} conflicted {} times, giving up", name, attempt);
+                return new UpdateOutcome.Conflict<>(attempt);
+            }
+            backoff(attempt);
+        }
+    }
+
+    private void backoff(int attempt) {
+        long bound = Math.min(maxBackoffNanos, baseBackoffNanos << Math.min(attempt - 1, 20));
+        if (bound <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(ThreadLocalRandom.current().nextLong(bound)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off an optimistic update", e);
+        }
+    }
+
+    private void record(String name, String outcome) {
+        Counter.builder("g2rain.optimistic.updates")
+                .description("Optimistic updates by outcome")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+}
+</#noparse>
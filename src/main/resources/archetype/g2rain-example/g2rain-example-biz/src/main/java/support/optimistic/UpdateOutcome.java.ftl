@@ -0,0 +1,75 @@
+package ${package}.support.optimistic;
+
+
+<#noparse>
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.function.Supplier;
+
+/**
+ * 乐观锁更新的结果，由 {@link OptimisticRetry#update} 返回，调用方以 {@code switch} 穷举处理：
+ * <pre>{@code
+ * return switch (optimisticRetry.update("account", read, modify, cas)) {
+ *     case UpdateOutcome.Applied<AccountVo>(AccountVo account, int attempts) -> Result.success(account);
+ *     case UpdateOutcome.Conflict<AccountVo> conflict -> Result.failure("账户正忙，请稍后重试");
+ *     case UpdateOutcome.NotFound<AccountVo> notFound -> Result.failure("账户不存在");
+ * };
+ * }</pre>
+ *
+ * @param <T> 行类型
+ */
+public sealed interface UpdateOutcome<T> {
+
+    /**
+     * 更新成功。
+     *
+     * @param value    写入的新行，其中的版本号仍为更新前的值，数据库中已加一
+     * @param attempts 尝试次数，1 表示没有冲突
+     * @param <T>      行类型
+     */
+    record Applied<T>(T value, int attempts) implements UpdateOutcome<T> {
+    }
+
+    /**
+     * 重试用尽后版本号仍不匹配，行被其他写入持续修改。
+     *
+     * @param attempts 尝试次数
+     * @param <T>      行类型
+     */
+    record Conflict<T>(int attempts) implements UpdateOutcome<T> {
+    }
+
+    /**
+     * 行不存在（读取为 {@code null}）。
+     *
+     * @param <T> 行类型
+     */
+    record NotFound<T>() implements UpdateOutcome<T> {
+    }
+
+    /**
+     * 是否更新成功
+     *
+     * @return 成功时返回 {@code true}
+     */
+    default boolean applied() {
+        return this instanceof Applied<T>;
+    }
+
+    /**
+     * 取更新后的行，未成功时抛出异常，适合冲突只能作为错误处理的场景。
+     *
+     * @param notFound 行不存在时抛出的异常
+     * @return 更新后的行
+     * @throws OptimisticLockingFailureException 冲突时抛出
+     */
+    default T orElseThrow(Supplier<? extends RuntimeException> notFound) {
+        return switch (this) {
+            case Applied<T>(T value, int attempts) -> value;
+            case Conflict<T>(int attempts) -> throw new OptimisticLockingFailureException(
+                    "Row was modified concurrently, gave up after " + attempts + " attempts");
+            case NotFound<T>() -> throw notFound.get();
+        };
+    }
+}
+</#noparse>
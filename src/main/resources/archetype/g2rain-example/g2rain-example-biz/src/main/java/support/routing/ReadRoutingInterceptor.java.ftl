@@ -0,0 +1,56 @@
+package ${package}.support.routing;
+
+
+<#noparse>
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Objects;
+
+/**
+ * 把事务外的查询标记为可走从库，生成的 select 方法无需任何注解。
+ *
+ * <p>同一请求内一旦执行过写操作，后续查询全部走主库，保证请求内读到自己的写入。
+ * 事务内的路由由事务的只读属性决定，见 {@link ReadWriteRoutingDataSource}。</p>
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor",
+                args = {MappedStatement.class, Object.class, RowBounds.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class ReadRoutingInterceptor implements Interceptor {
+
+    private static final String WROTE_ATTRIBUTE = ReadRoutingInterceptor.class.getName() + ".WROTE";
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if ("update".equals(invocation.getMethod().getName())) {
+            if (Objects.nonNull(request)) {
+                request.setAttribute(WROTE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+            }
+            return invocation.proceed();
+        }
+
+        if (Objects.nonNull(request) && Objects.nonNull(request.getAttribute(WROTE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST))) {
+            return invocation.proceed();
+        }
+        return ScopedValue.where(ReadWriteRoutingDataSource.READ, true).call(invocation::proceed);
+    }
+}
+</#noparse>
@@ -0,0 +1,37 @@
+package ${package}.support.routing;
+
+
+<#noparse>
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 读写分离配置，前缀 {@code g2rain.datasource.read-write}。
+ *
+ * <p>主库沿用 {@code spring.datasource}；从库连接池复制主库的 Hikari 配置，只覆盖连接信息。</p>
+ *
+ * @param replicas         从库列表
+ * @param maxLag           允许的最大复制延迟，超过后该从库不再接收读请求
+ * @param lagCheckInterval 复制延迟检查间隔
+ */
+@ConfigurationProperties(prefix = "g2rain.datasource.read-write")
+public record ReadWriteProperties(
+        @DefaultValue List<Replica> replicas,
+        @DefaultValue("5s") Duration maxLag,
+        @DefaultValue("5s") Duration lagCheckInterval
+) {
+
+    /**
+     * 从库连接信息
+     *
+     * @param url      JDBC URL
+     * @param username 用户名，需要 REPLICATION CLIENT 权限以检查复制延迟
+     * @param password 密码
+     */
+    public record Replica(String url, String username, String password) {
+    }
+}
+</#noparse>
@@ -0,0 +1,101 @@
+package ${package}.support.routing;
+
+
+<#noparse>
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 读写分离路由数据源：主库 + N 个从库连接池。
+ *
+ * <p>路由规则（在实际获取连接时判断，因此需要由 {@code LazyConnectionDataSourceProxy} 包装）：</p>
+ * <ul>
+ *     <li>事务内：只读事务（{@code @Transactional(readOnly = true)}）走从库，其余事务整个走主库，
+ *     保证事务内读到自己的写入；</li>
+ *     <li>事务外：{@link ReadRoutingInterceptor} 标记为读的查询走从库，其余走主库；</li>
+ *     <li>没有复制延迟在阈值内的从库时回退主库（见 {@link ReplicaLagMonitor}）。</li>
+ * </ul>
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    /**
+     * 当前查询可以走从库，仅在查询执行期间绑定
+     */
+    public static final ScopedValue<Boolean> READ = ScopedValue.newInstance();
+
+    /**
+     * 主库连接池名称
+     */
+    public static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+
+    private final Map<String, HikariDataSource> replicas;
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final Map<String, Counter> routed = new HashMap<>();
+
+    /**
+     * 构造函数
+     *
+     * @param primary    主库连接池
+     * @param replicas   从库连接池，键为连接池名称
+     * @param lagMonitor 复制延迟监测
+     * @param registry   指标注册表
+     */
+    public ReadWriteRoutingDataSource(HikariDataSource primary, Map<String, HikariDataSource> replicas,
+                                      ReplicaLagMonitor lagMonitor, MeterRegistry registry) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.lagMonitor = lagMonitor;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        for (Object pool : targets.keySet()) {
+            routed.put((String) pool, Counter.builder("g2rain.datasource.route")
+                    .description("Connections handed out by the read/write routing datasource")
+                    .tag("pool", (String) pool)
+                    .register(registry));
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean read = TransactionSynchronizationManager.isActualTransactionActive()
+                ? TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                : READ.orElse(false);
+        String pool = read ? Objects.requireNonNullElse(lagMonitor.pick(), PRIMARY) : PRIMARY;
+        routed.get(pool).increment();
+        return pool;
+    }
+
+    @Override
+    public void close() {
+        lagMonitor.close();
+        replicas.values().forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    /**
+     * 全部连接池名称
+     *
+     * @return 主库与从库连接池名称
+     */
+    public List<String> pools() {
+        return routed.keySet().stream().sorted().toList();
+    }
+}
+</#noparse>
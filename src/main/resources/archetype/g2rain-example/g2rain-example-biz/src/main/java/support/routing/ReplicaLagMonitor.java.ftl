@@ -0,0 +1,125 @@
+package ${package}.support.routing;
+
+
+<#noparse>
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 从库复制延迟监测：定期执行 {@code SHOW REPLICA STATUS} 读取 {@code Seconds_Behind_Source}，
+ * 只有延迟在阈值内的从库参与读请求轮询。
+ *
+ * <p>复制中断（延迟为 NULL）、查询失败或不是从库时视为不可用；全部不可用时读请求回退主库。
+ * 每个从库的延迟以 {@code g2rain.datasource.replica.lag} 指标输出，不可用时为 -1。</p>
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final long UNAVAILABLE = -1;
+
+    private final Map<String, ? extends DataSource> replicas;
+
+    private final long maxLagSeconds;
+
+    private final Map<String, Long> lags = new ConcurrentHashMap<>();
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final ScheduledExecutorService scheduler;
+
+    private volatile List<String> available = List.of();
+
+    /**
+     * 构造函数，创建后立即开始检查
+     *
+     * @param replicas 从库连接池，键为连接池名称
+     * @param maxLag   允许的最大复制延迟
+     * @param interval 检查间隔
+     * @param registry 指标注册表
+     */
+    public ReplicaLagMonitor(Map<String, ? extends DataSource> replicas, Duration maxLag, Duration interval,
+                             MeterRegistry registry) {
+        this.replicas = replicas;
+        this.maxLagSeconds = maxLag.toSeconds();
+        for (String name : replicas.keySet()) {
+            lags.put(name, UNAVAILABLE);
+            Gauge.builder("g2rain.datasource.replica.lag", lags, values -> values.getOrDefault(name, UNAVAILABLE))
+                    .description("Replication lag of the replica, -1 when unavailable")
+                    .baseUnit("seconds")
+                    .tag("pool", name)
+                    .register(registry);
+        }
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("replica-lag-monitor").factory());
+        if (!replicas.isEmpty()) {
+            scheduler.scheduleWithFixedDelay(this::check, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 轮询选择一个可用从库。
+     *
+     * @return 从库连接池名称，没有可用从库时返回 {@code null}
+     */
+    public String pick() {
+        List<String> candidates = available;
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void check() {
+        List<String> healthy = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> {
+            long lag = lag(name, dataSource);
+            long previous = lags.put(name, lag);
+            boolean up = lag != UNAVAILABLE && lag <= maxLagSeconds;
+            if (up) {
+                healthy.add(name);
+            }
+            boolean wasUp = previous != UNAVAILABLE && previous <= maxLagSeconds;
+            if (up != wasUp) {
+                log.warn("Replica {} {} read routing, lag={}s", name, up ? "joined" : "left", lag);
+            }
+        });
+        available = List.copyOf(healthy);
+    }
+
+    private long lag(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                return UNAVAILABLE;
+            }
+            long lag = rs.getLong("Seconds_Behind_Source");
+            return rs.wasNull() ? UNAVAILABLE : lag;
+        } catch (SQLException e) {
+            log.debug("Failed to check replication lag of {}", name, e);
+            return UNAVAILABLE;
+        }
+    }
+}
+</#noparse>
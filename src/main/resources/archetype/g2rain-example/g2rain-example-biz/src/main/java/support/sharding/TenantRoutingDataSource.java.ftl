@@ -0,0 +1,126 @@
+package ${package}.support.sharding;
+
+
+import ${package}.support.context.RequestContext;
+<#noparse>
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 按租户分库的路由数据源：每个分片一个连接池，按当前租户查路由表选择分片。
+ *
+ * <p>路由规则（在实际获取连接时判断，因此需要由 {@code LazyConnectionDataSourceProxy} 包装）：</p>
+ * <ul>
+ *     <li>显式绑定了 {@link #SHARD} 时使用该分片，见 {@link TenantShards#onShard}；</li>
+ *     <li>否则取 {@link RequestContext} 中的租户，按路由表选择分片，未列出的租户及不在请求中的调用走默认分片。
+ *     该租户来自鉴权后的隔离上下文（{@code IsolationContextSource}），不读取请求头，客户端无法把写入导向其他租户的分片；</li>
+ *     <li>配置了路由表时，请求中没有租户则拒绝获取连接，而不是把数据读写到默认分片；
+ *     匿名接口需访问数据库时用 {@link TenantShards#onShard} 显式指定分片。</li>
+ * </ul>
+ * <p>一个事务只使用一个连接，因此事务中途切换租户不会切换分片；跨分片写入不在同一事务中。</p>
+ */
+public class TenantRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    /**
+     * 显式指定的分片，优先于按租户路由
+     */
+    public static final ScopedValue<String> SHARD = ScopedValue.newInstance();
+
+    /**
+     * 默认分片名称，即 {@code spring.datasource}
+     */
+    public static final String DEFAULT_SHARD = "default";
+
+    private final Map<String, HikariDataSource> shards;
+
+    private final Map<String, String> routes;
+
+    private final Map<String, Counter> routed = new HashMap<>();
+
+    /**
+     * 构造函数
+     *
+     * @param shards   分片连接池，键为分片名，需包含 {@link #DEFAULT_SHARD}
+     * @param routes   路由表，键为租户标识，值为分片名
+     * @param registry 指标注册表
+     * @throws IllegalArgumentException 缺少默认分片或路由表引用了不存在的分片时抛出
+     */
+    public TenantRoutingDataSource(Map<String, HikariDataSource> shards, Map<String, String> routes,
+                                   MeterRegistry registry) {
+        if (!shards.containsKey(DEFAULT_SHARD)) {
+            throw new IllegalArgumentException("Missing default shard: " + DEFAULT_SHARD);
+        }
+        routes.forEach((tenant, shard) -> {
+            if (!shards.containsKey(shard)) {
+                throw new IllegalArgumentException("Tenant " + tenant + " routes to unknown shard " + shard
+                        + ", expected one of " + shards.keySet());
+            }
+        });
+        this.shards = new LinkedHashMap<>(shards);
+        this.routes = Map.copyOf(routes);
+
+        setTargetDataSources(new HashMap<>(shards));
+        setDefaultTargetDataSource(shards.get(DEFAULT_SHARD));
+        afterPropertiesSet();
+
+        for (String shard : shards.keySet()) {
+            routed.put(shard, Counter.builder("g2rain.datasource.route")
+                    .description("Connections handed out by the tenant sharding datasource")
+                    .tag("pool", shard)
+                    .register(registry));
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String shard = SHARD.isBound() ? SHARD.get() : RequestContext.current()
+                .map(this::shardOf)
+                .orElse(DEFAULT_SHARD);
+        routed.get(shard).increment();
+        return shard;
+    }
+
+    private String shardOf(RequestContext context) {
+        if (context.hasTenant()) {
+            return shardOf(context.tenant());
+        }
+        if (!routes.isEmpty()) {
+            throw new IllegalStateException("Request has no tenant to route by, bind a shard explicitly with "
+                    + "TenantShards.onShard when the request is not tenant-scoped");
+        }
+        return DEFAULT_SHARD;
+    }
+
+    /**
+     * 租户所在分片。
+     *
+     * @param tenant 租户标识
+     * @return 分片名，路由表未列出时为默认分片
+     */
+    public String shardOf(String tenant) {
+        return Objects.requireNonNullElse(routes.get(tenant), DEFAULT_SHARD);
+    }
+
+    /**
+     * 全部分片名称，默认分片在前
+     *
+     * @return 分片名称
+     */
+    public List<String> shards() {
+        return List.copyOf(shards.keySet());
+    }
+
+    @Override
+    public void close() {
+        shards.values().forEach(HikariDataSource::close);
+    }
+}
+</#noparse>
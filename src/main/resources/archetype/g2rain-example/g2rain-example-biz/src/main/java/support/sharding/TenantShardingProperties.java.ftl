@@ -0,0 +1,38 @@
+package ${package}.support.sharding;
+
+
+<#noparse>
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 按租户分库配置，前缀 {@code g2rain.datasource.sharding}。
+ *
+ * <p>{@code spring.datasource} 为默认分片 {@link TenantRoutingDataSource#DEFAULT_SHARD}；其余分片复制其 Hikari 配置，
+ * 只覆盖连接信息。所有分片的表结构必须一致。</p>
+ *
+ * @param shards         除默认分片外的分片，键为分片名
+ * @param routes         路由表，键为租户标识，值为分片名；未列出的租户路由到默认分片
+ * @param scatterTimeout 跨分片查询的超时时间
+ */
+@ConfigurationProperties(prefix = "g2rain.datasource.sharding")
+public record TenantShardingProperties(
+        @DefaultValue Map<String, Shard> shards,
+        @DefaultValue Map<String, String> routes,
+        @DefaultValue("5s") Duration scatterTimeout
+) {
+
+    /**
+     * 分片连接信息
+     *
+     * @param url      JDBC URL
+     * @param username 用户名
+     * @param password 密码
+     */
+    public record Shard(String url, String username, String password) {
+    }
+}
+</#noparse>
@@ -0,0 +1,211 @@
+package ${package}.support.sharding;
+
+
+import ${package}.support.context.RequestContext;
+<#noparse>
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 分片操作工具：指定分片执行、跨分片并发查询（scatter-gather）与按排序键归并。
+ *
+ * <p>日常请求无需使用：生成的 Mapper 与 Service 按请求上下文中已认证的租户自动路由（见 {@link TenantRoutingDataSource}）。
+ * 运营后台等跨租户视图使用 {@link #gather}，每个分片在独立的虚拟线程中查询，{@link RequestContext} 随之传递。</p>
+ *
+ * <p>starter 的 ThreadLocal 隔离上下文<b>不会</b>传递到 {@code shard-scatter-} 线程，各分片上的查询也不应依赖它：
+ * 跨租户读取使用生成的 {@code *WithoutIsolation} 方法（或同样不带租户条件的自定义语句），
+ * 这才是关闭租户过滤的方式；{@link RequestContext#markCrossTenant} 只影响语句指标的标签。</p>
+ *
+ * <p><b>示例：</b>跨分片分页，每个分片按相同排序取前 {@code offset + size} 行，归并后跳过 {@code offset}：</p>
+ * <pre>{@code
+ * // <select id="selectRecentWithoutIsolation"> ... ORDER BY create_time DESC, id DESC LIMIT #{limit}</select>
+ * List<OrderPo> page = RequestContext.markCrossTenant(() -> tenantShards.gather(
+ *         () -> orderMapper.selectRecentWithoutIsolation(offset + size),
+ *         Comparator.comparing(OrderPo::getCreateTime).thenComparing(OrderPo::getId).reversed(),
+ *         offset, size));
+ * }</pre>
+ */
+public class TenantShards implements AutoCloseable {
+
+    private final TenantRoutingDataSource routing;
+
+    private final Duration timeout;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("shard-scatter-", 0).factory());
+
+    /**
+     * 构造函数
+     *
+     * @param routing 路由数据源
+     * @param timeout 跨分片查询的超时时间
+     */
+    public TenantShards(TenantRoutingDataSource routing, Duration timeout) {
+        this.routing = routing;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 全部分片名称
+     *
+     * @return 分片名称，默认分片在前
+     */
+    public List<String> shards() {
+        return routing.shards();
+    }
+
+    /**
+     * 租户所在分片。
+     *
+     * @param tenant 租户标识
+     * @return 分片名
+     */
+    public String shardOf(String tenant) {
+        return routing.shardOf(tenant);
+    }
+
+    /**
+     * 在指定分片上执行操作，适合定时任务等不在请求中、但需要访问某个租户数据的场景。
+     * 与 {@link #scatter} 相同，操作在当前线程执行，但不会建立 starter 的隔离上下文。
+     *
+     * @param shard 分片名
+     * @param op    操作
+     * @param <T>   结果类型
+     * @param <X>   操作抛出的异常类型
+     * @return 操作结果
+     * @throws X 操作抛出的异常
+     * @throws IllegalArgumentException 分片不存在时抛出
+     */
+    public <T, X extends Throwable> T onShard(String shard, ScopedValue.CallableOp<? extends T, X> op) throws X {
+        if (!routing.shards().contains(shard)) {
+            throw new IllegalArgumentException("Unknown shard " + shard + ", expected one of " + routing.shards());
+        }
+        return ScopedValue.where(TenantRoutingDataSource.SHARD, shard).call(op);
+    }
+
+    /**
+     * 在每个分片上并发执行同一查询。
+     *
+     * @param query 查询，在各分片上各执行一次
+     * @param <T>   结果类型
+     * @return 各分片的结果，键为分片名，按分片顺序排列
+     * @throws IllegalStateException 任一分片超时或被中断时抛出；分片查询抛出的运行时异常原样抛出
+     */
+    public <T> Map<String, T> scatter(Supplier<T> query) {
+        Optional<RequestContext> context = RequestContext.current();
+        List<String> shards = routing.shards();
+        List<Callable<T>> tasks = new ArrayList<>(shards.size());
+        for (String shard : shards) {
+            tasks.add(() -> {
+                ScopedValue.Carrier carrier = ScopedValue.where(TenantRoutingDataSource.SHARD, shard);
+                if (context.isPresent()) {
+                    carrier = carrier.where(RequestContext.CURRENT, context.get());
+                }
+                return carrier.call(query::get);
+            });
+        }
+
+        List<Future<T>> futures;
+        try {
+            futures = executor.invokeAll(tasks, timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying shards", e);
+        }
+
+        Map<String, T> results = new LinkedHashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            results.put(shards.get(i), result(shards.get(i), futures.get(i)));
+        }
+        return results;
+    }
+
+    /**
+     * 跨分片查询并按排序键归并。
+     *
+     * @param query  查询，各分片的结果需已按 {@code order} 排序，且至少包含 {@code offset + limit} 行
+     * @param order  排序，与查询的 {@code ORDER BY} 一致
+     * @param offset 跳过的行数
+     * @param limit  返回的最大行数
+     * @param <T>    行类型
+     * @return 归并后的行
+     */
+    public <T> List<T> gather(Supplier<List<T>> query, Comparator<? super T> order, int offset, int limit) {
+        return merge(scatter(query).values(), order, offset, limit);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 归并多个已排序的列表（k 路归并）。
+     *
+     * @param sorted 已按 {@code order} 排序的列表
+     * @param order  排序
+     * @param offset 跳过的行数
+     * @param limit  返回的最大行数
+     * @param <T>    行类型
+     * @return 归并后的行
+     */
+    static <T> List<T> merge(Iterable<? extends List<T>> sorted, Comparator<? super T> order, int offset, int limit) {
+        record Head<T>(T value, Iterator<T> rest) {
+        }
+
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>((a, b) -> order.compare(a.value(), b.value()));
+        for (List<T> rows : sorted) {
+            Iterator<T> iterator = rows.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Head<>(iterator.next(), iterator));
+            }
+        }
+
+        List<T> merged = new ArrayList<>(Math.max(0, limit));
+        int skipped = 0;
+        while (!heads.isEmpty() && merged.size() < limit) {
+            Head<T> head = heads.poll();
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                merged.add(head.value());
+            }
+            if (head.rest().hasNext()) {
+                heads.add(new Head<>(head.rest().next(), head.rest()));
+            }
+        }
+        return merged;
+    }
+
+    private static <T> T result(String shard, Future<T> future) {
+        try {
+            return future.get();
+        } catch (CancellationException e) {
+            throw new IllegalStateException("Shard " + shard + " did not respond in time", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying shard " + shard, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Query failed on shard " + shard, e.getCause());
+        }
+    }
+}
+</#noparse>
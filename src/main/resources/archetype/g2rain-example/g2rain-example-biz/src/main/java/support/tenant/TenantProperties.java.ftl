@@ -0,0 +1,20 @@
+package ${package}.support.tenant;
+
+
+<#noparse>
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * 租户识别配置，前缀 {@code g2rain.tenant}。
+ *
+ * @param columns 租户列（下划线命名），需与 codegen.properties 中的 data.isolation.tenantColumns 保持一致
+ */
+@ConfigurationProperties(prefix = "g2rain.tenant")
+public record TenantProperties(
+        @DefaultValue("organ_id") List<String> columns
+) {
+}
+</#noparse>
@@ -0,0 +1,74 @@
+package ${package}.support.tenant;
+
+
+import ${package}.support.context.RequestContext;
+import ${package}.support.mybatis.MappedStatements;
+<#noparse>
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.reflection.MetaObject;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 当前租户解析器。
+ *
+ * <p>请求内从 {@link RequestContext} 读取租户标识（来自已认证的隔离上下文，不读取请求头）；
+ * 也可以从 Mapper 语句参数中按租户列读取，用于判断一次写操作影响的租户。</p>
+ */
+public class TenantResolver {
+
+    private final TenantProperties properties;
+
+    private final List<String> tenantProperties;
+
+    /**
+     * 构造函数
+     *
+     * @param properties 租户识别配置
+     */
+    public TenantResolver(TenantProperties properties) {
+        this.properties = properties;
+        this.tenantProperties = properties.columns().stream().map(MappedStatements::toProperty).toList();
+    }
+
+    /**
+     * 当前请求的租户标识。
+     *
+     * @return 租户标识，不在请求内或未认证时为空
+     */
+    public Optional<String> current() {
+        return RequestContext.current().filter(RequestContext::hasTenant).map(RequestContext::tenant);
+    }
+
+    /**
+     * 从语句参数中读取租户列的值。
+     *
+     * @param ms        语句
+     * @param parameter 语句参数
+     * @return 租户标识，参数不含租户列或值为空时为空
+     */
+    public Optional<String> of(MappedStatement ms, Object parameter) {
+        if (Objects.isNull(parameter)) {
+            return Optional.empty();
+        }
+        MetaObject metaObject = ms.getConfiguration().newMetaObject(parameter);
+        for (String property : tenantProperties) {
+            if (metaObject.hasGetter(property) && Objects.nonNull(metaObject.getValue(property))) {
+                return Optional.of(String.valueOf(metaObject.getValue(property)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 租户列配置
+     *
+     * @return 租户列（下划线命名）
+     */
+    public List<String> columns() {
+        return properties.columns();
+    }
+}
+</#noparse>
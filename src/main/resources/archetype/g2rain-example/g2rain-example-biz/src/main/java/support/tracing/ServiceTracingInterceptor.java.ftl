@@ -0,0 +1,52 @@
+package ${package}.support.tracing;
+
+
+<#noparse>
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+
+import java.util.function.Supplier;
+
+/**
+ * 为 Service 方法创建本地 span，名为 {@code 类名.方法名}（如 {@code UserServiceImpl.selectPage}）。
+ *
+ * <p>由 {@code TracingConfig} 以切面方式应用到应用包内的 {@code @Service} 类，
+ * 生成的 Service 无需添加注解；Object 的方法（{@code toString} 等）不创建 span。</p>
+ */
+public class ServiceTracingInterceptor implements MethodInterceptor {
+
+    private final Supplier<Tracer> tracer;
+
+    /**
+     * 构造函数
+     *
+     * @param tracer 追踪器，切面在 BeanPostProcessor 阶段注册，追踪器在首次调用时才解析
+     */
+    public ServiceTracingInterceptor(Supplier<Tracer> tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (invocation.getMethod().getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+
+        Class<?> target = invocation.getThis() == null
+                ? invocation.getMethod().getDeclaringClass() : AopUtils.getTargetClass(invocation.getThis());
+        Tracer tracer = this.tracer.get();
+        Span span = tracer.nextSpan().name(target.getSimpleName() + "." + invocation.getMethod().getName()).start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
+</#noparse>
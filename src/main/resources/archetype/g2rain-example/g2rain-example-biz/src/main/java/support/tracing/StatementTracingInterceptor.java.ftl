@@ -0,0 +1,75 @@
+package ${package}.support.tracing;
+
+
+import ${package}.support.mybatis.MappedStatements;
+<#noparse>
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.util.Locale;
+
+/**
+ * 为每次 Mapper 语句执行创建客户端 span。
+ *
+ * <p>span 名为语句 id（如 {@code UserDao.selectById}），标签包括 {@code db.system}、{@code db.operation}
+ * 与表名，不记录 SQL 参数。只创建 span、不注册指标，耗时指标由 {@code StatementMetricsInterceptor} 记录。
+ * 当前没有采样的父 span 时创建的是 no-op span，开销可忽略。</p>
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class StatementTracingInterceptor implements Interceptor {
+
+    private final Tracer tracer;
+
+    /**
+     * 构造函数
+     *
+     * @param tracer 追踪器
+     */
+    public StatementTracingInterceptor(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        Span span = tracer.nextSpan()
+                .name(shortId(ms.getId()))
+                .kind(Span.Kind.CLIENT)
+                .tag("db.system", "mysql")
+                .tag("db.operation", ms.getSqlCommandType().name().toLowerCase(Locale.ROOT))
+                .tag("db.sql.table", MappedStatements.table(ms, invocation.getArgs()[1]))
+                .start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private static String shortId(String id) {
+        int method = id.lastIndexOf('.');
+        int type = method > 0 ? id.lastIndexOf('.', method - 1) : -1;
+        return id.substring(type + 1);
+    }
+}
+</#noparse>
@@ -0,0 +1,252 @@
+package ${package}.support.web;
+
+
+import ${package}.support.change.TableVersions;
+import ${package}.support.tenant.TenantResolver;
+<#noparse>
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 条件 GET 支持：在执行查询与序列化之前比较 {@code If-None-Match}，未变化时直接返回 {@code 304}。
+ *
+ * <p>ETag 的来源：</p>
+ * <ul>
+ *     <li><b>详情</b> —— 表含 {@code version} / {@code update_time} 等版本列时，按主键与已认证的租户只查询该列
+ *     （走主键索引，不回表取其余字段），ETag 为主键、租户与版本值的摘要，不暴露版本值本身；否则退化为列表方式；</li>
+ *     <li><b>列表</b> —— 当前租户在该表上的版本令牌（见 {@link TableVersions}），任何写入都会改变它，
+ *     只需读取本地缓存或一次 Redis GET。</li>
+ * </ul>
+ * <p>无法生成 ETag 时（表未在 {@code g2rain.etag.tables} 中且没有版本列，或 Redis 不可用）正常返回完整响应。</p>
+ *
+ * <p><b>示例：</b></p>
+ * <pre>{@code
+ * @GetMapping
+ * public ResponseEntity<Result<PageData<UserVo>>> list(PageSelectListDto<UserDto> query, WebRequest request) {
+ *     return conditionalRequests.list(request, "user", () -> Result.success(userService.selectPage(query)));
+ * }
+ *
+ * @GetMapping("/{id}")
+ * public ResponseEntity<Result<UserVo>> detail(@PathVariable Long id, WebRequest request) {
+ *     return conditionalRequests.detail(request, "user", id, () -> Result.success(userService.selectById(id)));
+ * }
+ * }</pre>
+ */
+@Slf4j
+public class ConditionalRequests {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z0-9_]+");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TableVersions tableVersions;
+
+    private final TenantResolver tenantResolver;
+
+    private final EtagProperties properties;
+
+    private final Map<String, RowVersionQuery> rowVersionQueries = new ConcurrentHashMap<>();
+
+    /**
+     * 构造函数
+     *
+     * @param jdbcTemplate   JDBC 模板，用于查询行版本列
+     * @param tableVersions  表版本号
+     * @param tenantResolver 租户解析器
+     * @param properties     条件请求配置
+     */
+    public ConditionalRequests(JdbcTemplate jdbcTemplate, TableVersions tableVersions, TenantResolver tenantResolver,
+                               EtagProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tableVersions = tableVersions;
+        this.tenantResolver = tenantResolver;
+        this.properties = properties;
+    }
+
+    /**
+     * 列表接口的条件请求。
+     *
+     * @param request 当前请求
+     * @param table   表名（小写）
+     * @param body    响应体，仅在数据有变化时调用
+     * @param <T>     响应体类型
+     * @return {@code 304} 或带 ETag 的 {@code 200} 响应
+     */
+    public <T> ResponseEntity<T> list(WebRequest request, String table, Supplier<T> body) {
+        return respond(request, tableEtag(table), body);
+    }
+
+    /**
+     * 详情接口的条件请求。
+     *
+     * @param request 当前请求
+     * @param table   表名（小写）
+     * @param id      主键
+     * @param body    响应体，仅在数据有变化时调用
+     * @param <T>     响应体类型
+     * @return {@code 304} 或带 ETag 的 {@code 200} 响应
+     */
+    public <T> ResponseEntity<T> detail(WebRequest request, String table, Object id, Supplier<T> body) {
+        RowVersionQuery query = rowVersionQueries.computeIfAbsent(table, this::rowVersionQuery);
+        if (Objects.isNull(query.sql())) {
+            return respond(request, tableEtag(table), body);
+        }
+
+        String tenant = tenantResolver.current().orElse(null);
+        if (Objects.nonNull(query.tenantColumn()) && Objects.isNull(tenant)) {
+            return respond(request, null, body);
+        }
+
+        Object[] args = Objects.isNull(query.tenantColumn()) ? new Object[]{id} : new Object[]{id, tenant};
+        List<Object> versions = jdbcTemplate.query(query.sql(), (rs, rowNum) -> rs.getObject(1), args);
+        if (versions.isEmpty() || Objects.isNull(versions.getFirst())) {
+            return respond(request, null, body);
+        }
+        // 版本值（如 update_time）不直接出现在 ETag 中：既不暴露更新时间，也避免 Timestamp 中的空格等非法字符
+        return respond(request, etag(table, digest(String.valueOf(id), String.valueOf(tenant),
+                String.valueOf(versions.getFirst()))), body);
+    }
+
+    private <T> ResponseEntity<T> respond(WebRequest request, String etag, Supplier<T> body) {
+        if (Objects.isNull(etag)) {
+            return ResponseEntity.ok(body.get());
+        }
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(body.get());
+    }
+
+    private String tableEtag(String table) {
+        if (!tableVersions.tracks(table)) {
+            return null;
+        }
+        String tenant = tenantResolver.current().orElse(TableVersions.NO_TENANT);
+        try {
+            // 租户参与 ETag，避免同一 URL 下切换租户后版本号恰好相同而误返回 304
+            return etag(table, Integer.toHexString(tenant.hashCode()) + "-" + tableVersions.token(table, tenant));
+        } catch (DataAccessException e) {
+            log.debug("ETag for {} skipped, redis unavailable", table, e);
+            return null;
+        }
+    }
+
+    private static String etag(String table, String version) {
+        return "W/\"" + table + "-" + version + "\"";
+    }
+
+    private static String digest(String... parts) {
+        MessageDigest sha256;
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        for (String part : parts) {
+            sha256.update(part.getBytes(StandardCharsets.UTF_8));
+            sha256.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(sha256.digest(), 0, 16);
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (Objects.isNull(ifNoneMatch)) {
+            return false;
+        }
+        String opaque = etag.substring(2);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if ("*".equals(value) || opaque.equals(value.startsWith("W/") ? value.substring(2) : value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private RowVersionQuery rowVersionQuery(String table) {
+        if (!IDENTIFIER.matcher(table).matches()) {
+            throw new IllegalArgumentException("Invalid table name: " + table);
+        }
+
+        Set<String> columns = jdbcTemplate.execute((ConnectionCallback<Set<String>>) connection -> {
+            Set<String> names = new HashSet<>();
+            DatabaseMetaData metaData = connection.getMetaData();
+            // 表名参数是 LIKE 模式，不转义时 user_role 也会匹配 userXrole 等表
+            String pattern = escapePattern(table, metaData.getSearchStringEscape());
+            try (ResultSet rs = metaData.getColumns(connection.getCatalog(), connection.getSchema(), pattern, null)) {
+                while (rs.next()) {
+                    names.add(rs.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+                }
+            }
+            return names;
+        });
+
+        String versionColumn = properties.versionColumns().stream().filter(columns::contains).findFirst().orElse(null);
+        if (Objects.isNull(versionColumn)) {
+            return new RowVersionQuery(null, null);
+        }
+
+        String tenantColumn = tenantResolver.columns().stream().filter(columns::contains).findFirst().orElse(null);
+        List<String> predicates = new ArrayList<>();
+        predicates.add("`" + properties.idColumn() + "` = ?");
+        if (Objects.nonNull(tenantColumn)) {
+            predicates.add("`" + tenantColumn + "` = ?");
+        }
+        String sql = "SELECT `" + versionColumn + "` FROM `" + table + "` WHERE " + String.join(" AND ", predicates);
+        return new RowVersionQuery(sql, tenantColumn);
+    }
+
+    /**
+     * 转义元数据查询中表名的 LIKE 通配符 {@code _} 与 {@code %}。
+     *
+     * @param name   表名
+     * @param escape 驱动的转义字符，为空时驱动不支持转义，原样返回
+     * @return 按字面匹配的模式
+     */
+    static String escapePattern(String name, String escape) {
+        if (Objects.isNull(escape) || escape.isEmpty()) {
+            return name;
+        }
+        StringBuilder sb = new StringBuilder(name.length() + 4);
+        for (char c : name.toCharArray()) {
+            if (c == '_' || c == '%' || escape.indexOf(c) >= 0) {
+                sb.append(escape);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 详情接口读取行版本的语句
+     *
+     * @param sql          查询语句，表没有版本列时为 {@code null}
+     * @param tenantColumn 租户列，非租户表为 {@code null}
+     */
+    private record RowVersionQuery(String sql, String tenantColumn) {
+    }
+}
+</#noparse>
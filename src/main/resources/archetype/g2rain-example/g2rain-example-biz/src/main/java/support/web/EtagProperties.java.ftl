@@ -0,0 +1,25 @@
+package ${package}.support.web;
+
+
+<#noparse>
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 条件请求配置，前缀 {@code g2rain.etag}。
+ *
+ * @param tables         维护变更计数器的表名（小写），其列表接口与没有版本列的详情接口才能生成 ETag
+ * @param versionColumns 详情接口按顺序查找的行版本列
+ * @param idColumn       详情接口的主键列
+ */
+@ConfigurationProperties(prefix = "g2rain.etag")
+public record EtagProperties(
+        @DefaultValue Set<String> tables,
+        @DefaultValue({"version", "update_time"}) List<String> versionColumns,
+        @DefaultValue("id") String idColumn
+) {
+}
+</#noparse>
@@ -0,0 +1,138 @@
+package ${package}.support.batch;
+
+
+<#noparse>
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link BatchLoader} 测试，覆盖窗口内的合并、结果缓存与查询失败的传播。
+ */
+class BatchLoaderTest {
+
+    private static final Duration WINDOW = Duration.ofMillis(500);
+
+    private final List<List<Long>> queries = new CopyOnWriteArrayList<>();
+
+    @Test
+    void concurrentLoadsWithinWindowShareOneQuery() throws Exception {
+        BatchLoader<Long, Row> loader = new BatchLoader<>(recording(BatchLoaderTest::rows), Row::id, 100, WINDOW);
+
+        List<Row> rows = new ArrayList<>();
+        for (Future<Row> future : loadConcurrently(loader, List.of(1L, 2L, 3L, 4L, 404L))) {
+            rows.add(future.get());
+        }
+
+        assertEquals(1, queries.size());
+        assertEquals(Set.of(1L, 2L, 3L, 4L, 404L), new HashSet<>(queries.getFirst()));
+        assertEquals(List.of(1L, 2L, 3L, 4L), rows.subList(0, 4).stream().map(Row::id).toList());
+        assertNull(rows.get(4));
+    }
+
+    @Test
+    void resultsIncludingMissingRowsAreCached() {
+        BatchLoader<Long, Row> loader = new BatchLoader<>(recording(BatchLoaderTest::rows), Row::id, 2, Duration.ZERO);
+
+        assertEquals(1L, loader.load(1L).id());
+        assertEquals(1L, loader.load(1L).id());
+        assertNull(loader.load(404L));
+        assertNull(loader.load(404L));
+        assertEquals(2, queries.size());
+
+        Map<Long, Row> many = loader.loadMany(Arrays.asList(3L, 1L, null, 3L, 404L, 5L, 6L));
+        assertEquals(List.of(3L, 1L, 5L, 6L), List.copyOf(many.keySet()));
+        // 已缓存的 1 与 404 不再查询，3、5、6 按块大小 2 分两次查询
+        assertEquals(List.of(List.of(3L, 5L), List.of(6L)), queries.subList(2, queries.size()));
+    }
+
+    @Test
+    void failureReachesEveryWaiterAndIsNotCached() throws Exception {
+        IllegalStateException failure = new IllegalStateException("database unavailable");
+        AtomicInteger attempts = new AtomicInteger();
+        BatchLoader<Long, Row> loader = new BatchLoader<>(recording(keys -> {
+            if (attempts.getAndIncrement() == 0) {
+                throw failure;
+            }
+            return rows(keys);
+        }), Row::id, 100, WINDOW);
+
+        for (Future<Row> future : loadConcurrently(loader, List.of(1L, 2L, 3L))) {
+            ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+            assertSame(failure, thrown.getCause());
+        }
+        assertEquals(1, queries.size());
+
+        assertEquals(2L, loader.load(2L).id());
+        assertEquals(2, queries.size());
+    }
+
+    @Test
+    void errorReachesEveryWaiter() {
+        StackOverflowError failure = new StackOverflowError("query recursion");
+        BatchLoader<Long, Row> loader = new BatchLoader<>(recording(keys -> {
+            throw failure;
+        }), Row::id, 100, WINDOW);
+
+        for (Future<Row> future : loadConcurrently(loader, List.of(1L, 2L, 3L))) {
+            ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+            assertSame(failure, thrown.getCause());
+        }
+        assertEquals(1, queries.size());
+    }
+
+    /**
+     * 在虚拟线程上同时发起读取，返回时所有读取均已完成
+     */
+    private static List<Future<Row>> loadConcurrently(BatchLoader<Long, Row> loader, List<Long> keys) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Row>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Long key : keys) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return loader.load(key);
+                }));
+            }
+            start.countDown();
+        }
+        return futures;
+    }
+
+    private Function<List<Long>, List<Row>> recording(Function<List<Long>, List<Row>> query) {
+        return keys -> {
+            queries.add(List.copyOf(keys));
+            return query.apply(keys);
+        };
+    }
+
+    /**
+     * 主键小于 100 的行存在
+     */
+    private static List<Row> rows(List<Long> keys) {
+        return keys.stream().filter(key -> key < 100).map(key -> new Row(key, "row-" + key)).toList();
+    }
+
+    private record Row(long id, String name) {
+    }
+}
+</#noparse>
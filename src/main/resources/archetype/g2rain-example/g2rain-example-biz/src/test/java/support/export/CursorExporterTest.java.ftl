@@ -0,0 +1,81 @@
+package ${package}.support.export;
+
+
+<#noparse>
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link CursorExporter} 测试，覆盖 CSV 的列对齐、公式转义与游标查询的租户核对。
+ */
+class CursorExporterTest {
+
+    private final CursorExporter exporter = new CursorExporter(null, JsonMapper.builder().build(), 1000, List.of("organ_id"));
+
+    private final Configuration configuration = new Configuration();
+
+    @Test
+    void csvColumnsFollowHeaderWhenLaterRowsOmitProperties() throws Exception {
+        StringWriter out = new StringWriter();
+
+        long rows = exporter.writeCsv(List.of(row("id", 1, "name", "a", "note", "x"), row("id", 2, "note", "y")), out);
+
+        assertEquals(2, rows);
+        assertEquals("id,name,note\r\n1,a,x\r\n2,,y\r\n", out.toString());
+    }
+
+    @Test
+    void csvGuardsCellsThatSpreadsheetsEvaluate() throws Exception {
+        StringWriter out = new StringWriter();
+
+        exporter.writeCsv(List.of(row("a", "=1+1", "b", "@SUM(A1)", "c", "-x", "d", -5, "e", "+1,2")), out);
+
+        assertEquals("a,b,c,d,e\r\n'=1+1,'@SUM(A1),'-x,-5,\"'+1,2\"\r\n", out.toString());
+    }
+
+    @Test
+    void tenantIsReadFromBoundParameters() {
+        BoundSql boundSql = new BoundSql(configuration, "SELECT * FROM `user` WHERE `organ_id` = ? AND `status` = ?",
+                List.of(mapping("organId"), mapping("status")), row("organId", 1001L, "status", 1));
+
+        assertTrue(CursorExporter.boundToTenant(configuration, boundSql, "1001"));
+        assertFalse(CursorExporter.boundToTenant(configuration, boundSql, "1002"));
+    }
+
+    @Test
+    void tenantIsReadFromInlinedLiterals() {
+        assertTrue(CursorExporter.boundToTenant(configuration, sql("WHERE `organ_id` = 'T1'"), "T1"));
+        assertTrue(CursorExporter.boundToTenant(configuration, sql("WHERE organ_id=1001 LIMIT 10"), "1001"));
+        assertFalse(CursorExporter.boundToTenant(configuration, sql("WHERE organ_id = 10010"), "1001"));
+        assertFalse(CursorExporter.boundToTenant(configuration, sql("WHERE `status` = 1 LIMIT 1001"), "1001"));
+    }
+
+    private BoundSql sql(String where) {
+        return new BoundSql(configuration, "SELECT * FROM `user` " + where, List.of(), null);
+    }
+
+    private ParameterMapping mapping(String property) {
+        return new ParameterMapping.Builder(configuration, property, Object.class).build();
+    }
+
+    private static Map<String, Object> row(Object... keyValues) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            row.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return row;
+    }
+}
+</#noparse>
@@ -0,0 +1,83 @@
+package ${package}.support.id;
+
+
+<#noparse>
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link SnowflakeIdGenerator} 测试，使用可控时钟覆盖序号进位与时钟回拨。
+ */
+class SnowflakeIdGeneratorTest {
+
+    private static final Instant EPOCH = Instant.parse("2026-01-01T00:00:00Z");
+
+    private static final long WORKER = 513;
+
+    private final AtomicLong clock = new AtomicLong(EPOCH.toEpochMilli() + 1_000);
+
+    private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(EPOCH, WORKER, Duration.ofMillis(5),
+            clock::get);
+
+    @Test
+    void sequenceCarriesIntoNextMillisecondWhenExhausted() {
+        long start = clock.get();
+        long previous = 0;
+        for (int i = 0; i < 4096; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            assertEquals(start, generator.timestampOf(id).toEpochMilli());
+            assertEquals(i, id & 0xFFF);
+            previous = id;
+        }
+
+        long carried = generator.nextId();
+        assertTrue(carried > previous);
+        assertEquals(start + 1, generator.timestampOf(carried).toEpochMilli());
+        assertEquals(0, carried & 0xFFF);
+        assertEquals(WORKER, SnowflakeIdGenerator.workerOf(carried));
+    }
+
+    @Test
+    void clockRegressionWithinDriftKeepsLogicalTime() {
+        long first = generator.nextId();
+        long issuedAt = clock.get();
+
+        clock.addAndGet(-5);
+        long second = generator.nextId();
+        assertTrue(second > first);
+        assertEquals(issuedAt, generator.timestampOf(second).toEpochMilli());
+
+        clock.addAndGet(10);
+        long third = generator.nextId();
+        assertEquals(clock.get(), generator.timestampOf(third).toEpochMilli());
+        assertEquals(0, third & 0xFFF);
+    }
+
+    @Test
+    void clockRegressionBeyondDriftFails() {
+        long first = generator.nextId();
+
+        clock.addAndGet(-6);
+        assertThrows(IllegalStateException.class, generator::nextId);
+
+        clock.addAndGet(6);
+        assertTrue(generator.nextId() > first);
+    }
+
+    @Test
+    void workerOutOfRangeIsRejected() {
+        Duration drift = Duration.ofMillis(5);
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(EPOCH, -1, drift));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeIdGenerator(EPOCH, SnowflakeIdGenerator.MAX_WORKER + 1, drift));
+    }
+}
+</#noparse>
@@ -0,0 +1,70 @@
+package ${package}.support.lookup;
+
+
+<#noparse>
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link LongObjectMap} 测试，覆盖线性探测越过数组末尾回到开头的情况。
+ */
+class LongObjectMapTest {
+
+    @Test
+    void probeWrapsAroundFromLastSlot() {
+        // 3 个条目的容量为 8：取 4 个哈希到最后一个槽的键，前 3 个依次占用槽 7、0、1
+        int mask = 7;
+        List<Long> colliding = new ArrayList<>();
+        for (long key = 1; colliding.size() < 4; key++) {
+            if (LongObjectMap.slot(key, mask) == mask) {
+                colliding.add(key);
+            }
+        }
+        Map<Long, String> entries = new LinkedHashMap<>();
+        for (Long key : colliding.subList(0, 3)) {
+            entries.put(key, "v" + key);
+        }
+
+        LongObjectMap<String> map = LongObjectMap.of(entries);
+        assertEquals(3, map.size());
+        entries.forEach((key, value) -> assertEquals(value, map.get(key)));
+        // 同样落在最后一个槽但不存在的键：探测 7、0、1 后在空槽 2 停止
+        assertNull(map.get(colliding.get(3)));
+    }
+
+    @Test
+    void findsEveryKeyOfDenseAndBoundaryRanges() {
+        Map<Long, Long> entries = new HashMap<>();
+        for (long key = 0; key < 10_000; key++) {
+            entries.put(key, key);
+        }
+        entries.put(-1L, -1L);
+        entries.put(Long.MIN_VALUE, Long.MIN_VALUE);
+        entries.put(Long.MAX_VALUE, Long.MAX_VALUE);
+
+        LongObjectMap<Long> map = LongObjectMap.of(entries);
+        assertEquals(entries.size(), map.size());
+        entries.forEach((key, value) -> assertEquals(value, map.get(key)));
+        assertNull(map.get(10_000));
+        assertNull(map.get(-2));
+    }
+
+    @Test
+    void emptyMapAndNullValues() {
+        assertNull(LongObjectMap.of(Map.of()).get(0));
+
+        Map<Long, String> entries = new HashMap<>();
+        entries.put(1L, null);
+        assertThrows(NullPointerException.class, () -> LongObjectMap.of(entries));
+    }
+}
+</#noparse>
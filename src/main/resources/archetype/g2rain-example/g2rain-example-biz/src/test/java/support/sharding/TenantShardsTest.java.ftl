@@ -0,0 +1,50 @@
+package ${package}.support.sharding;
+
+
+<#noparse>
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link TenantShards#merge} 测试：各分片已按同一顺序排序并各自取前 {@code offset + limit} 行，
+ * 归并后应与对全部行排序后分页的结果一致。
+ */
+class TenantShardsTest {
+
+    private static final Comparator<Integer> DESCENDING = Comparator.reverseOrder();
+
+    @Test
+    void mergesShardsAndAppliesOffsetAcrossThem() {
+        List<List<Integer>> shards = List.of(
+                List.of(90, 60, 30),
+                List.of(80, 70, 20),
+                List.of(),
+                List.of(85, 10)
+        );
+
+        assertEquals(List.of(90, 85, 80), TenantShards.merge(shards, DESCENDING, 0, 3));
+        assertEquals(List.of(80, 70, 60, 30), TenantShards.merge(shards, DESCENDING, 2, 4));
+        assertEquals(List.of(20, 10), TenantShards.merge(shards, DESCENDING, 6, 5));
+    }
+
+    @Test
+    void keepsDuplicatesFromDifferentShards() {
+        List<List<Integer>> shards = List.of(List.of(5, 3, 3), List.of(5, 4, 3));
+
+        assertEquals(List.of(5, 5, 4, 3, 3, 3), TenantShards.merge(shards, DESCENDING, 0, 10));
+    }
+
+    @Test
+    void returnsNothingPastTheEndOrWithoutLimit() {
+        List<List<Integer>> shards = List.of(List.of(3, 1), List.of(2));
+
+        assertEquals(List.of(), TenantShards.merge(shards, DESCENDING, 3, 10));
+        assertEquals(List.of(), TenantShards.merge(shards, DESCENDING, 0, 0));
+        assertEquals(List.of(), TenantShards.merge(List.of(), DESCENDING, 0, 10));
+    }
+}
+</#noparse>
@@ -0,0 +1,59 @@
+package ${package}.loadtest;
+
+
+import ${package}.Application;
+<#noparse>
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.net.URI;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 生成接口的 SLO 压测。
+ *
+ * <p>以真实应用启动（随机端口），MySQL 与 Redis 由本地容器替身提供，Nacos 在
+ * {@code application-loadtest.yml} 中关闭；按 {@code loadtest.properties} 的到达率与目标发起请求，
+ * 任一目标的 p50 / p99 / p999 或错误率超出阈值即失败，从而使 {@code mvn -Ploadtest verify} 构建失败。</p>
+ */
+@Slf4j
+@Testcontainers
+@ActiveProfiles("loadtest")
+@SpringBootTest(classes = Application.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class EndpointLoadTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer mysql = new MySQLContainer("mysql:8.4").withInitScript("loadtest-schema.sql");
+
+    @Container
+    @ServiceConnection(name = "redis")
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7.4-alpine").withExposedPorts(6379);
+
+    @Value("${local.server.port}")
+    int port;
+
+    @Test
+    void generatedEndpointsMeetSlo() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.load();
+        List<LoadReport> reports = new OpenModelLoadGenerator(settings).run(URI.create("http://localhost:" + port));
+
+        reports.forEach(report -> log.info("[loadtest] {}", report.format()));
+
+        List<String> breaches = reports.stream()
+                .flatMap(report -> settings.slo().breaches(report).stream())
+                .toList();
+        assertTrue(breaches.isEmpty(), "SLO breached:\n" + String.join("\n", breaches));
+    }
+}
+</#noparse>
@@ -0,0 +1,65 @@
+package ${package}.loadtest;
+
+
+<#noparse>
+import org.HdrHistogram.Histogram;
+
+/**
+ * 单个压测目标的结果，延迟单位为毫秒。
+ *
+ * <p>延迟从请求的<b>计划发起时间</b>开始计算，而不是实际发送时间，
+ * 因此服务端变慢导致的排队会如实体现在尾延迟中（修正 coordinated omission）。</p>
+ *
+ * @param target   压测目标
+ * @param requests 计入统计的请求数
+ * @param errors   错误数（非 2xx 或请求异常）
+ * @param p50      p50 延迟
+ * @param p99      p99 延迟
+ * @param p999     p999 延迟
+ * @param max      最大延迟
+ */
+public record LoadReport(LoadTarget target, long requests, long errors, double p50, double p99, double p999,
+                         double max) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * 根据延迟直方图生成报告。
+     *
+     * @param target    压测目标
+     * @param histogram 纳秒精度的延迟直方图
+     * @param errors    错误数
+     * @return 压测报告
+     */
+    public static LoadReport of(LoadTarget target, Histogram histogram, long errors) {
+        return new LoadReport(
+                target,
+                histogram.getTotalCount(),
+                errors,
+                histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                histogram.getMaxValue() / NANOS_PER_MILLI
+        );
+    }
+
+    /**
+     * 错误率
+     *
+     * @return 错误数占请求数的比例，没有请求时为 1
+     */
+    public double errorRate() {
+        return requests == 0 ? 1.0 : (double) errors / requests;
+    }
+
+    /**
+     * 格式化为单行报告。
+     *
+     * @return 报告文本
+     */
+    public String format() {
+        return String.format("%-40s requests=%d errors=%d (%.4f) p50=%.2fms p99=%.2fms p999=%.2fms max=%.2fms",
+                target, requests, errors, errorRate(), p50, p99, p999, max);
+    }
+}
+</#noparse>
@@ -0,0 +1,49 @@
+package ${package}.loadtest;
+
+
+<#noparse>
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 压测目标：一个 HTTP 方法、路径与可选的 JSON 请求体。
+ *
+ * @param method HTTP 方法
+ * @param path   请求路径（含查询参数）
+ * @param body   请求体，没有时为空字符串
+ */
+public record LoadTarget(String method, String path, String body) {
+
+    /**
+     * 解析分号分隔的目标列表，每项格式为 {@code METHOD PATH [BODY]}。
+     *
+     * @param spec 目标列表，如 {@code GET /user/1;POST /user {"name":"load"}}
+     * @return 目标列表
+     * @throws IllegalArgumentException 任一项格式非法时抛出
+     */
+    public static List<LoadTarget> parseAll(String spec) {
+        List<LoadTarget> targets = Arrays.stream(spec.split(";"))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .map(LoadTarget::parse)
+                .toList();
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.targets must not be empty");
+        }
+        return targets;
+    }
+
+    private static LoadTarget parse(String item) {
+        String[] parts = item.split("\\s+", 3);
+        if (parts.length < 2) {
+            throw new IllegalArgumentException("Invalid load target, expected 'METHOD PATH [BODY]': " + item);
+        }
+        return new LoadTarget(parts[0].toUpperCase(), parts[1], parts.length == 3 ? parts[2] : "");
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + path;
+    }
+}
+</#noparse>
@@ -0,0 +1,89 @@
+package ${package}.loadtest;
+
+
+<#noparse>
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * 压测配置，来自 classpath 下的 {@code loadtest.properties}，同名系统属性优先。
+ *
+ * @param rate     到达率（请求/秒）
+ * @param warmup   预热时长，期间结果不计入报告
+ * @param duration 压测时长
+ * @param timeout  单请求超时
+ * @param targets  压测目标，按顺序轮流发起
+ * @param slo      SLO 阈值
+ */
+public record LoadTestSettings(int rate, Duration warmup, Duration duration, Duration timeout,
+                               List<LoadTarget> targets, Slo slo) {
+
+    /**
+     * 加载压测配置。
+     *
+     * @return 压测配置
+     * @throws IOException 读取配置文件失败时抛出
+     */
+    public static LoadTestSettings load() throws IOException {
+        Properties props = new Properties();
+        try (InputStream in = LoadTestSettings.class.getResourceAsStream("/loadtest.properties")) {
+            if (in != null) {
+                props.load(in);
+            }
+        }
+        props.putAll(System.getProperties());
+
+        return new LoadTestSettings(
+                Integer.parseInt(props.getProperty("loadtest.rate", "200")),
+                Duration.ofSeconds(Long.parseLong(props.getProperty("loadtest.warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(props.getProperty("loadtest.duration", "60"))),
+                Duration.ofMillis(Long.parseLong(props.getProperty("loadtest.timeout", "5000"))),
+                LoadTarget.parseAll(props.getProperty("loadtest.targets", "GET /actuator/health")),
+                new Slo(
+                        Double.parseDouble(props.getProperty("loadtest.slo.p50", "20")),
+                        Double.parseDouble(props.getProperty("loadtest.slo.p99", "200")),
+                        Double.parseDouble(props.getProperty("loadtest.slo.p999", "500")),
+                        Double.parseDouble(props.getProperty("loadtest.slo.errorRate", "0.001"))
+                )
+        );
+    }
+
+    /**
+     * SLO 阈值，延迟单位为毫秒。
+     *
+     * @param p50       p50 延迟上限
+     * @param p99       p99 延迟上限
+     * @param p999      p999 延迟上限
+     * @param errorRate 错误率上限（0~1）
+     */
+    public record Slo(double p50, double p99, double p999, double errorRate) {
+
+        /**
+         * 列出报告中超出阈值的指标。
+         *
+         * @param report 单个目标的压测报告
+         * @return 超限说明，全部达标时为空列表
+         */
+        public List<String> breaches(LoadReport report) {
+            List<String> breaches = new ArrayList<>();
+            check(breaches, report, "p50", report.p50(), p50);
+            check(breaches, report, "p99", report.p99(), p99);
+            check(breaches, report, "p999", report.p999(), p999);
+            if (report.errorRate() > errorRate) {
+                breaches.add(String.format("%s: error rate %.4f > %.4f", report.target(), report.errorRate(), errorRate));
+            }
+            return breaches;
+        }
+
+        private static void check(List<String> breaches, LoadReport report, String name, double actual, double limit) {
+            if (actual > limit) {
+                breaches.add(String.format("%s: %s %.2fms > %.2fms", report.target(), name, actual, limit));
+            }
+        }
+    }
+}
+</#noparse>
@@ -0,0 +1,128 @@
+package ${package}.loadtest;
+
+
+<#noparse>
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 开放模型（open-model）HTTP 压测发生器。
+ *
+ * <p>按固定到达率调度请求：第 i 个请求的计划发起时间为 {@code start + i / rate}，
+ * 与之前请求是否完成无关；每个请求在独立的虚拟线程上通过 JDK {@link HttpClient} 同步发送。
+ * 服务端变慢时在途请求数随之增长，而不是像闭合模型那样自动降低压力。</p>
+ *
+ * <p>延迟从计划发起时间计算并记录到 HdrHistogram，预热期间的请求只发送不统计。</p>
+ */
+public class OpenModelLoadGenerator {
+
+    /**
+     * 直方图可记录的最大延迟：1 分钟
+     */
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final LoadTestSettings settings;
+
+    private final Map<LoadTarget, Histogram> histograms = new LinkedHashMap<>();
+
+    private final Map<LoadTarget, AtomicLong> errors = new LinkedHashMap<>();
+
+    public OpenModelLoadGenerator(LoadTestSettings settings) {
+        this.settings = settings;
+        for (LoadTarget target : settings.targets()) {
+            histograms.put(target, new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3));
+            errors.put(target, new AtomicLong());
+        }
+    }
+
+    /**
+     * 执行压测，阻塞直到压测时长结束且所有在途请求完成。
+     *
+     * @param baseUri 被测应用的根地址，如 {@code http://localhost:8080}
+     * @return 每个目标的压测报告，顺序与配置一致
+     */
+    public List<LoadReport> run(URI baseUri) {
+        List<LoadTarget> targets = settings.targets();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(clientExecutor)
+                     .connectTimeout(settings.timeout())
+                     .build()) {
+            // 内层先关闭：等待所有在途请求完成后才关闭客户端，避免尾部请求因客户端关闭而计为错误
+            try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (long i = 0; ; i++) {
+                    long intended = start + i * intervalNanos;
+                    if (intended >= end) {
+                        break;
+                    }
+
+                    parkUntil(intended);
+                    LoadTarget target = targets.get((int) (i % targets.size()));
+                    boolean measured = intended >= measureFrom;
+                    requests.execute(() -> fire(client, baseUri, target, intended, measured));
+                }
+            }
+        }
+
+        return targets.stream()
+                .map(target -> LoadReport.of(target, histograms.get(target), errors.get(target).get()))
+                .toList();
+    }
+
+    private void fire(HttpClient client, URI baseUri, LoadTarget target, long intended, boolean measured) {
+        boolean failed;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(target.path()))
+                    .timeout(settings.timeout())
+                    .header("Content-Type", "application/json")
+                    .method(target.method(), target.body().isEmpty()
+                            ? HttpRequest.BodyPublishers.noBody()
+                            : HttpRequest.BodyPublishers.ofString(target.body()))
+                    .build();
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            failed = status < 200 || status >= 300;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed = true;
+        } catch (Exception e) {
+            failed = true;
+        }
+
+        if (!measured) {
+            return;
+        }
+
+        Histogram histogram = histograms.get(target);
+        histogram.recordValue(Math.min(System.nanoTime() - intended, histogram.getHighestTrackableValue()));
+        if (failed) {
+            errors.get(target).incrementAndGet();
+        }
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
+</#noparse>
@@ -0,0 +1,5 @@
+-- 压测使用的建表语句与种子数据, 在 MySQL 容器启动时执行
+-- 从生产库导出待测表的 DDL 粘贴到此处, 并插入与线上量级相近的种子数据, 例如:
+-- CREATE TABLE user (id BIGINT PRIMARY KEY AUTO_INCREMENT, organ_id BIGINT NOT NULL, name VARCHAR(64), KEY idx_organ (organ_id));
+-- INSERT INTO user (organ_id, name) WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 10000)
+--     SELECT n % 10, CONCAT('user-', n) FROM seq;
@@ -19,6 +19,11 @@
         Startup module for ${projectName}
     </description>
 
+    <properties>
+        <!-- 启动耗时预算, 超出时 StartupBudgetTest 失败; 可通过 -Dstartup.budget=15s 覆盖 -->
+        <startup.budget>20s</startup.budget>
+    </properties>
+
     <dependencies>
         <dependency>
             <groupId>${groupId}</groupId>
@@ -43,14 +48,62 @@
             <scope>runtime</scope>
             <optional>true</optional>
         </dependency>
+        <!-- 启动预算测试的本地替身: MySQL / Redis 容器, 没有 Docker 时跳过 -->
+        <dependency>
+            <groupId>org.springframework.boot</groupId>
+            <artifactId>spring-boot-testcontainers</artifactId>
+            <scope>test</scope>
+        </dependency>
+        <dependency>
+            <groupId>org.testcontainers</groupId>
+            <artifactId>testcontainers-junit-jupiter</artifactId>
+            <scope>test</scope>
+        </dependency>
+        <dependency>
+            <groupId>org.testcontainers</groupId>
+            <artifactId>testcontainers-mysql</artifactId>
+            <scope>test</scope>
+        </dependency>
     </dependencies>
 
     <build>
         <plugins>
+            <plugin>
+                <groupId>org.apache.maven.plugins</groupId>
+                <artifactId>maven-surefire-plugin</artifactId>
+                <configuration>
+                    <systemPropertyVariables>
+                        <startup.budget>${"$"}{startup.budget}</startup.budget>
+                    </systemPropertyVariables>
+                </configuration>
+            </plugin>
             <plugin>
                 <groupId>org.springframework.boot</groupId>
                 <artifactId>spring-boot-maven-plugin</artifactId>
+<#if features.fastStartup>
+                <executions>
+                    <!-- 构建期 AOT 预处理: 生成 Bean 定义的注册代码, 以 -Dspring.aot.enabled=true 启动时不再扫描类路径、解析配置类;
+                         不加该参数启动时行为不变 -->
+                    <execution>
+                        <id>process-aot</id>
+                        <goals>
+                            <goal>process-aot</goal>
+                        </goals>
+                        <configuration>
+                            <!-- 构建期只求值 Bean 定义, 不连接配置中心 -->
+                            <systemPropertyVariables>
+                                <spring.cloud.nacos.config.enabled>false</spring.cloud.nacos.config.enabled>
+                                <spring.cloud.nacos.config.import-check.enabled>false</spring.cloud.nacos.config.import-check.enabled>
+                            </systemPropertyVariables>
+                        </configuration>
+                    </execution>
+                </executions>
+</#if>
                 <configuration>
+<#if features.loadTest>
+                    <!-- 可执行 jar 使用 exec 分类器, 主构件保持普通 jar 以便 loadtest 模块依赖 -->
+                    <classifier>exec</classifier>
+</#if>
                     <excludes>
                         <exclude>
                             <groupId>org.projectlombok</groupId>
@@ -72,6 +125,21 @@
                     </to>
                     <container>
                         <mainClass>${package}.Application</mainClass>
+<#if runtime?has_content || features.structuredConcurrency>
+<#if runtime?has_content>
+                        <!-- 运行时画像 ${runtime.id}: ${runtime.summary} -->
+</#if>
+                        <jvmFlags>
+<#if runtime?has_content>
+<#list runtime.jvmFlags as jvmFlag>
+                            <jvmFlag>${jvmFlag}</jvmFlag>
+</#list>
+</#if>
+<#if features.structuredConcurrency>
+                            <jvmFlag>--enable-preview</jvmFlag>
+</#if>
+                        </jvmFlags>
+</#if>
                         <ports>
                             <port>8080</port>
                         </ports>
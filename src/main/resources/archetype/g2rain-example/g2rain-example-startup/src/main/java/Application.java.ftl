@@ -3,6 +3,7 @@ package ${package};
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 /**
  * <p>{@code Application} 是 Spring Boot 启动类，用于启动整个应用程序。</p>
@@ -11,6 +12,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * <ul>
  *     <li>自动启动 Spring Boot 应用上下文</li>
  *     <li>加载并初始化所有配置和组件</li>
+ *     <li>记录启动步骤时间线（{@link BufferingApplicationStartup}），通过 actuator {@code /actuator/startup} 查看</li>
  * </ul>
  *
  * <p><b>注解说明：</b></p>
@@ -33,12 +35,19 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 @SpringBootApplication
 public class Application {
 
+    /**
+     * 启动时间线缓冲的步骤数，足够容纳配置中心、Mapper 扫描及全部 Bean 的实例化步骤，超出部分丢弃
+     */
+    static final int STARTUP_STEP_CAPACITY = 8192;
+
     /**
      * 应用入口方法，启动 Spring Boot 应用。
      *
      * @param args 启动参数
      */
     public static void main(String[] args) {
-        SpringApplication.run(Application.class, args);
+        SpringApplication application = new SpringApplication(Application.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package ${package}.config;
+
+
+<#noparse>
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 快速启动：延迟初始化 profile 下仍需立即创建的基础设施，以及就绪前的预热。
+ *
+ * <p>{@code lazy} profile（见 {@code application-lazy.yml}）开启全局延迟初始化后，Controller、Service、
+ * Mapper 等按首次使用创建；以下 Bean 仍在启动时创建，使配置错误在启动阶段暴露，而不是落到首个请求上：</p>
+ * <ul>
+ *     <li>数据源、{@link SqlSessionFactory}、{@link RedisConnectionFactory}；</li>
+ *     <li>{@link SmartLifecycle}（如 Redis 消息监听容器），延迟后不会被启动。</li>
+ * </ul>
+ *
+ * <p>{@link WarmUpRunner} 在应用进入 {@code ACCEPTING_TRAFFIC} 之前执行，首个请求不再承担关键路径的初始化。</p>
+ */
+@Configuration
+public class FastStartupConfig {
+
+    /**
+     * 延迟初始化时仍立即创建的类型
+     */
+    private static final List<Class<?>> EAGER_TYPES = List.of(
+            DataSource.class, SqlSessionFactory.class, RedisConnectionFactory.class, SmartLifecycle.class
+    );
+
+    /**
+     * 排除关键基础设施的延迟初始化，未开启延迟初始化时不生效。
+     *
+     * <p>需声明为 static，在 BeanFactoryPostProcessor 阶段即可使用。</p>
+     *
+     * @return 延迟初始化排除过滤器
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerInfrastructure() {
+        return (beanName, definition, beanType) -> EAGER_TYPES.stream().anyMatch(type -> type.isAssignableFrom(beanType));
+    }
+
+    /**
+     * 就绪前预热
+     *
+     * @param context           应用上下文
+     * @param dataSources       数据源
+     * @param connectionFactory Redis 连接工厂
+     * @param jsonMapper        JSON 映射器
+     * @return 预热执行器
+     */
+    @Bean
+    public WarmUpRunner warmUpRunner(ApplicationContext context, ObjectProvider<DataSource> dataSources,
+                                     ObjectProvider<RedisConnectionFactory> connectionFactory,
+                                     ObjectProvider<JsonMapper> jsonMapper) {
+        return new WarmUpRunner(context, dataSources, connectionFactory, jsonMapper);
+    }
+}
+</#noparse>
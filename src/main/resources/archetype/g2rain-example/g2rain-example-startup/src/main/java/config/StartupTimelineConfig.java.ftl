@@ -0,0 +1,86 @@
+package ${package}.config;
+
+
+<#noparse>
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * 启动完成后输出启动耗时与最慢的启动步骤。
+ *
+ * <p>时间线由 {@code Application} 中的 {@link BufferingApplicationStartup} 记录，完整内容可通过
+ * {@code GET /actuator/startup} 查看（{@code POST} 会在返回后清空缓冲）。以其他方式启动
+ * （如未设置 {@code ApplicationStartup} 的测试）时不输出。</p>
+ */
+@Slf4j
+@Configuration
+public class StartupTimelineConfig {
+
+    /**
+     * 日志中输出的最慢步骤数
+     */
+    private static final int SLOWEST_STEPS = 10;
+
+    /**
+     * 启动完成后输出最慢的启动步骤
+     *
+     * @return 应用就绪事件监听器
+     */
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> startupTimelineReporter() {
+        return event -> {
+            if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+                return;
+            }
+
+            log.info("Started in {} ms, slowest steps:\n{}", event.getTimeTaken().toMillis(),
+                    format(slowest(startup.getBufferedTimeline(), SLOWEST_STEPS)));
+        };
+    }
+
+    /**
+     * 按耗时倒序取前若干个启动步骤，嵌套步骤的耗时包含其子步骤。
+     *
+     * @param timeline 启动时间线
+     * @param limit    步骤数
+     * @return 最慢的启动步骤
+     */
+    public static List<StartupTimeline.TimelineEvent> slowest(StartupTimeline timeline, int limit) {
+        return timeline.getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 将启动步骤格式化为每行一个的 {@code 耗时 步骤名 [标签]}。
+     *
+     * @param events 启动步骤
+     * @return 格式化后的文本
+     */
+    public static String format(List<StartupTimeline.TimelineEvent> events) {
+        return events.stream()
+                .map(event -> String.format("%8d ms  %s%s", event.getDuration().toMillis(),
+                        event.getStartupStep().getName(), tags(event.getStartupStep())))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String tags(StartupStep step) {
+        String tags = StreamSupport.stream(step.getTags().spliterator(), false)
+                .map(tag -> tag.getKey() + "=" + tag.getValue())
+                .collect(Collectors.joining(", "));
+        return tags.isEmpty() ? "" : " [" + tags + "]";
+    }
+}
+</#noparse>
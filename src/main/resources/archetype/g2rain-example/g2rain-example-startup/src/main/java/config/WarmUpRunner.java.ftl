@@ -0,0 +1,101 @@
+package ${package}.config;
+
+
+<#noparse>
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * 就绪前预热关键路径。
+ *
+ * <p>{@link ApplicationRunner} 在 {@code ApplicationReadyEvent} 之前执行，而就绪探针在该事件之后才返回
+ * {@code ACCEPTING_TRAFFIC}，因此预热完成前实例不会接收流量：</p>
+ * <ul>
+ *     <li>创建全部 {@link RestController} 及其依赖的 Service / Mapper（{@code lazy} profile 下它们尚未创建）；</li>
+ *     <li>从每个数据源取一次连接，填充连接池；</li>
+ *     <li>Redis {@code PING}，建立连接；</li>
+ *     <li>序列化一次 JSON，初始化 {@link JsonMapper} 的序列化器缓存。</li>
+ * </ul>
+ * <p>单步失败只输出 WARN，不阻止启动。</p>
+ */
+@Slf4j
+public class WarmUpRunner implements ApplicationRunner {
+
+    private final ApplicationContext context;
+
+    private final ObjectProvider<DataSource> dataSources;
+
+    private final ObjectProvider<RedisConnectionFactory> connectionFactory;
+
+    private final ObjectProvider<JsonMapper> jsonMapper;
+
+    /**
+     * 构造函数
+     *
+     * @param context           应用上下文
+     * @param dataSources       数据源
+     * @param connectionFactory Redis 连接工厂
+     * @param jsonMapper        JSON 映射器
+     */
+    public WarmUpRunner(ApplicationContext context, ObjectProvider<DataSource> dataSources,
+                        ObjectProvider<RedisConnectionFactory> connectionFactory, ObjectProvider<JsonMapper> jsonMapper) {
+        this.context = context;
+        this.dataSources = dataSources;
+        this.connectionFactory = connectionFactory;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long begin = System.nanoTime();
+        warm("controllers", () -> context.getBeansWithAnnotation(RestController.class).size());
+        warm("datasource", () -> dataSources.orderedStream().filter(this::valid).count());
+        warm("redis", () -> {
+            RedisConnectionFactory factory = connectionFactory.getIfAvailable();
+            if (factory == null) {
+                return "absent";
+            }
+            try (RedisConnection connection = factory.getConnection()) {
+                return connection.ping();
+            }
+        });
+        warm("json", () -> {
+            JsonMapper mapper = jsonMapper.getIfAvailable();
+            return mapper == null ? "absent" : mapper.writeValueAsString(Map.of("warm", "up"));
+        });
+        log.info("Warm-up finished in {} ms", (System.nanoTime() - begin) / 1_000_000);
+    }
+
+    private boolean valid(DataSource dataSource) {
+        // 逐个数据源捕获异常，一个数据源不可用时其余数据源仍会预热
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid(1);
+        } catch (Exception e) {
+            log.warn("Warm-up datasource {} failed: {}", dataSource, e.toString());
+            return false;
+        }
+    }
+
+    private void warm(String step, Callable<?> action) {
+        long begin = System.nanoTime();
+        try {
+            Object result = action.call();
+            log.debug("Warm-up {} -> {} in {} ms", step, result, (System.nanoTime() - begin) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("Warm-up {} failed: {}", step, e.toString());
+        }
+    }
+}
+</#noparse>
@@ -0,0 +1,213 @@
+<#if runtime?has_content>
+# 运行时画像: ${runtime.id}
+# ${runtime.summary}
+server:
+  tomcat:
+    # 请求在虚拟线程上执行, 没有固定工作线程池, 最大连接数即请求并发上限
+    max-connections: ${runtime.maxConnections?c}
+    # 连接数达到上限后的等待队列长度, 队列越短过载时失败越快、排队延迟越小
+    accept-count: ${runtime.acceptCount?c}
+    # 建立连接后等待请求行的超时时间
+    connection-timeout: ${runtime.connectionTimeout}
+    # keep-alive 空闲超时, 越长连接复用率越高、握手越少, 但占用的连接数越多
+    keep-alive-timeout: ${runtime.keepAliveTimeout}
+    # 单个 keep-alive 连接最多处理的请求数, -1 表示不限制
+    max-keep-alive-requests: ${runtime.maxKeepAliveRequests?c}
+</#if>
+spring:
+  datasource:
+    hikari:
+      # 请求在虚拟线程上执行, 并发上限<#if runtime?has_content> (max-connections: ${runtime.maxConnections?c})</#if>远大于连接池;
+      # 连接池按 MySQL 能高效并行执行的查询数设置, 超出的请求在连接池排队而不是压垮数据库
+      maximum-pool-size: <#if runtime?has_content>${runtime.poolSize?c}<#else>20</#if>
+      # 固定大小的连接池, 避免流量突增时临时建连 (TLS + 认证约数毫秒) 叠加到请求延迟上
+      minimum-idle: <#if runtime?has_content>${runtime.poolSize?c}<#else>20</#if>
+      # 取连接的最长排队时间, 超时快速失败, 避免虚拟线程无限堆积在连接池上
+      connection-timeout: <#if runtime?has_content>${runtime.poolTimeout}<#else>3s</#if>
+      # 小于 MySQL wait_timeout 及中间网络设备的空闲断开时间, 由连接池主动替换连接而不是用到已断开的连接
+      max-lifetime: 30m
+      # 空闲连接定期探活, 防止被防火墙 / 代理静默断开
+      keepalive-time: 5m
+      data-source-properties:
+        # 驱动把批处理中的同一 INSERT 改写为一条多行 VALUES 语句, 批量写入 (BatchWriter) 依赖此项
+        rewriteBatchedStatements: true
+        # 设置了 fetch size 的语句使用服务端游标分批拉取, 流式导出 (CursorExporter) 依赖此项; 未设置 fetch size 的语句不受影响
+        useCursorFetch: true
+        # 不设置全局 fetch size: 开启 useCursorFetch 后全局值会让所有查询改走服务端游标, 增加往返; 仅导出语句设置
+        defaultFetchSize: 0
+        # 使用服务端预编译, 同一语句只在服务端解析一次, 之后只传参数 (二进制协议)
+        useServerPrepStmts: true
+        # 在连接上缓存预编译语句, 配合服务端预编译避免每次执行都 PREPARE / DEALLOCATE
+        cachePrepStmts: true
+        # 每个连接缓存的语句数, 需覆盖生成的 Mapper 语句中的常用部分 (驱动默认 25 过小)
+        prepStmtCacheSize: 250
+        # 可缓存的 SQL 最大长度, 生成的动态 SQL (含多个 <if> 条件) 常超过驱动默认的 256
+        prepStmtCacheSqlLimit: 2048
+        # 缓存结果集元数据, 省去重复解析列定义
+        cacheResultSetMetadata: true
+        # 缓存服务端变量, 建连时不再执行 SHOW VARIABLES
+        cacheServerConfiguration: true
+        # 以驱动本地记录的会话状态判断 autocommit / 隔离级别, 省去事务边界上多余的 SET 语句
+        useLocalSessionState: true
+        # autocommit 未变化时不发送 SET autocommit
+        elideSetAutoCommits: true
+        # 不为每次查询记录耗时统计, 指标由 Mapper 拦截器与 Hikari 提供
+        maintainTimeStats: false
+  data:
+    redis:
+      # 命令超时, Redis 用作缓存 / 限流时宁可快速失败回退数据库, 也不要拖长请求
+      timeout: 2s
+      connect-timeout: 1s
+      lettuce:
+        # 不启用连接池: Lettuce 连接线程安全, 所有线程共享一条原生连接并自动流水线化, 虚拟线程下无需按线程借还连接;
+        # 仅在使用阻塞命令 (BLPOP 等) 或事务 (MULTI) 时才需要连接池
+        pool:
+          enabled: false
+        # 关闭时等待进行中命令完成的时间, 缩短实例下线耗时
+        shutdown-timeout: 100ms
+management:
+  endpoints:
+    web:
+      exposure:
+        # 启动步骤时间线端点 startup 仅在 dev profile 下暴露, 见 application-dev.yml
+        include: health
+<#if features.tracing>
+  tracing:
+    sampling:
+      # 采样率, 0.0 ~ 1.0; 上游已带采样决定 (traceparent) 的请求沿用上游决定
+      probability: ${"$"}{TRACING_SAMPLING_PROBABILITY:0.1}
+</#if>
+g2rain:
+<#if features.tracing>
+  tracing:
+    # 以 OTLP JSON 将 span 输出到日志 (logger io.opentelemetry.exporter.logging.otlp), 接入 OTLP 采集器后可关闭
+    local-exporter: true
+</#if>
+<#if features.readWriteSplitting>
+  datasource:
+    read-write:
+      # 从库列表, 连接池参数复制 spring.datasource.hikari, 账号需要 REPLICATION CLIENT 权限
+      replicas:
+        - url: jdbc:mysql://replica-0:3306/${projectName}
+          username: root
+          password: root123456
+      # 复制延迟超过该值的从库不再接收读请求, 全部超限时回退主库
+      max-lag: 5s
+      lag-check-interval: 5s
+</#if>
+<#if features.tenantSharding>
+  datasource:
+    sharding:
+      # 除默认分片 (spring.datasource) 外的分片, 连接池参数复制 spring.datasource.hikari, 表结构必须一致
+      shards:
+        shard-1:
+          url: jdbc:mysql://shard-1:3306/${projectName}
+          username: root
+          password: root123456
+      # 租户到分片的路由表, 如 "tenant-a": shard-1; 未列出的租户走默认分片
+      routes: {}
+      # 跨分片查询 (TenantShards.gather) 的超时时间
+      scatter-timeout: 5s
+</#if>
+<#if features.structuredConcurrency>
+  fan-out:
+    # FanOut 默认截止时间, 超时后取消全部子任务
+    deadline: 2s
+</#if>
+<#if features.rateLimit>
+  rate-limit:
+    # 需声明 IsolationContextSource Bean 后才生效, 否则启动时警告并跳过限流
+    # 参与限流的路径
+    paths: /**
+    # 默认配额: 每个租户在每个接口上每秒补充 rate 个令牌, 最多积累 burst 个
+    quota:
+      rate: 50
+      burst: 100
+    # 按接口覆盖配额, 键为 "方法 路径模式", 如 "[GET /users/export]": {rate: 1, burst: 2}
+    endpoints: {}
+    # 按租户覆盖配额 (优先于接口), 键为租户标识
+    tenants: {}
+    # 没有已认证租户的请求按客户端地址限流 (经代理时需配置 server.forward-headers-strategy)
+    anonymous:
+      rate: 10
+      burst: 20
+    # 拒绝指标 g2rain.rate-limit.tenant.rejections 的 tenant 标签最多取值数
+    max-tenant-tags: 100
+    bulkhead:
+      # 单个租户 (或未认证客户端) 同时处理中的请求上限 (每个实例), 0 表示不限制
+      max-concurrent: 32
+      # 达到上限后等待空位的时间, 0 表示立即返回 503
+      max-wait: 0ms
+</#if>
+<#if features.idGenerator>
+  id:
+    # Snowflake worker (0 ~ 1023), 实例间必须唯一; -1 表示读取注册实例元数据 worker-id
+    # (spring.cloud.nacos.discovery.metadata.worker-id), 都未设置时从 Redis 租用, 全部占用时启动失败
+    worker-id: ${"$"}{ID_WORKER_ID:-1}
+    # Redis 租约有效期, 每 1/3 续期一次, 实例宕机后经过该时间释放
+    lease-ttl: 60s
+    # 时间戳纪元, 上线后不可修改
+    epoch: 2026-01-01T00:00:00Z
+    # 时钟回拨容忍度, 超出时发号失败
+    max-drift: 5s
+    # insert 前填充空主键的表, 逗号分隔, 留空表示所有表
+    tables:
+</#if>
+  export:
+    # 是否启用流式导出 (CursorExporter 与 fetch size 拦截器)
+    enabled: false
+    # 流式导出每次从服务端游标拉取的行数
+    fetch-size: 1000
+  tenant:
+    # 租户列, 与 codegen.properties 的 data.isolation.tenantColumns 保持一致
+    columns: organ_id
+  cache:
+    # 启用两级缓存 (Caffeine L1 + Redis L2) 的表, 逗号分隔, 留空表示不缓存
+    tables:
+    # 本地缓存容量与存活时间
+    local-maximum-size: 10000
+    local-ttl: 30s
+    # Redis 缓存存活时间
+    remote-ttl: 10m
+  etag:
+    # 列表接口按表 + 租户的变更计数器生成 ETag 的表, 逗号分隔
+    tables:
+    # 详情接口按顺序查找的行版本列, 命中时只按主键查询该列生成 ETag
+    version-columns: version,update_time
+  table-version:
+    # 本地持有表版本号的时间, 也是错过变更广播时的最长不一致窗口
+    local-ttl: 30s
+  optimistic:
+    # 乐观锁更新的最大尝试次数 (含首次), 事务中调用时只尝试一次
+    max-attempts: 5
+    # 指数退避 + 随机抖动: 第 n 次重试前等待 [0, min(max-backoff, base-backoff * 2^n))
+    base-backoff: 5ms
+    max-backoff: 100ms
+  lookup:
+    # 启动时整表加载到内存的字典表, 逗号分隔, 应为不区分租户的小表 (如 dict_type,config)
+    tables:
+    # 定时全量刷新间隔, 表写入时另经表版本号通知立即刷新
+    refresh-interval: 10m
+    # 单表最大行数, 超出时不替换快照
+    max-rows: 10000
+  client:
+    # InternalClients 共享的 JDK HttpClient: 建立连接与等待响应的超时, 连接保持复用
+    connect-timeout: 2s
+    read-timeout: 5s
+  mybatis:
+    batch:
+      # BatchWriter 每块行数, 每块一次往返
+      chunk-size: 1000
+      # InChunks / BatchLoader 每次 IN 查询的最大主键数
+      in-chunk-size: 500
+      # BatchLoader 合并并发 load 的等待窗口
+      load-window: 2ms
+    metrics:
+      # Mapper 语句耗时 / 行数指标 (g2rain.mybatis.statement), 以及慢 SQL 日志
+      enabled: true
+      # 超过该耗时的语句以 WARN 输出 SQL 与参数个数
+      slow-threshold: 500ms
+      # 慢 SQL 日志是否输出参数值, 参数可能包含个人信息, 仅在排查时开启
+      log-parameters: false
+      # 慢查询在虚拟线程上异步执行 EXPLAIN 并输出执行计划, 同一时刻至多一个, prod profile 下始终关闭
+      explain: true
@@ -0,0 +1,76 @@
+package ${package};
+
+
+import ${package}.config.StartupTimelineConfig;
+<#noparse>
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.context.ImportTestcontainers;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 启动耗时预算测试。
+ *
+ * <p>通过 {@code Application.main} 启动完整应用，MySQL 与 Redis 由本地容器替身提供（在计时开始前就绪），
+ * Nacos 在 {@code application-startup-test.yml} 中关闭；启动耗时超过 {@code startup.budget}
+ * （默认见 startup 模块 pom）即失败，并输出最慢的启动步骤以便定位回归。</p>
+ *
+ * <p>本地没有 Docker 时跳过。调整预算：{@code mvn test -Dstartup.budget=15s}。</p>
+ */
+@Slf4j
+@Testcontainers(disabledWithoutDocker = true)
+class StartupBudgetTest {
+
+    private static final int SLOWEST_STEPS = 20;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer mysql = new MySQLContainer("mysql:8.4");
+
+    @Container
+    @ServiceConnection(name = "redis")
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7.4-alpine").withExposedPorts(6379);
+
+    @Test
+    void startsWithinBudget() {
+        Duration budget = DurationStyle.detectAndParse(System.getProperty("startup.budget", "20s"));
+
+        long begin = System.nanoTime();
+        try (ConfigurableApplicationContext context = SpringApplication.from(Application::main)
+                .with(StandIns.class)
+                .withAdditionalProfiles("startup-test")
+                .run("--server.port=0")
+                .getApplicationContext()) {
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - begin);
+
+            BufferingApplicationStartup startup = assertInstanceOf(BufferingApplicationStartup.class,
+                    context.getApplicationStartup());
+            String slowest = StartupTimelineConfig.format(
+                    StartupTimelineConfig.slowest(startup.getBufferedTimeline(), SLOWEST_STEPS));
+            log.info("[startup] {} ms (budget {} ms)\n{}", elapsed.toMillis(), budget.toMillis(), slowest);
+
+            assertTrue(elapsed.compareTo(budget) <= 0, "Startup took " + elapsed.toMillis() + " ms, budget "
+                    + budget.toMillis() + " ms, slowest steps:\n" + slowest);
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    @ImportTestcontainers(StartupBudgetTest.class)
+    static class StandIns {
+    }
+}
+</#noparse>
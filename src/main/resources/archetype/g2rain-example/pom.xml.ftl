@@ -49,6 +49,12 @@
         <flatten.maven.plugin.version>1.7.3</flatten.maven.plugin.version>
         <jib.maven.plugin.version>3.5.1</jib.maven.plugin.version>
         <maven.source.plugin.version>3.4.0</maven.source.plugin.version>
+<#if features.benchmark>
+        <jmh.version>1.37</jmh.version>
+</#if>
+<#if features.loadTest>
+        <hdrhistogram.version>2.2.2</hdrhistogram.version>
+</#if>
         <maven.compiler.release>25</maven.compiler.release>
         <project.build.sourceEncoding>UTF-8</project.build.sourceEncoding>
     </properties>
@@ -143,6 +149,23 @@
     <build>
         <pluginManagement>
             <plugins>
+<#if features.structuredConcurrency>
+                <!-- 测试与 spring-boot:run 同样以预览特性运行 -->
+                <plugin>
+                    <groupId>org.apache.maven.plugins</groupId>
+                    <artifactId>maven-surefire-plugin</artifactId>
+                    <configuration>
+                        <argLine>--enable-preview</argLine>
+                    </configuration>
+                </plugin>
+                <plugin>
+                    <groupId>org.springframework.boot</groupId>
+                    <artifactId>spring-boot-maven-plugin</artifactId>
+                    <configuration>
+                        <jvmArguments>--enable-preview</jvmArguments>
+                    </configuration>
+                </plugin>
+</#if>
                 <plugin>
                     <groupId>com.g2rain</groupId>
                     <artifactId>g2rain-crafter</artifactId>
@@ -170,6 +193,10 @@
                     <compilerArgs>
                         <!-- 启用方法参数元数据保留, 支持反射获取参数名(如WebFlux参数绑定) -->
                         <arg>-parameters</arg>
+<#if features.structuredConcurrency>
+                        <!-- 结构化并发 (StructuredTaskScope) 在 JDK 25 中仍为预览 API -->
+                        <arg>--enable-preview</arg>
+</#if>
                     </compilerArgs>
                     <!-- 配置注解处理器依赖路径 -->
                     <annotationProcessorPaths>
@@ -232,4 +259,27 @@
             </plugin>
         </plugins>
     </build>
+<#if features.benchmark || features.loadTest>
+
+    <profiles>
+<#if features.benchmark>
+        <!-- 基准测试: mvn -Pbench verify, 结果输出到 ${projectName}-benchmark/target/jmh-result.json -->
+        <profile>
+            <id>bench</id>
+            <modules>
+                <module>${projectName}-benchmark</module>
+            </modules>
+        </profile>
+</#if>
+<#if features.loadTest>
+        <!-- 压测: mvn -Ploadtest verify, 需要本地 Docker 启动 MySQL / Redis 替身, SLO 不达标时构建失败 -->
+        <profile>
+            <id>loadtest</id>
+            <modules>
+                <module>${projectName}-loadtest</module>
+            </modules>
+        </profile>
+</#if>
+    </profiles>
+</#if>
 </project>
@@ -1,7 +1,12 @@
 package com.g2rain.crafter;
 
+import com.g2rain.crafter.advisor.IndexAdvisorTest;
+import com.g2rain.crafter.advisor.PartitionAdvisorTest;
+import com.g2rain.crafter.config.RuntimeProfileTest;
 import com.g2rain.crafter.config.SkeletonConfigTest;
+import com.g2rain.crafter.config.SkeletonFeatureTest;
 import com.g2rain.crafter.generator.SkeletonGeneratorCodegenPropertiesTest;
+import com.g2rain.crafter.generator.SkeletonGeneratorOptionsTest;
 import com.g2rain.crafter.generator.SkeletonGeneratorTest;
 import com.g2rain.crafter.utils.ConstantsTest;
 import org.junit.platform.suite.api.SelectClasses;
@@ -16,12 +21,18 @@ import org.junit.platform.suite.api.Suite;
         ConstantsTest.class,
 
         SkeletonConfigTest.class,
+        RuntimeProfileTest.class,
+        SkeletonFeatureTest.class,
+
+        IndexAdvisorTest.class,
+        PartitionAdvisorTest.class,
 
         SkeletonGeneratorTest.class,
 
         BootstrapMojoTest.class,
         BootstrapMojoConfigTest.class,
         SkeletonGeneratorCodegenPropertiesTest.class,
+        SkeletonGeneratorOptionsTest.class,
 })
 public class AllTestsSuite {
 }
\ No newline at end of file
@@ -1,15 +1,21 @@
 package com.g2rain.crafter;
 
+import com.g2rain.crafter.config.RuntimeProfile;
+import com.g2rain.crafter.config.SkeletonFeature;
 import com.g2rain.generator.config.FoundryConfig;
+import org.apache.maven.plugin.MojoExecutionException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.lang.reflect.Method;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BootstrapMojoConfigTest {
@@ -72,6 +78,42 @@ public class BootstrapMojoConfigTest {
         assertEquals("dict_type", mojo.resolveExcludeTables());
     }
 
+    @Test
+    void skeletonOptionsRejectUnknownValues() throws Exception {
+        BootstrapMojo mojo = new BootstrapMojo();
+        setField(mojo, "runtimeProfile", "turbo");
+        setField(mojo, "features", "benchmark,turbo");
+
+        assertThrows(MojoExecutionException.class, mojo::resolveRuntimeProfile);
+        assertThrows(MojoExecutionException.class, mojo::resolveFeatures);
+
+        setField(mojo, "runtimeProfile", "small-footprint");
+        setField(mojo, "features", "benchmark");
+
+        assertEquals(RuntimeProfile.SMALL_FOOTPRINT, mojo.resolveRuntimeProfile());
+        assertEquals(Set.of(SkeletonFeature.BENCHMARK), mojo.resolveFeatures());
+    }
+
+    @Test
+    void conflictingFeaturesAreRejected() throws Exception {
+        BootstrapMojo mojo = new BootstrapMojo();
+        setField(mojo, "features", "readWriteSplitting,tenantSharding");
+
+        assertThrows(MojoExecutionException.class, mojo::resolveFeatures);
+    }
+
+    @Test
+    void blankOrWildcardTablesSkipAnalysis() throws Exception {
+        BootstrapMojo mojo = new BootstrapMojo();
+        for (String tables : new String[]{null, " ", " , ", "user_%", "order,*"}) {
+            setField(mojo, "tables", tables);
+            assertEquals(List.of(), mojo.resolveTables(), String.valueOf(tables));
+        }
+
+        setField(mojo, "tables", " user_role , order ");
+        assertEquals(List.of("user_role", "order"), mojo.resolveTables());
+    }
+
     private BootstrapMojo createMojoWithConfig(String content) throws Exception {
         Path configPath = tempDir.resolve("codegen.properties");
         Files.writeString(configPath, content);
@@ -0,0 +1,125 @@
+package com.g2rain.crafter.advisor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * IndexAdvisor索引分析的测试类
+ */
+public class IndexAdvisorTest {
+
+    private static final IndexDefinition PRIMARY = new IndexDefinition("PRIMARY", true, List.of("id"));
+
+    @Test
+    void tableNamePatternIsEscaped() {
+        assertEquals("user\\_role", JdbcIndexInspector.escapePattern("user_role", "\\"));
+        assertEquals("a\\%b\\\\c", JdbcIndexInspector.escapePattern("a%b\\c", "\\"));
+        assertEquals("user_role", JdbcIndexInspector.escapePattern("user_role", ""));
+    }
+
+    @Test
+    void tenantLeadingIndexNeedsNoAdvice() {
+        TableIndexes table = table(PRIMARY, new IndexDefinition("idx_organ", false, List.of("organ_id", "name")));
+
+        assertTrue(advisor(List.of()).advise(table).isEmpty());
+    }
+
+    @Test
+    void missingTenantIndexIsReported() {
+        List<IndexAdvice> advices = advisor(List.of()).advise(table(PRIMARY));
+
+        assertEquals(1, advices.size());
+        assertEquals(IndexAdvice.Kind.MISSING, advices.getFirst().kind());
+        assertEquals("CREATE INDEX idx_user_organ_id ON `user` (`organ_id`);", advices.getFirst().ddl());
+    }
+
+    @Test
+    void tenantColumnOutsideLeftmostPositionIsPoorlyOrdered() {
+        TableIndexes table = table(PRIMARY, new IndexDefinition("idx_name_organ", false, List.of("name", "organ_id")));
+
+        List<IndexAdvice> advices = advisor(List.of()).advise(table);
+
+        assertEquals(1, advices.size());
+        assertEquals(IndexAdvice.Kind.POORLY_ORDERED, advices.getFirst().kind());
+        assertEquals("CREATE INDEX idx_user_organ_id_name ON `user` (`organ_id`, `name`);", advices.getFirst().ddl());
+    }
+
+    @Test
+    void filterColumnOnTenantTableNeedsTenantLeadingComposite() {
+        TableIndexes table = table(PRIMARY, new IndexDefinition("idx_status", false, List.of("status")));
+
+        List<IndexAdvice> advices = advisor(List.of("status", "absent")).advise(table);
+
+        // 复合索引同时覆盖租户条件，不再单独建议租户列索引
+        assertEquals(1, advices.size());
+        assertEquals("CREATE INDEX idx_user_organ_id_status ON `user` (`organ_id`, `status`);", advices.getFirst().ddl());
+    }
+
+    @Test
+    void excludedOrNonIsolatedTablesOnlyCheckFilterColumns() {
+        TableIndexes table = table(PRIMARY);
+
+        IndexAdvisor excluded = new IndexAdvisor(true, List.of("organ_id"), List.of("USER"), List.of("status"));
+        IndexAdvisor isolationOff = new IndexAdvisor(false, List.of("organ_id"), List.of(), List.of());
+
+        assertEquals(List.of("CREATE INDEX idx_user_status ON `user` (`status`);"),
+                excluded.advise(table).stream().map(IndexAdvice::ddl).toList());
+        assertTrue(isolationOff.advise(table).isEmpty());
+    }
+
+    @Test
+    void reportWritesMarkdownAndDdl(@TempDir Path dir) throws Exception {
+        TableIndexes table = table(PRIMARY);
+        List<IndexAdvice> advices = advisor(List.of()).advise(table);
+
+        new IndexAdviceReport(List.of(table), advices).writeTo(dir.resolve("reports"));
+
+        String markdown = Files.readString(dir.resolve("reports").resolve(IndexAdviceReport.REPORT_FILE));
+        String ddl = Files.readString(dir.resolve("reports").resolve(IndexAdviceReport.DDL_FILE));
+        assertTrue(markdown.contains("Analysed 1 table(s), 1 finding(s)."));
+        assertTrue(markdown.contains("| user | MISSING |"));
+        assertTrue(ddl.contains("CREATE INDEX idx_user_organ_id ON `user` (`organ_id`);"));
+    }
+
+    @Test
+    void truncatedIndexNamesStayDistinct() {
+        String table = "customer_subscription_billing_history";
+        TableIndexes indexes = new TableIndexes(table,
+                List.of("id", "organ_id", "subscription_status_code", "subscription_status_changed_at"),
+                List.of(PRIMARY));
+        IndexAdvisor advisor = new IndexAdvisor(false, List.of(), List.of(),
+                List.of("subscription_status_code", "subscription_status_changed_at"));
+
+        List<String> names = advisor.advise(indexes).stream().map(advice -> advice.ddl().split(" ")[2]).toList();
+
+        assertEquals(2, names.size());
+        assertTrue(names.stream().allMatch(name -> name.length() == 64), names::toString);
+        assertNotEquals(names.get(0), names.get(1));
+    }
+
+    @Test
+    void reportEscapesTableCells() {
+        TableIndexes table = new TableIndexes("user|role", List.of("id", "organ_id"), List.of(PRIMARY));
+        List<IndexAdvice> advices = advisor(List.of()).advise(table);
+
+        String markdown = new IndexAdviceReport(List.of(table), advices).markdown();
+        assertTrue(markdown.contains("| user\\|role | MISSING |"), markdown);
+        assertTrue(markdown.contains("| `` CREATE INDEX idx_user\\|role_organ_id ON `user\\|role` (`organ_id`); `` |"), markdown);
+    }
+
+    private static IndexAdvisor advisor(List<String> filterColumns) {
+        return new IndexAdvisor(true, List.of("organ_id"), List.of(), filterColumns);
+    }
+
+    private static TableIndexes table(IndexDefinition... indexes) {
+        return new TableIndexes("user", List.of("id", "organ_id", "name", "status"), List.of(indexes));
+    }
+}
@@ -0,0 +1,114 @@
+package com.g2rain.crafter.advisor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * PartitionAdvisor分区裁剪分析的测试类
+ */
+public class PartitionAdvisorTest {
+
+    private static final TableIndexes ORDER = new TableIndexes("order",
+            List.of("id", "organ_id", "status", "create_time"), List.of());
+
+    @Test
+    void partitionKeyIsReadFromExpression() {
+        assertEquals(List.of("create_time"),
+                JdbcPartitionInspector.columnsOf("to_days(`create_time`)", ORDER.columns()));
+        assertEquals(List.of("organ_id", "create_time"),
+                JdbcPartitionInspector.columnsOf("`organ_id`,`create_time`", ORDER.columns()));
+        assertEquals(List.of("create_time"),
+                JdbcPartitionInspector.columnsOf("year(create_time)", ORDER.columns()));
+    }
+
+    @Test
+    void rangePartitionOnDateCannotPruneGeneratedQueries() {
+        List<PartitionAdvice> advices = new PartitionAdvisor(List.of("status"))
+                .advise(ORDER, partitioning("RANGE", "create_time"), "organ_id");
+
+        assertEquals(List.of("selectById", "updateById", "deleteById", "selectList"),
+                advices.stream().map(PartitionAdvice::statement).toList());
+        assertTrue(advices.stream().allMatch(advice -> advice.kind() == PartitionAdvice.Kind.CANNOT_PRUNE));
+        assertEquals("Make the partition key required in the query DTO: "
+                        + "AND `create_time` >= #{createTimeStart} AND `create_time` < #{createTimeEnd}",
+                advices.getLast().suggestion());
+    }
+
+    @Test
+    void multiColumnRangeSuggestsEqualityOnLeadingColumnsAndRangeOnLast() {
+        TablePartitioning partitioning = new TablePartitioning("order", "RANGE COLUMNS", "`status`,`create_time`",
+                List.of("status", "create_time"), List.of("p0", "p1"));
+
+        assertEquals("Make the partition key required in the query DTO: AND `status` = #{status} "
+                        + "AND `create_time` >= #{createTimeStart} AND `create_time` < #{createTimeEnd}",
+                new PartitionAdvisor(List.of()).advise(ORDER, partitioning, null).getLast().suggestion());
+    }
+
+    @Test
+    void multiColumnRangeSkipsLeadingTenantColumn() {
+        TablePartitioning partitioning = new TablePartitioning("order", "RANGE COLUMNS", "`organ_id`,`create_time`",
+                List.of("organ_id", "create_time"), List.of("p0", "p1"));
+
+        assertEquals("Make the partition key required in the query DTO: "
+                        + "AND `create_time` >= #{createTimeStart} AND `create_time` < #{createTimeEnd}",
+                new PartitionAdvisor(List.of()).advise(ORDER, partitioning, "organ_id").getLast().suggestion());
+    }
+
+    @Test
+    void byIdSuggestionSkipsColumnsAlreadyConstrained() {
+        TablePartitioning partitioning = new TablePartitioning("order", "KEY", "`organ_id`,`id`,`status`",
+                List.of("organ_id", "id", "status"), List.of("p0", "p1"));
+
+        assertEquals("Also pass the partition key: WHERE `id` = #{id} AND `status` = #{status}",
+                new PartitionAdvisor(List.of()).advise(ORDER, partitioning, "organ_id").getFirst().suggestion());
+    }
+
+    @Test
+    void optionalFilterOnHashKeyPrunesOnlyWhenSupplied() {
+        List<PartitionAdvice> advices = new PartitionAdvisor(List.of("status"))
+                .advise(ORDER, partitioning("KEY", "status"), null);
+
+        PartitionAdvice list = advices.getLast();
+        assertEquals(PartitionAdvice.Kind.PRUNES_WHEN_FILTERED, list.kind());
+        assertEquals("Make the partition key required in the query DTO: AND `status` = #{status}", list.suggestion());
+    }
+
+    @Test
+    void tenantPartitionKeyPrunesEveryGeneratedQuery() {
+        assertTrue(new PartitionAdvisor(List.of())
+                .advise(ORDER, partitioning("HASH", "organ_id"), "organ_id").isEmpty());
+    }
+
+    @Test
+    void reportListsPartitionedTablesAndFindings(@TempDir Path dir) throws Exception {
+        TablePartitioning partitioning = partitioning("RANGE", "create_time");
+        List<PartitionAdvice> advices = new PartitionAdvisor(List.of()).advise(ORDER, partitioning, null);
+
+        new PartitionReport(List.of(partitioning), advices).writeTo(dir);
+
+        String markdown = Files.readString(dir.resolve(PartitionReport.REPORT_FILE));
+        assertTrue(markdown.contains("Found 1 partitioned table(s), 4 generated statement(s) that may not prune."));
+        assertTrue(markdown.contains("| order | RANGE | `` to_days(`create_time`) `` | 3 |"));
+        assertTrue(markdown.contains("| order | selectList | CANNOT_PRUNE |"));
+    }
+
+    @Test
+    void reportEscapesPipesInExpressions() {
+        TablePartitioning partitioning = new TablePartitioning("order", "HASH", "`organ_id` | 1",
+                List.of("organ_id"), List.of("p0", "p1"));
+
+        String markdown = new PartitionReport(List.of(partitioning), List.of()).markdown();
+        assertTrue(markdown.contains("| order | HASH | `` `organ_id` \\| 1 `` | 2 |"));
+    }
+
+    private static TablePartitioning partitioning(String method, String key) {
+        return new TablePartitioning("order", method, "to_days(`" + key + "`)", List.of(key), List.of("p2024", "p2025", "p2026"));
+    }
+}
@@ -0,0 +1,53 @@
+package com.g2rain.crafter.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * RuntimeProfile运行时画像的测试类
+ */
+public class RuntimeProfileTest {
+
+    @Test
+    void testOfResolvesIdIgnoringCaseAndWhitespace() {
+        assertEquals(RuntimeProfile.LOW_LATENCY, RuntimeProfile.of("low-latency"));
+        assertEquals(RuntimeProfile.THROUGHPUT, RuntimeProfile.of(" Throughput "));
+        assertEquals(RuntimeProfile.SMALL_FOOTPRINT, RuntimeProfile.of("small-footprint"));
+    }
+
+    @Test
+    void testOfReturnsNullForBlank() {
+        assertNull(RuntimeProfile.of(null));
+        assertNull(RuntimeProfile.of(" "));
+    }
+
+    @Test
+    void testOfRejectsUnknownProfile() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> RuntimeProfile.of("turbo"));
+        assertTrue(e.getMessage().contains("low-latency|throughput|small-footprint"));
+    }
+
+    @Test
+    void testEachProfileSelectsExactlyOneCollector() {
+        for (RuntimeProfile profile : RuntimeProfile.values()) {
+            long collectors = profile.getJvmFlags().stream()
+                    .filter(flag -> flag.matches("-XX:\\+Use(ZGC|G1GC|ParallelGC|SerialGC)"))
+                    .count();
+            assertEquals(1, collectors, profile.getId());
+            assertTrue(profile.getJvmFlags().stream().anyMatch(flag -> flag.startsWith("-XX:MaxRAMPercentage=")));
+        }
+    }
+
+    @Test
+    void testPoolIsMuchSmallerThanRequestConcurrency() {
+        for (RuntimeProfile profile : RuntimeProfile.values()) {
+            assertTrue(profile.getPoolSize() > 0, profile.getId());
+            assertTrue(profile.getPoolSize() * 16 <= profile.getMaxConnections(), profile.getId());
+            assertEquals(profile.getPoolSize(), profile.toData().get("poolSize"));
+        }
+    }
+}
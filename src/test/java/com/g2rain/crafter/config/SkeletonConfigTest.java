@@ -3,10 +3,12 @@ package com.g2rain.crafter.config;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * SkeletonConfig配置类的测试类
@@ -69,7 +71,33 @@ public class SkeletonConfigTest {
         assertEquals(version, data.get("version"));
         assertEquals(description, data.get("description"));
         assertEquals(basePackage, data.get("package"));
-        assertEquals(5, data.size());
+        assertEquals(Map.of(), data.get("runtime"));
+        assertEquals(false, ((Map<?, ?>) data.get("features")).get("benchmark"));
+        assertEquals(7, data.size());
+    }
+
+    @Test
+    void testToDataWithFeatures() {
+        SkeletonConfig config = new SkeletonConfig("com.g2rain", "g2rain-demo", "1.0.0", "com.g2rain.demo", "示例项目");
+        config.setFeatures(Set.of(SkeletonFeature.BENCHMARK));
+
+        Map<?, ?> features = (Map<?, ?>) config.toData().get("features");
+
+        assertTrue(config.isEnabled(SkeletonFeature.BENCHMARK));
+        assertEquals(true, features.get("benchmark"));
+        assertEquals(SkeletonFeature.values().length, features.size());
+    }
+
+    @Test
+    void testToDataWithRuntimeProfile() {
+        SkeletonConfig config = new SkeletonConfig("com.g2rain", "g2rain-demo", "1.0.0", "com.g2rain.demo", "示例项目");
+        config.setRuntimeProfile(RuntimeProfile.LOW_LATENCY);
+
+        Map<?, ?> runtime = (Map<?, ?>) config.toData().get("runtime");
+
+        assertEquals("low-latency", runtime.get("id"));
+        assertEquals(RuntimeProfile.LOW_LATENCY.getJvmFlags(), runtime.get("jvmFlags"));
+        assertEquals(4096, runtime.get("maxConnections"));
     }
 
     @Test
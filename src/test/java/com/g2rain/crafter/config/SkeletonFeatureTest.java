@@ -0,0 +1,73 @@
+package com.g2rain.crafter.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SkeletonFeature骨架可选特性的测试类
+ */
+public class SkeletonFeatureTest {
+
+    @Test
+    void testParseIgnoresCaseWhitespaceAndEmptyItems() {
+        assertEquals(Set.of(SkeletonFeature.BENCHMARK), SkeletonFeature.parse(" Benchmark ,,"));
+        assertEquals(Set.of(SkeletonFeature.BENCHMARK, SkeletonFeature.LOAD_TEST), SkeletonFeature.parse("loadtest,benchmark"));
+    }
+
+    @Test
+    void testParseBlankReturnsEmptySet() {
+        assertTrue(SkeletonFeature.parse(null).isEmpty());
+        assertTrue(SkeletonFeature.parse("").isEmpty());
+    }
+
+    @Test
+    void testParseRejectsUnknownFeature() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> SkeletonFeature.parse("benchmark,turbo"));
+        assertTrue(e.getMessage().contains("turbo"));
+    }
+
+    @Test
+    void testParseRejectsReadWriteSplittingWithTenantSharding() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> SkeletonFeature.parse("readWriteSplitting,tenantSharding"));
+        assertTrue(e.getMessage().contains("cannot be combined"));
+        assertEquals(Set.of(SkeletonFeature.TENANT_SHARDING), SkeletonFeature.parse("tenantSharding"));
+    }
+
+    @Test
+    void testOwnsMatchesTemplatePathPrefix() {
+        assertTrue(SkeletonFeature.BENCHMARK.owns("g2rain-example/g2rain-example-benchmark/pom.xml.ftl"));
+        assertFalse(SkeletonFeature.BENCHMARK.owns("g2rain-example/g2rain-example-biz/pom.xml.ftl"));
+        assertTrue(SkeletonFeature.READ_WRITE_SPLITTING.owns(
+                "g2rain-example/g2rain-example-biz/src/main/java/support/routing/ReadWriteRoutingDataSource.java.ftl"));
+        assertFalse(SkeletonFeature.READ_WRITE_SPLITTING.owns(
+                "g2rain-example/g2rain-example-biz/src/main/java/support/cache/TableCache.java.ftl"));
+        assertTrue(SkeletonFeature.FAST_STARTUP.owns(
+                "g2rain-example/g2rain-example-startup/src/main/resources/application-lazy.yml"));
+        assertFalse(SkeletonFeature.FAST_STARTUP.owns(
+                "g2rain-example/g2rain-example-startup/src/main/resources/application.yml.ftl"));
+        assertTrue(SkeletonFeature.STRUCTURED_CONCURRENCY.owns(
+                "g2rain-example/g2rain-example-biz/src/main/java/support/concurrent/FanOut.java.ftl"));
+        assertTrue(SkeletonFeature.TRACING.owns(
+                "g2rain-example/g2rain-example-benchmark/src/main/java/benchmark/TracingOverheadBenchmark.java.ftl"));
+        assertFalse(SkeletonFeature.TRACING.owns(
+                "g2rain-example/g2rain-example-benchmark/src/main/java/benchmark/AbstractServiceBenchmark.java.ftl"));
+        assertTrue(SkeletonFeature.RATE_LIMIT.owns(
+                "g2rain-example/g2rain-example-biz/src/main/java/support/limit/TenantBulkhead.java.ftl"));
+        assertTrue(SkeletonFeature.ID_GENERATOR.owns(
+                "g2rain-example/g2rain-example-benchmark/src/main/java/benchmark/IdGeneratorBenchmark.java.ftl"));
+        assertFalse(SkeletonFeature.ID_GENERATOR.owns(
+                "g2rain-example/g2rain-example-biz/src/main/java/support/batch/BatchWriter.java.ftl"));
+        assertTrue(SkeletonFeature.TENANT_SHARDING.owns(
+                "g2rain-example/g2rain-example-biz/src/main/java/support/sharding/TenantShards.java.ftl"));
+        assertFalse(SkeletonFeature.TENANT_SHARDING.owns(
+                "g2rain-example/g2rain-example-biz/src/main/java/support/routing/ReadWriteRoutingDataSource.java.ftl"));
+    }
+}
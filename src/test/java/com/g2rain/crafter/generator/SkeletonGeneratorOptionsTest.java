@@ -0,0 +1,453 @@
+package com.g2rain.crafter.generator;
+
+import com.g2rain.crafter.config.RuntimeProfile;
+import com.g2rain.crafter.config.SkeletonConfig;
+import com.g2rain.crafter.config.SkeletonFeature;
+import org.apache.maven.plugin.logging.Log;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SkeletonGenerator按骨架选项渲染模板的测试类
+ */
+public class SkeletonGeneratorOptionsTest {
+
+    private static final String PROJECT_NAME = "options-skeleton-test";
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Path projectDir = Paths.get(PROJECT_NAME);
+        if (Files.exists(projectDir)) {
+            deleteDirectory(projectDir);
+        }
+    }
+
+    @Test
+    void defaultSkeletonKeepsJvmDefaults() throws Exception {
+        generate(newConfig());
+
+        String startupPom = Files.readString(Paths.get(PROJECT_NAME, PROJECT_NAME + "-startup", "pom.xml"));
+        assertFalse(startupPom.contains("<jvmFlags>"));
+        assertFalse(Files.readString(startupYml()).contains("server:"));
+        assertFalse(Files.exists(Paths.get(PROJECT_NAME, PROJECT_NAME + "-benchmark")));
+        assertFalse(Files.readString(Paths.get(PROJECT_NAME, "pom.xml")).contains("<profiles>"));
+        assertFalse(startupPom.contains("<classifier>"));
+
+        String yml = Files.readString(startupYml());
+        assertTrue(yml.contains("maximum-pool-size: 20"));
+        assertTrue(yml.contains("useServerPrepStmts: true"));
+        assertTrue(yml.contains("enabled: false"));
+    }
+
+    @Test
+    void startupModuleRecordsTimelineAndChecksBudget() throws Exception {
+        generate(newConfig());
+
+        Path startup = Paths.get(PROJECT_NAME, PROJECT_NAME + "-startup");
+        assertTrue(Files.readString(startup.resolve("src/main/java/com/test/demo/Application.java"))
+                .contains("new BufferingApplicationStartup(STARTUP_STEP_CAPACITY)"));
+        assertTrue(Files.readString(startup.resolve("src/test/java/com/test/demo/StartupBudgetTest.java"))
+                .contains("import com.test.demo.config.StartupTimelineConfig;"));
+        assertTrue(Files.exists(startup.resolve("src/test/resources/application-startup-test.yml")));
+        assertTrue(Files.readString(startup.resolve("pom.xml")).contains("<startup.budget>20s</startup.budget>"));
+        assertTrue(Files.readString(startupYml()).contains("include: health\n"));
+        assertTrue(Files.readString(startup.resolve("src/main/resources/application-dev.yml"))
+                .contains("include: health,startup"));
+    }
+
+    @Test
+    void bizModuleIncludesStatementMetrics() throws Exception {
+        generate(newConfig());
+
+        Path biz = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/main/java/com/test/demo");
+        String interceptor = Files.readString(biz.resolve("support/mybatis/StatementMetricsInterceptor.java"));
+        assertTrue(interceptor.startsWith("package com.test.demo.support.mybatis;"));
+        assertTrue(interceptor.contains("\"g2rain.mybatis.statement\""));
+        assertTrue(Files.readString(biz.resolve("config/MybatisMetricsConfig.java"))
+                .contains("import com.test.demo.support.mybatis.StatementMetricsInterceptor;"));
+        assertTrue(Files.readString(startupYml()).contains("slow-threshold: 500ms"));
+    }
+
+    @Test
+    void bizModuleBindsRequestContextAsScopedValue() throws Exception {
+        generate(newConfig());
+
+        Path biz = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/main/java/com/test/demo");
+        assertTrue(Files.readString(biz.resolve("support/context/RequestContext.java"))
+                .contains("ScopedValue<RequestContext> CURRENT"));
+        String filter = Files.readString(biz.resolve("support/context/RequestContextBindingFilter.java"));
+        assertTrue(filter.contains("source.current()"));
+        assertFalse(filter.contains("getHeader"));
+        assertTrue(Files.readString(biz.resolve("config/TenantConfig.java"))
+                .contains("import com.test.demo.support.context.IsolationContextSource;"));
+        assertTrue(Files.readString(biz.resolve("support/tenant/TenantResolver.java"))
+                .contains("import com.test.demo.support.context.RequestContext;"));
+        assertFalse(Files.readString(startupYml()).contains("user-header:"));
+    }
+
+    @Test
+    void bizModuleIncludesTableCache() throws Exception {
+        generate(newConfig());
+
+        Path biz = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/main/java/com/test/demo");
+        assertTrue(Files.exists(biz.resolve("support/cache/TableCache.java")));
+        assertTrue(Files.readString(biz.resolve("support/change/TableChangeInterceptor.java"))
+                .contains("import com.test.demo.support.tenant.TenantResolver;"));
+        assertTrue(Files.readString(Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "pom.xml")).contains("<artifactId>caffeine</artifactId>"));
+    }
+
+    @Test
+    void bizModuleIncludesBatchWriter() throws Exception {
+        generate(newConfig());
+
+        Path biz = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/main/java/com/test/demo");
+        assertTrue(Files.exists(biz.resolve("support/batch/BatchWriter.java")));
+        assertTrue(Files.readString(startupYml()).contains("rewriteBatchedStatements: true"));
+    }
+
+    @Test
+    void bizModuleIncludesCursorExporter() throws Exception {
+        generate(newConfig());
+
+        Path biz = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/main/java/com/test/demo");
+        assertTrue(Files.exists(biz.resolve("support/export/CursorExporter.java")));
+        assertTrue(Files.exists(Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz",
+                "src/test/java/com/test/demo/support/export/CursorExporterTest.java")));
+        String exportConfig = Files.readString(biz.resolve("config/ExportConfig.java"));
+        assertTrue(exportConfig.contains("@Value(\"${g2rain.export.fetch-size:1000}\")"));
+        assertTrue(exportConfig.contains(
+                "@ConditionalOnProperty(prefix = \"g2rain.export\", name = \"enabled\", havingValue = \"true\")"));
+        assertTrue(Files.readString(startupYml()).contains("useCursorFetch: true"));
+    }
+
+    @Test
+    void bizModuleIncludesConditionalRequests() throws Exception {
+        generate(newConfig());
+
+        Path biz = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/main/java/com/test/demo");
+        assertTrue(Files.readString(biz.resolve("support/web/ConditionalRequests.java"))
+                .contains("import com.test.demo.support.change.TableVersions;"));
+        assertTrue(Files.readString(biz.resolve("config/TableChangeConfig.java"))
+                .contains("@Conditional(TrackedTablesCondition.class)"));
+        assertTrue(Files.readString(startupYml()).contains("version-columns: version,update_time"));
+    }
+
+    @Test
+    void bizModuleIncludesLookupTables() throws Exception {
+        generate(newConfig());
+
+        Path biz = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/main/java/com/test/demo");
+        assertTrue(Files.exists(biz.resolve("support/lookup/LongObjectMap.java")));
+        assertTrue(Files.exists(Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz",
+                "src/test/java/com/test/demo/support/lookup/LongObjectMapTest.java")));
+        assertTrue(Files.readString(biz.resolve("support/lookup/LookupTables.java"))
+                .contains("import com.test.demo.support.mybatis.MappedStatements;"));
+        assertTrue(Files.readString(biz.resolve("config/LookupConfig.java"))
+                .contains("tableVersions.addListener(lookupTables::onTableChange)"));
+        assertTrue(Files.readString(startupYml()).contains("refresh-interval: 10m"));
+    }
+
+    @Test
+    void bizModuleIncludesBatchLoaders() throws Exception {
+        generate(newConfig());
+
+        Path biz = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/main/java/com/test/demo");
+        assertTrue(Files.exists(biz.resolve("support/batch/InChunks.java")));
+        assertTrue(Files.exists(biz.resolve("support/batch/BatchLoader.java")));
+        assertTrue(Files.exists(Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz",
+                "src/test/java/com/test/demo/support/batch/BatchLoaderTest.java")));
+        assertTrue(Files.readString(biz.resolve("config/BatchWriterConfig.java"))
+                .contains("${g2rain.mybatis.batch.load-window:2ms}"));
+        assertTrue(Files.readString(startupYml()).contains("in-chunk-size: 500"));
+    }
+
+    @Test
+    void bizModuleIncludesOptimisticRetry() throws Exception {
+        generate(newConfig());
+
+        Path biz = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/main/java/com/test/demo");
+        assertTrue(Files.readString(biz.resolve("support/optimistic/UpdateOutcome.java"))
+                .contains("public sealed interface UpdateOutcome<T>"));
+        assertTrue(Files.readString(biz.resolve("config/OptimisticRetryConfig.java"))
+                .contains("import com.test.demo.support.optimistic.OptimisticRetry;"));
+        assertTrue(Files.readString(startupYml()).contains("max-attempts: 5"));
+    }
+
+    @Test
+    void apiModuleIncludesInternalClients() throws Exception {
+        generate(newConfig());
+
+        Path api = Paths.get(PROJECT_NAME, PROJECT_NAME + "-api", "src/main/java/com/test/demo/client");
+        assertTrue(Files.readString(api.resolve("InternalClients.java")).contains("package com.test.demo.client;"));
+        assertTrue(Files.exists(api.resolve("BatchCalls.java")));
+        assertTrue(Files.readString(Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz",
+                        "src/main/java/com/test/demo/config/InternalClientConfig.java"))
+                .contains("import com.test.demo.client.InternalClients;"));
+        assertTrue(Files.readString(startupYml()).contains("read-timeout: 5s"));
+    }
+
+    @Test
+    void readWriteSplittingFeatureAddsRoutingDataSource() throws Exception {
+        Path routing = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/main/java/com/test/demo/support/routing");
+        Path config = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/main/java/com/test/demo/config/ReadWriteSplittingConfig.java");
+
+        generate(newConfig());
+        assertFalse(Files.exists(routing));
+        assertFalse(Files.exists(config));
+        assertFalse(Files.readString(startupYml()).contains("read-write:"));
+
+        tearDown();
+        SkeletonConfig enabled = newConfig();
+        enabled.setFeatures(Set.of(SkeletonFeature.READ_WRITE_SPLITTING));
+        generate(enabled);
+        assertTrue(Files.exists(routing.resolve("ReadWriteRoutingDataSource.java")));
+        assertTrue(Files.exists(config));
+        assertTrue(Files.readString(startupYml()).contains("url: jdbc:mysql://replica-0:3306/" + PROJECT_NAME));
+    }
+
+    @Test
+    void tenantShardingFeatureAddsRoutingDataSource() throws Exception {
+        Path sharding = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/main/java/com/test/demo/support/sharding");
+        Path config = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/main/java/com/test/demo/config/TenantShardingConfig.java");
+        Path test = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/test/java/com/test/demo/support/sharding/TenantShardsTest.java");
+
+        generate(newConfig());
+        assertFalse(Files.exists(sharding));
+        assertFalse(Files.exists(config));
+        assertFalse(Files.exists(test));
+        assertFalse(Files.readString(startupYml()).contains("sharding:"));
+
+        tearDown();
+        SkeletonConfig enabled = newConfig();
+        enabled.setFeatures(Set.of(SkeletonFeature.TENANT_SHARDING));
+        generate(enabled);
+        assertTrue(Files.readString(sharding.resolve("TenantShards.java"))
+                .contains("import com.test.demo.support.context.RequestContext;"));
+        assertTrue(Files.exists(sharding.resolve("TenantRoutingDataSource.java")));
+        assertTrue(Files.exists(test));
+        assertTrue(Files.readString(config).contains("import com.test.demo.support.sharding.TenantShards;"));
+        assertTrue(Files.readString(startupYml()).contains("url: jdbc:mysql://shard-1:3306/" + PROJECT_NAME));
+    }
+
+    @Test
+    void fastStartupFeatureAddsAotProcessingAndLazyProfile() throws Exception {
+        Path startupPom = Paths.get(PROJECT_NAME, PROJECT_NAME + "-startup", "pom.xml");
+        Path startup = Paths.get(PROJECT_NAME, PROJECT_NAME + "-startup", "src/main");
+
+        generate(newConfig());
+        assertFalse(Files.readString(startupPom).contains("process-aot"));
+        assertFalse(Files.exists(startup.resolve("java/com/test/demo/config/WarmUpRunner.java")));
+        assertFalse(Files.exists(startup.resolve("resources/application-lazy.yml")));
+
+        tearDown();
+        SkeletonConfig enabled = newConfig();
+        enabled.setFeatures(Set.of(SkeletonFeature.FAST_STARTUP));
+        generate(enabled);
+        assertTrue(Files.readString(startupPom).contains("<goal>process-aot</goal>"));
+        assertTrue(Files.exists(startup.resolve("java/com/test/demo/config/FastStartupConfig.java")));
+        assertTrue(Files.exists(startup.resolve("java/com/test/demo/config/WarmUpRunner.java")));
+        assertTrue(Files.readString(startup.resolve("resources/application-lazy.yml"))
+                .contains("lazy-initialization: true"));
+    }
+
+    @Test
+    void structuredConcurrencyFeatureAddsFanOutWithPreviewEnabled() throws Exception {
+        Path rootPom = Paths.get(PROJECT_NAME, "pom.xml");
+        Path startupPom = Paths.get(PROJECT_NAME, PROJECT_NAME + "-startup", "pom.xml");
+        Path concurrent = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/main/java/com/test/demo/support/concurrent");
+
+        generate(newConfig());
+        assertFalse(Files.exists(concurrent));
+        assertFalse(Files.readString(rootPom).contains("--enable-preview"));
+        assertFalse(Files.readString(startupPom).contains("<jvmFlags>"));
+
+        tearDown();
+        SkeletonConfig enabled = newConfig();
+        enabled.setFeatures(Set.of(SkeletonFeature.STRUCTURED_CONCURRENCY));
+        generate(enabled);
+        assertTrue(Files.exists(concurrent.resolve("FanOut.java")));
+        assertTrue(Files.exists(concurrent.resolve("ContextPropagator.java")));
+        assertTrue(Files.readString(rootPom).contains("<arg>--enable-preview</arg>"));
+        assertTrue(Files.readString(rootPom).contains("<argLine>--enable-preview</argLine>"));
+        assertTrue(Files.readString(startupPom).contains("<jvmFlag>--enable-preview</jvmFlag>"));
+        assertTrue(Files.readString(startupYml()).contains("fan-out:"));
+    }
+
+    @Test
+    void tracingFeatureAddsSpansLocalExporterAndOverheadBenchmark() throws Exception {
+        Path bizPom = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "pom.xml");
+        Path tracing = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/main/java/com/test/demo/support/tracing");
+        Path benchmark = Paths.get(PROJECT_NAME, PROJECT_NAME + "-benchmark", "src/main/java/com/test/demo/benchmark/TracingOverheadBenchmark.java");
+
+        generate(newConfig());
+        assertFalse(Files.exists(tracing));
+        assertFalse(Files.readString(bizPom).contains("opentelemetry"));
+        assertFalse(Files.readString(startupYml()).contains("sampling:"));
+
+        tearDown();
+        SkeletonConfig enabled = newConfig();
+        enabled.setFeatures(Set.of(SkeletonFeature.TRACING, SkeletonFeature.BENCHMARK));
+        generate(enabled);
+        assertTrue(Files.readString(tracing.resolve("StatementTracingInterceptor.java"))
+                .contains("import com.test.demo.support.mybatis.MappedStatements;"));
+        assertTrue(Files.exists(tracing.resolve("ServiceTracingInterceptor.java")));
+        assertTrue(Files.readString(bizPom).contains("<artifactId>opentelemetry-exporter-logging-otlp</artifactId>"));
+        String yml = Files.readString(startupYml());
+        assertTrue(yml.contains("probability: ${TRACING_SAMPLING_PROBABILITY:0.1}"));
+        assertTrue(yml.contains("local-exporter: true"));
+        assertTrue(Files.exists(benchmark));
+    }
+
+    @Test
+    void rateLimitFeatureAddsTokenBucketAndBulkhead() throws Exception {
+        Path limit = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/main/java/com/test/demo/support/limit");
+
+        generate(newConfig());
+        assertFalse(Files.exists(limit));
+        assertFalse(Files.readString(startupYml()).contains("rate-limit:"));
+
+        tearDown();
+        SkeletonConfig enabled = newConfig();
+        enabled.setFeatures(Set.of(SkeletonFeature.RATE_LIMIT));
+        generate(enabled);
+        assertTrue(Files.readString(limit.resolve("RateLimitInterceptor.java"))
+                .contains("import com.test.demo.support.context.RequestContext;"));
+        assertTrue(Files.exists(limit.resolve("RedisTokenBucket.java")));
+        assertTrue(Files.exists(limit.resolve("TenantBulkhead.java")));
+        assertTrue(Files.readString(startupYml()).contains("max-concurrent: 32"));
+        assertTrue(Files.readString(startupYml()).contains("max-tenant-tags: 100"));
+    }
+
+    @Test
+    void idGeneratorFeatureAddsSnowflakeGeneratorAndInterceptor() throws Exception {
+        Path id = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/main/java/com/test/demo/support/id");
+        Path test = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/test/java/com/test/demo/support/id/SnowflakeIdGeneratorTest.java");
+        Path benchmark = Paths.get(PROJECT_NAME, PROJECT_NAME + "-benchmark", "src/main/java/com/test/demo/benchmark/IdGeneratorBenchmark.java");
+
+        generate(newConfig());
+        assertFalse(Files.exists(id));
+        assertFalse(Files.exists(test));
+        assertFalse(Files.readString(startupYml()).contains("worker-id:"));
+
+        tearDown();
+        SkeletonConfig enabled = newConfig();
+        enabled.setFeatures(Set.of(SkeletonFeature.ID_GENERATOR, SkeletonFeature.BENCHMARK));
+        generate(enabled);
+        assertTrue(Files.exists(id.resolve("SnowflakeIdGenerator.java")));
+        assertTrue(Files.readString(test).startsWith("package com.test.demo.support.id;"));
+        assertTrue(Files.readString(id.resolve("IdAssignInterceptor.java"))
+                .contains("import com.test.demo.support.mybatis.MappedStatements;"));
+        assertTrue(Files.exists(benchmark));
+        assertTrue(Files.readString(startupYml()).contains("worker-id: ${ID_WORKER_ID:-1}"));
+    }
+
+    @Test
+    void jsonBlackbirdFeatureRegistersModuleAndComparisonBenchmark() throws Exception {
+        Path bizPom = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "pom.xml");
+        Path config = Paths.get(PROJECT_NAME, PROJECT_NAME + "-biz", "src/main/java/com/test/demo/config/JsonCodecConfig.java");
+        Path benchmark = Paths.get(PROJECT_NAME, PROJECT_NAME + "-benchmark", "src/main/java/com/test/demo/benchmark/JsonCodecBenchmark.java");
+
+        SkeletonConfig blackbirdOnly = newConfig();
+        blackbirdOnly.setFeatures(Set.of(SkeletonFeature.JSON_BLACKBIRD));
+        generate(blackbirdOnly);
+        assertTrue(Files.exists(config));
+        assertTrue(Files.readString(bizPom).contains("<artifactId>jackson-module-blackbird</artifactId>"));
+        assertFalse(Files.exists(benchmark));
+
+        tearDown();
+        SkeletonConfig withBenchmark = newConfig();
+        withBenchmark.setFeatures(Set.of(SkeletonFeature.JSON_BLACKBIRD, SkeletonFeature.BENCHMARK));
+        generate(withBenchmark);
+        assertTrue(Files.exists(benchmark));
+
+        tearDown();
+        generate(newConfig());
+        assertFalse(Files.exists(config));
+        assertFalse(Files.readString(bizPom).contains("blackbird"));
+    }
+
+    @Test
+    void benchmarkFeatureAddsBenchmarkModuleUnderBenchProfile() throws Exception {
+        SkeletonConfig config = newConfig();
+        config.setFeatures(Set.of(SkeletonFeature.BENCHMARK));
+        generate(config);
+
+        String rootPom = Files.readString(Paths.get(PROJECT_NAME, "pom.xml"));
+        assertTrue(rootPom.contains("<id>bench</id>"));
+        assertTrue(rootPom.contains("<module>" + PROJECT_NAME + "-benchmark</module>"));
+
+        Path module = Paths.get(PROJECT_NAME, PROJECT_NAME + "-benchmark");
+        assertTrue(Files.exists(module.resolve("pom.xml")));
+        assertTrue(Files.exists(module.resolve("src/main/java/com/test/demo/BenchmarkApplication.java")));
+        assertTrue(Files.exists(module.resolve("src/main/java/com/test/demo/benchmark/SampleVoJsonBenchmark.java")));
+        assertTrue(Files.readString(module.resolve("src/main/java/com/test/demo/benchmark/RequestContextBenchmark.java"))
+                .contains("import com.test.demo.support.context.RequestContext;"));
+    }
+
+    @Test
+    void loadTestFeatureAddsLoadTestModuleWithPackagedTests() throws Exception {
+        SkeletonConfig config = newConfig();
+        config.setFeatures(Set.of(SkeletonFeature.LOAD_TEST));
+        generate(config);
+
+        String rootPom = Files.readString(Paths.get(PROJECT_NAME, "pom.xml"));
+        assertTrue(rootPom.contains("<id>loadtest</id>"));
+        assertFalse(rootPom.contains("<id>bench</id>"));
+
+        String startupPom = Files.readString(Paths.get(PROJECT_NAME, PROJECT_NAME + "-startup", "pom.xml"));
+        assertTrue(startupPom.contains("<classifier>exec</classifier>"));
+
+        Path module = Paths.get(PROJECT_NAME, PROJECT_NAME + "-loadtest");
+        assertTrue(Files.exists(module.resolve("src/test/java/com/test/demo/loadtest/EndpointLoadTest.java")));
+        assertTrue(Files.exists(module.resolve("src/test/resources/loadtest.properties")));
+    }
+
+    @Test
+    void runtimeProfileRendersJvmFlagsAndTomcatSettings() throws Exception {
+        SkeletonConfig config = newConfig();
+        config.setRuntimeProfile(RuntimeProfile.LOW_LATENCY);
+        generate(config);
+
+        String startupPom = Files.readString(Paths.get(PROJECT_NAME, PROJECT_NAME + "-startup", "pom.xml"));
+        assertTrue(startupPom.contains("<jvmFlag>-XX:+UseZGC</jvmFlag>"));
+        assertTrue(startupPom.contains("<jvmFlag>-XX:+UseCompactObjectHeaders</jvmFlag>"));
+
+        String yml = Files.readString(startupYml());
+        assertTrue(yml.contains("max-connections: 4096"));
+        assertTrue(yml.contains("keep-alive-timeout: 30s"));
+        assertTrue(yml.contains("maximum-pool-size: 32"));
+        assertTrue(yml.contains("connection-timeout: 2s"));
+    }
+
+    private SkeletonConfig newConfig() {
+        return new SkeletonConfig("com.test", PROJECT_NAME, "1.0.0", "com.test.demo", "options test project");
+    }
+
+    private void generate(SkeletonConfig config) throws Exception {
+        new SkeletonGenerator(Mockito.mock(Log.class), config).generate();
+    }
+
+    private Path startupYml() {
+        return Paths.get(PROJECT_NAME, PROJECT_NAME + "-startup", "src", "main", "resources", "application.yml");
+    }
+
+    private void deleteDirectory(Path directory) throws Exception {
+        if (Files.isDirectory(directory)) {
+            try (var children = Files.list(directory)) {
+                for (Path child : children.toList()) {
+                    deleteDirectory(child);
+                }
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+}
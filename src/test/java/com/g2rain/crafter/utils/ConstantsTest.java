@@ -15,5 +15,7 @@ public class ConstantsTest {
         assertEquals("=========================================", Constants.HORIZONTAL_LINE);
         assertEquals("%-15s: %s", Constants.LOG_FORMAT);
         assertEquals("g2rain-example", Constants.TEMPLATE_BASE);
+        assertEquals("src/test/java", Constants.JAVA_TEST_DIR);
+        assertEquals("target/crafter-reports", Constants.REPORT_DIR);
     }
 }
\ No newline at end of file